@@ -0,0 +1,113 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.fixtures;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+public final class Fixtures {
+    public static final String PROJECT = "project";
+    public static final int ISSUE_START_OFFSET = 8;
+    public static final int ISSUE_END_OFFSET = 24;
+    private static final String[] STATEMENTS = {
+        "        var value%d = compute(left < right, flags & MASK);",
+        "\tif (name.equals(\"Testé\") && count > %d) {",
+        "        return \"<div class='item'>\" + value + \"</div>\"; // %d",
+        "        logger.info(\"Processed \" + %d + \" items\");",
+        "        } // end of block %d" };
+
+    private Fixtures() {
+    }
+
+    public static String getComponentPath(int component) {
+        return "src/main/java/File" + component + ".java";
+    }
+
+    public static int getIssueLine(int issue, int linesCount) {
+        return 1 + (int) ((issue * 7919L) % linesCount);
+    }
+
+    public static String getSearchPage(int issuesCount, int componentsCount, int linesCount) {
+        var text = new StringBuilder("{\"total\":" + issuesCount + ",\"p\":1,\"ps\":" + issuesCount
+                + ",\"paging\":{\"pageIndex\":1,\"pageSize\":" + issuesCount + ",\"total\":" + issuesCount
+                + "},\"issues\":[");
+
+        for (var i = 0; i < issuesCount; i++) {
+            var line = getIssueLine(i, linesCount);
+
+            text.append(i == 0 ? "" : ",").append("{\"key\":\"AXk").append(i)
+                    .append("\",\"rule\":\"java:S1192\",\"severity\":\"MAJOR\",\"component\":\"").append(PROJECT)
+                    .append(':').append(getComponentPath(i % componentsCount))
+                    .append("\",\"project\":\"").append(PROJECT).append("\",\"line\":").append(line)
+                    .append(",\"textRange\":{\"startLine\":").append(line).append(",\"endLine\":").append(line)
+                    .append(",\"startOffset\":").append(ISSUE_START_OFFSET).append(",\"endOffset\":")
+                    .append(ISSUE_END_OFFSET).append("},\"flows\":[],\"status\":\"OPEN\",")
+                    .append("\"message\":\"Define a constant instead of duplicating this literal \\\"item\\\".\",")
+                    .append("\"effort\":\"10min\",\"debt\":\"10min\",\"author\":\"dev@example.com\",")
+                    .append("\"tags\":[\"design\"],\"creationDate\":\"2020-05-01T10:00:00+0000\",")
+                    .append("\"updateDate\":\"2020-05-01T10:00:00+0000\",\"type\":\"CODE_SMELL\"}");
+        }
+
+        text.append("],\"components\":[");
+
+        for (var i = 0; i < componentsCount; i++) {
+            var path = getComponentPath(i);
+
+            text.append(i == 0 ? "" : ",").append("{\"key\":\"").append(PROJECT).append(':').append(path)
+                    .append("\",\"enabled\":true,\"qualifier\":\"FIL\",\"name\":\"File").append(i)
+                    .append(".java\",\"longName\":\"").append(path).append("\",\"path\":\"").append(path)
+                    .append("\"}");
+        }
+
+        return text.append("],\"facets\":[]}").toString();
+    }
+
+    public static void writeSource(Path path, int linesCount, LineEnding lineEnding, Charset encoding)
+            throws IOException {
+        var text = new StringBuilder();
+
+        for (var i = 0; i < linesCount; i++) {
+            text.append(String.format(STATEMENTS[i % STATEMENTS.length], i)).append(lineEnding.get(i));
+        }
+
+        Files.createDirectories(path.getParent());
+        Files.write(path, text.toString().getBytes(encoding));
+    }
+
+    public static void writeSources(Path root, int componentsCount, int linesCount, LineEnding lineEnding,
+            Charset encoding) throws IOException {
+        for (var i = 0; i < componentsCount; i++) {
+            writeSource(root.resolve(getComponentPath(i)), linesCount, lineEnding, encoding);
+        }
+    }
+
+    public static void delete(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (var path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    public enum LineEnding {
+        LF("\n"), CRLF("\r\n"), MIXED("\n", "\r\n", "\r");
+
+        private final String[] endings;
+
+        LineEnding(String... endings) {
+            this.endings = endings;
+        }
+
+        String get(int line) {
+            return endings[line % endings.length];
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sonarscratch.checker.fixtures.Fixtures;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FinderBenchmark {
+    private static final int ISSUES = 500;
+    private static final int LINES = 1000;
+
+    @Param({ "20", "500" })
+    private int componentsCount;
+
+    private byte[] page;
+
+    @Setup
+    public void setup() {
+        page = Fixtures.getSearchPage(ISSUES, componentsCount, LINES).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ISSUES)
+    public List<JSONObject> textThenTree() throws IOException, JSONException {
+        var jsonText = new StringBuilder();
+
+        try (var bufferedReader = reader()) {
+            int c;
+            while ((c = bufferedReader.read()) != -1) {
+                jsonText.append((char) c);
+            }
+        }
+
+        var jsonObject = new JSONObject(jsonText.toString());
+        var issues = new ArrayList<JSONObject>();
+        var jsonObjectIssues = jsonObject.getJSONArray("issues");
+
+        for (var i = 0; i < jsonObjectIssues.length(); i++) {
+            issues.add(jsonObjectIssues.getJSONObject(i));
+        }
+
+        var components = new ArrayList<JSONObject>();
+        var jsonObjectComponents = jsonObject.getJSONArray("components");
+
+        for (var i = 0; i < jsonObjectComponents.length(); i++) {
+            components.add(jsonObjectComponents.getJSONObject(i));
+        }
+
+        return issues;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ISSUES)
+    public IssuesCollection streamed() throws IOException, JSONException {
+        var response = new SearchResponse();
+
+        try (var bufferedReader = reader()) {
+            SearchResponseParser.parse(bufferedReader, response, true);
+        }
+
+        return response.getIssuesCollection();
+    }
+
+    private BufferedReader reader() {
+        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(page), StandardCharsets.UTF_8));
+    }
+}
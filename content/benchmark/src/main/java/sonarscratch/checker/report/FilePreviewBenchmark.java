@@ -0,0 +1,97 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.report;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sonarscratch.checker.fixtures.Fixtures;
+import sonarscratch.checker.fixtures.Fixtures.LineEnding;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilePreviewBenchmark {
+    private static final int PREVIEWS = 50;
+    private static final long MAX_CACHED_BYTES = 64L * 1024 * 1024;
+
+    @Param({ "1000", "20000" })
+    private int linesCount;
+
+    @Param({ "LF", "CRLF", "MIXED" })
+    private LineEnding lineEnding;
+
+    @Param({ "UTF-8", "windows-1252", "UTF-16" })
+    private String encodingName;
+
+    private Path root;
+    private String filePath;
+    private Charset encoding;
+    private List<Range> ranges;
+    private SourceFileCache sourceFileCache;
+
+    @Setup
+    public void setup() throws IOException {
+        root = Files.createTempDirectory("sonarscratch-checker-benchmark");
+        encoding = Charset.forName(encodingName);
+
+        var path = root.resolve(Fixtures.getComponentPath(0));
+
+        Fixtures.writeSource(path, linesCount, lineEnding, encoding);
+        filePath = path.toString();
+        sourceFileCache = new SourceFileCache(MAX_CACHED_BYTES);
+        ranges = new ArrayList<>();
+
+        for (var i = 0; i < PREVIEWS; i++) {
+            var line = Fixtures.getIssueLine(i, linesCount);
+
+            ranges.add(new Range(line, line, Fixtures.ISSUE_START_OFFSET, Fixtures.ISSUE_END_OFFSET));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Fixtures.delete(root);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PREVIEWS)
+    public int getPreview() throws IOException {
+        var filePreview = new FilePreview(filePath, encoding, ranges, sourceFileCache);
+        var linesPreviewsCount = 0;
+
+        for (var i = 0; i < PREVIEWS; i++) {
+            for (var linePreview : filePreview.getPreview(i)) {
+                linesPreviewsCount += linePreview.getLine().length();
+            }
+        }
+
+        return linesPreviewsCount;
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sonarscratch.checker.config.Project;
+import sonarscratch.checker.fixtures.Fixtures;
+import sonarscratch.checker.fixtures.Fixtures.LineEnding;
+import sonarscratch.checker.issues.ComponentsCollection;
+import sonarscratch.checker.issues.IssuesCollection;
+import sonarscratch.checker.log.SystemLogger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HtmlBenchmark {
+    private static final int LINES = 2000;
+    private static final PrintStream NULL_STREAM = new PrintStream(OutputStream.nullOutputStream());
+
+    @Param({ "1000", "10000" })
+    private int issuesCount;
+
+    @Param({ "10", "200" })
+    private int componentsCount;
+
+    @Param({ "1", "4" })
+    private int threadsCount;
+
+    private Path root;
+    private IssuesCollection issuesCollection;
+    private ComponentsCollection componentsCollection;
+    private List<Project> projects;
+    private SystemLogger logger;
+
+    @Setup
+    public void setup() throws IOException, JSONException {
+        root = Files.createTempDirectory("sonarscratch-checker-benchmark");
+        Fixtures.writeSources(root, componentsCount, LINES, LineEnding.MIXED, StandardCharsets.UTF_8);
+
+        var page = new JSONObject(Fixtures.getSearchPage(issuesCount, componentsCount, LINES));
+        var issues = page.getJSONArray("issues");
+        var components = page.getJSONArray("components");
+
+        issuesCollection = new IssuesCollection(issuesCount);
+        componentsCollection = new ComponentsCollection();
+
+        for (var i = 0; i < issues.length(); i++) {
+            issuesCollection.addIssue(issues.getJSONObject(i));
+        }
+
+        for (var i = 0; i < components.length(); i++) {
+            componentsCollection.addComponent(components.getJSONObject(i));
+        }
+
+        projects = List.of(new Project(Fixtures.PROJECT, root.toString()));
+        logger = new SystemLogger() {
+            @Override
+            public PrintStream outStream() {
+                return NULL_STREAM;
+            }
+        };
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Fixtures.delete(root);
+    }
+
+    @Benchmark
+    public void write() throws IOException, HtmlException {
+        try (var bufferedWriter = new BufferedWriter(Writer.nullWriter())) {
+            new Html(issuesCollection, componentsCollection, projects, StandardCharsets.UTF_8, bufferedWriter, logger,
+                    threadsCount).write();
+        }
+    }
+}
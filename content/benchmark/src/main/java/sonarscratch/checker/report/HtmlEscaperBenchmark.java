@@ -0,0 +1,70 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.report;
+
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HtmlEscaperBenchmark {
+    private static final String[] LINES = {
+        "    public static void main(String[] args) throws IOException {",
+        "\t\tif (count < MAX && values.get(i) > 0) {",
+        "        var message = \"Can't read <\" + path + \"> file\";",
+        "        return left == null ? right : left;",
+        "    }" };
+
+    private CharArrayWriter writer;
+
+    @Setup
+    public void setup() {
+        writer = new CharArrayWriter(1024);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public CharArrayWriter replaceChain() throws IOException {
+        writer.reset();
+
+        for (var line : LINES) {
+            writer.write(line.replace("<", "&lt;").replace(">", "&gt;").replace(" ", "&nbsp;")
+                    .replace("\t", "&nbsp;&nbsp;&nbsp;&nbsp;"));
+        }
+
+        return writer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public CharArrayWriter singlePass() throws IOException {
+        writer.reset();
+
+        for (var line : LINES) {
+            HtmlEscaper.writePreviewContent(writer, line, 0, line.length());
+        }
+
+        return writer;
+    }
+}
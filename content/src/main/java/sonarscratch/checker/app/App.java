@@ -8,16 +8,48 @@ package sonarscratch.checker.app;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.json.JSONException;
 
 import sonarscratch.checker.config.Config;
 import sonarscratch.checker.config.ReaderException;
+import sonarscratch.checker.config.Server;
+import sonarscratch.checker.http.Client;
 import sonarscratch.checker.http.ClientException;
+import sonarscratch.checker.issues.Finder;
 import sonarscratch.checker.issues.FinderException;
+import sonarscratch.checker.issues.FinderResult;
+import sonarscratch.checker.issues.FinderStream;
+import sonarscratch.checker.issues.IssuesQuery;
+import sonarscratch.checker.issues.SpillStore;
 import sonarscratch.checker.log.SystemLogger;
+import sonarscratch.checker.metrics.Metrics;
 import sonarscratch.checker.report.HtmlException;
+import sonarscratch.checker.report.ReportCache;
 import sonarscratch.checker.util.ExceptionUtil;
 
 public class App {
+    private static final int STREAMED_PAGES_CAPACITY = 4;
+    private static final String WAIT_STAGE = "stage_wait_milliseconds";
+    private static final String COUNT_STAGE = "stage_count_milliseconds";
+    private static final String FIND_STAGE = "stage_find_milliseconds";
+    private static final String REPORT_STAGE = "stage_report_milliseconds";
+    private static final String ISSUES_FOUND = "issues_found_total";
+    private static final int MILLISECONDS_PER_SECOND = 1000;
+
+    private interface ServerAction<T> {
+        T execute(Server server, Finder finder) throws FinderException;
+    }
+
+    private interface Stage<T> {
+        T execute() throws FinderException;
+    }
+
     public static void main(String[] args) {
         var exitCode = new App().execute(args);
         if (exitCode != 0) {
@@ -34,12 +66,28 @@ public class App {
                 return 0;
             }
 
-            return executeCore(executeDependency, config, systemLogger);
+            systemLogger.setLevel(getLogLevel(config));
+
+            if (!config.asyncLog()) {
+                return executeCore(executeDependency, config, systemLogger);
+            }
+
+            try (var asyncSystemLogger = executeDependency.asyncSystemLogger(systemLogger)) {
+                return executeCore(executeDependency, config, asyncSystemLogger);
+            }
         } catch (FinderException | ClientException | IOException | HtmlException | ReaderException exception) {
             throw new AppException(ExceptionUtil.getDefaultMessage(App.class), exception);
         }
     }
 
+    private static SystemLogger.Level getLogLevel(Config config) {
+        if (config.quiet()) {
+            return SystemLogger.Level.QUIET;
+        }
+
+        return config.verbose() ? SystemLogger.Level.VERBOSE : SystemLogger.Level.INFO;
+    }
+
     AppExecuteDependency getExecuteDependency() {
         return new AppExecuteDependency();
     }
@@ -66,6 +114,35 @@ public class App {
         showHelpItem("   --project:  Pair of key/value project, used in code preview. Can be specified multiple times");
         showHelpItem("   --encoding  HTML report previews encoding, default value : UTF-8");
         showHelpItem("   -e          HTML report previews encoding, default value : UTF-8");
+        showHelpItem("   --all       Report all issues, fetching every search page");
+        showHelpItem("   -a          Report all issues, fetching every search page");
+        showHelpItem("   --threads   Threads fetching pages with --all and writing report, default value : 1");
+        showHelpItem("   --incremental  Reuse unchanged issues of the previous report, cached next to it");
+        showHelpItem("   --stream    Write the report while finding all issues, implies --all");
+        showHelpItem("   --quiet     Log only errors");
+        showHelpItem("   -q          Log only errors");
+        showHelpItem("   --verbose   Log details, like every HTTP response code and duration");
+        showHelpItem("   --async-log  Write logs from a background thread instead of the working threads");
+        showHelpItem("   --metrics   Write run metrics to this path, as JSON if it ends with .json, else Prometheus");
+        showHelpItem("   --spill     Keep found issues in a temporary file instead of memory, for very large reports");
+        showHelpItem("   --spill-path  Temporary issues file folder, implies --spill, default value : temp folder");
+        showHelpItem("   --shard     Write one report per project, the --path report being an index of them");
+        showHelpItem("   --shard-size  Issues count above which a project report is split, implies --shard");
+        showHelpItem("   --pooled    Reuse HTTP connections (keep-alive, HTTP/2 when available) between requests");
+        showHelpItem("   --backoff   Retry with exponential backoff and jitter, --sleep being the longest delay");
+        showHelpItem("   --deadline  Time in milliseconds after which retries stop, default value : 0 (no deadline)");
+        showHelpItem("   --task      Scanner report-task.txt path, wait only for this analysis task");
+        showHelpItem("   --projects  Comma separated project keys, only their issues are counted and reported");
+        showHelpItem("   --severities  Comma separated severities (BLOCKER, CRITICAL, MAJOR, MINOR, INFO) to keep");
+        showHelpItem("   --types     Comma separated types (BUG, VULNERABILITY, CODE_SMELL) to keep");
+        showHelpItem("   --branch    Branch of the analysis to search issues in");
+        showHelpItem("   --pull-request  Pull request of the analysis to search issues in");
+        showHelpItem("   --created-after  Keep only issues created after this date (yyyy-MM-dd)");
+        showHelpItem("   --server    SonarQube URL, checked concurrently. Can be specified multiple times");
+        showHelpItem("   --server-projects  Project keys of the previous --server, instead of --projects");
+        showHelpItem("   --server-credentials  File holding user:password or token of the previous --server");
+        showHelpItem("   --cache     Cache responses on disk and revalidate them with SonarQube on the next runs");
+        showHelpItem("   --cache-path  Responses cache folder, implies --cache, default value : .cache in home");
     }
 
     private static void showHelpItem(String helpItem) {
@@ -92,40 +169,322 @@ public class App {
 
     private static int executeCore(AppExecuteDependency executeDependency, Config config, SystemLogger systemLogger)
             throws ClientException, FinderException, IOException, HtmlException {
-        var client = executeDependency.client(config.getSonarAttemptsCount(), config.getSonarAttemptSleepMilliseconds(),
-                systemLogger);
+        var retryPolicy = executeDependency.retryPolicy(config.getSonarAttemptsCount(),
+                config.getSonarAttemptSleepMilliseconds(), config.backoff(), config.getDeadlineMilliseconds());
+        var responseCache = config.cache()
+                ? executeDependency.responseCache(config.getCachePath(), Config.DEFAULT_CACHE_MAX_BYTES_COUNT)
+                : null;
+        var spillStore = config.spill() ? executeDependency.spillStore(config.getSpillPath()) : null;
+        var metrics = new Metrics();
+        var clients = new ArrayList<Client>();
+        var finders = new ArrayList<Finder>();
+
+        for (var server : config.getServers()) {
+            var credentials = server.getCredentials();
+            var client = executeDependency.client(retryPolicy, systemLogger, config.pooled(), responseCache,
+                    credentials != null ? credentials : Client.DEFAULT_ADMIN_CREDENTIALS, credentials);
+            var finder = executeDependency.finder(client, systemLogger, config.getThreadsCount(),
+                    getIssuesQuery(config, server), spillStore);
 
-        var finder = executeDependency.finder(client, systemLogger);
+            if (config.getServers().size() > 1) {
+                finder.setComponentsNamespace(finders.size() + "|");
+            }
+
+            clients.add(client);
+            finders.add(finder);
+        }
+
+        try {
+            return executeCore(executeDependency, config, systemLogger, finders, metrics);
+        } finally {
+            logTransfers(clients, systemLogger);
+            logStringPools(finders, systemLogger);
+
+            if (spillStore != null) {
+                systemLogger.info("Spilled " + spillStore.getBytesCount() + " byte(s) of issues to disk");
+                closeSpillStore(spillStore, systemLogger);
+            }
+
+            if (config.getMetricsPath() != null) {
+                writeMetrics(executeDependency, config, systemLogger, metrics, clients, finders);
+            }
+        }
+    }
+
+    private static void closeSpillStore(SpillStore spillStore, SystemLogger systemLogger) {
+        try {
+            spillStore.close();
+        } catch (IOException exception) {
+            systemLogger.err("Closing spilled issues failed : " + exception);
+        }
+    }
+
+    private static void writeMetrics(AppExecuteDependency executeDependency, Config config,
+            SystemLogger systemLogger, Metrics metrics, List<Client> clients, List<Finder> finders) {
+        for (var client : clients) {
+            metrics.histogram("http_request_milliseconds").add(client.getRequestsHistogram());
+            metrics.add("http_requests_total", client.getRequestsHistogram().getCount());
+            metrics.add("http_retries_total", client.getRetriesCount());
+            metrics.add("http_transferred_bytes_total", client.getTransferredBytesCount());
+            metrics.add("http_decoded_bytes_total", client.getDecodedBytesCount());
+            metrics.add("http_cache_hits_total", client.getCacheHitsCount());
+        }
+
+        for (var finder : finders) {
+            metrics.add("string_pool_saved_bytes_total", finder.getStringPoolSavedBytesCount());
+        }
+
+        var findMilliseconds = metrics.histogram(FIND_STAGE).getSum();
+
+        if (findMilliseconds > 0) {
+            metrics.set("issues_found_per_second",
+                    metrics.getCounter(ISSUES_FOUND) * (double) MILLISECONDS_PER_SECOND / findMilliseconds);
+        }
+
+        try (var writer = executeDependency.bufferedWriter(config.getMetricsPath())) {
+            if (config.getMetricsPath().endsWith(".json")) {
+                metrics.writeJson(writer);
+            } else {
+                metrics.writePrometheus(writer);
+            }
+        } catch (IOException | JSONException exception) {
+            systemLogger.err("Writing metrics to '" + config.getMetricsPath() + "' failed : " + exception);
+            return;
+        }
+
+        systemLogger.info("Metrics written to '" + config.getMetricsPath() + "'");
+    }
+
+    private static <T> T executeStage(Metrics metrics, String stage, Stage<T> action) throws FinderException {
+        var startNanos = System.nanoTime();
+
+        try {
+            return action.execute();
+        } finally {
+            metrics.histogram(stage).recordSince(startNanos);
+        }
+    }
+
+    private static void logTransfers(List<Client> clients, SystemLogger systemLogger) {
+        long transferredBytesCount = 0;
+        long decodedBytesCount = 0;
+        long cacheHitsCount = 0;
+
+        for (var client : clients) {
+            transferredBytesCount += client.getTransferredBytesCount();
+            decodedBytesCount += client.getDecodedBytesCount();
+            cacheHitsCount += client.getCacheHitsCount();
+        }
+
+        if (transferredBytesCount > 0) {
+            systemLogger.info("Transferred " + transferredBytesCount + " byte(s), decoded " + decodedBytesCount
+                    + " byte(s)");
+        }
+
+        if (cacheHitsCount > 0) {
+            systemLogger.info("Served " + cacheHitsCount + " response(s) from cache");
+        }
+    }
+
+    private static void logStringPools(List<Finder> finders, SystemLogger systemLogger) {
+        long savedBytesCount = 0;
+
+        for (var finder : finders) {
+            savedBytesCount += finder.getStringPoolSavedBytesCount();
+        }
+
+        if (savedBytesCount > 0) {
+            systemLogger.info("Deduplicated strings saved " + savedBytesCount + " byte(s)");
+        }
+    }
+
+    private static int executeCore(AppExecuteDependency executeDependency, Config config, SystemLogger systemLogger,
+            List<Finder> finders, Metrics metrics) throws FinderException, IOException, HtmlException {
 
         if (config.check()) {
-            finder.wait(config.getSonarUrl());
+            executeServers(config, finders, (server, finder) -> executeStage(metrics, WAIT_STAGE, () -> {
+                finder.wait(server.getUrl());
+                return null;
+            }));
             return 0;
         }
 
-        finder.wait(config.getSonarUrl());
-        boolean hasIssues = finder.count(config.getSonarUrl()) > 0;
+        if (!config.writeReport()) {
+            var counts = executeServers(config, finders, (server, finder) -> {
+                waitServer(config, server, finder, metrics);
+                return executeStage(metrics, COUNT_STAGE, () -> finder.count(server.getUrl()));
+            });
+
+            return counts.stream().mapToInt(Integer::intValue).sum() > 0 ? 1 : 0;
+        }
+
+        if (config.stream()) {
+            var server = config.getServers().get(0);
+            var finder = finders.get(0);
 
-        if (hasIssues && config.writeReport()) {
-            var finderResult = finder.find(config.getSonarUrl());
-            var bufferWriter = executeDependency.bufferedWriter(config.getReportPath());
+            waitServer(config, server, finder, metrics);
+
+            var startNanos = System.nanoTime();
+            var stream = finder.findAllStream(server.getUrl(), STREAMED_PAGES_CAPACITY);
 
             try {
-                executeDependency
-                        .html(finderResult.getIssuesCollection(), finderResult.getComponentsCollection(),
-                                config.getProjects(), Charset.forName(config.getEncoding()), bufferWriter, systemLogger)
-                        .write();
+                return writeStreamedReport(executeDependency, config, systemLogger, stream, metrics);
             } finally {
-                bufferWriter.close();
+                metrics.histogram(FIND_STAGE).recordSince(startNanos);
+                metrics.add(ISSUES_FOUND, stream.getTakenIssuesCount());
             }
         }
 
-        if (hasIssues) {
+        var finderResult = FinderResult.merge(executeServers(config, finders, (server, finder) -> {
+            waitServer(config, server, finder, metrics);
+
+            var result = executeStage(metrics, FIND_STAGE,
+                    () -> config.findAll() ? finder.findAll(server.getUrl()) : finder.find(server.getUrl()));
+
+            metrics.add(ISSUES_FOUND, result.getIssuesCollection().count());
+            return result;
+        }));
+
+        if (finderResult.getIssuesCollection().total() > 0) {
+            writeReport(executeDependency, config, systemLogger, finderResult, null, metrics);
             return 1;
         }
 
         return 0;
     }
 
+    private static void waitServer(Config config, Server server, Finder finder, Metrics metrics)
+            throws FinderException {
+        executeStage(metrics, WAIT_STAGE, () -> {
+            if (config.getReportTaskPath() != null) {
+                finder.waitTask(server.getUrl(), config.getReportTaskPath());
+            } else {
+                finder.wait(server.getUrl());
+            }
+
+            return null;
+        });
+    }
+
+    private static <T> List<T> executeServers(Config config, List<Finder> finders, ServerAction<T> action)
+            throws FinderException {
+        var servers = config.getServers();
+        var results = new ArrayList<T>();
+
+        if (servers.size() == 1) {
+            results.add(action.execute(servers.get(0), finders.get(0)));
+            return results;
+        }
+
+        var executor = Executors.newFixedThreadPool(servers.size());
+
+        try {
+            var futures = new ArrayList<Future<T>>();
+
+            for (var index = 0; index < servers.size(); index++) {
+                var server = servers.get(index);
+                var finder = finders.get(index);
+
+                futures.add(executor.submit(() -> action.execute(server, finder)));
+            }
+
+            for (var future : futures) {
+                results.add(future.get());
+            }
+
+            return results;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new FinderException("Checking servers interrupted", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof FinderException) {
+                throw (FinderException) exception.getCause();
+            }
+
+            throw new FinderException(ExceptionUtil.getDefaultMessage(App.class), exception.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static IssuesQuery getIssuesQuery(Config config, Server server) {
+        var projectsFilter = server.getProjectsFilter().isEmpty() ? config.getProjectsFilter()
+                : server.getProjectsFilter();
+
+        return new IssuesQuery().projects(projectsFilter).severities(config.getSeveritiesFilter())
+                .types(config.getTypesFilter()).branch(config.getBranch()).pullRequest(config.getPullRequest())
+                .createdAfter(config.getCreatedAfter());
+    }
+
+    private static int writeStreamedReport(AppExecuteDependency executeDependency, Config config,
+            SystemLogger systemLogger, FinderStream stream, Metrics metrics)
+            throws FinderException, IOException, HtmlException {
+        try {
+            var firstPage = stream.peek();
+
+            if (firstPage == null || firstPage.getIssuesCollection().total() == 0) {
+                return 0;
+            }
+
+            writeReport(executeDependency, config, systemLogger, null, stream, metrics);
+            return 1;
+        } finally {
+            stream.cancel();
+        }
+    }
+
+    private static void writeReport(AppExecuteDependency executeDependency, Config config,
+            SystemLogger systemLogger, FinderResult finderResult, FinderStream stream, Metrics metrics)
+            throws IOException, HtmlException {
+        var encoding = Charset.forName(config.getEncoding());
+        ReportCache reportCache = null;
+
+        if (config.incremental()) {
+            reportCache = executeDependency.reportCache(config.getReportPath(), encoding);
+            reportCache.load();
+        }
+
+        var bufferWriter = executeDependency.bufferedWriter(config.getReportPath());
+        var startNanos = System.nanoTime();
+
+        try {
+            if (stream != null) {
+                var html = executeDependency.streamingHtml(config.getProjects(), encoding, bufferWriter,
+                        systemLogger, config.getThreadsCount(), reportCache);
+
+                html.write(stream);
+                addPreviewMetrics(metrics, html.getPreviewFilesCount(), html.getPreviewBytesCount());
+            } else if (config.shard()) {
+                var shardedHtml = executeDependency.shardedHtml(finderResult.getIssuesCollection(),
+                        finderResult.getComponentsCollection(), config.getProjects(), encoding, bufferWriter,
+                        config.getReportPath(), systemLogger, config.getThreadsCount(), config.getShardIssuesCount(),
+                        reportCache);
+
+                shardedHtml.write();
+                addPreviewMetrics(metrics, shardedHtml.getPreviewFilesCount(), shardedHtml.getPreviewBytesCount());
+            } else {
+                var html = executeDependency.html(finderResult.getIssuesCollection(),
+                        finderResult.getComponentsCollection(), config.getProjects(), encoding, bufferWriter,
+                        systemLogger, config.getThreadsCount(), reportCache);
+
+                html.write();
+                addPreviewMetrics(metrics, html.getPreviewFilesCount(), html.getPreviewBytesCount());
+            }
+        } finally {
+            bufferWriter.close();
+            metrics.histogram(REPORT_STAGE).recordSince(startNanos);
+        }
+
+        if (reportCache != null) {
+            reportCache.save();
+        }
+    }
+
+    private static void addPreviewMetrics(Metrics metrics, long filesCount, long bytesCount) {
+        metrics.add("preview_files_read_total", filesCount);
+        metrics.add("preview_bytes_read_total", bytesCount);
+    }
+
     int execute(String[] args) {
         SystemLogger systemLogger = null;
 
@@ -16,11 +16,20 @@ import sonarscratch.checker.config.Project;
 import sonarscratch.checker.config.Reader;
 import sonarscratch.checker.http.Client;
 import sonarscratch.checker.http.ClientException;
+import sonarscratch.checker.http.DiskResponseCache;
+import sonarscratch.checker.http.ExponentialRetryPolicy;
+import sonarscratch.checker.http.FixedRetryPolicy;
+import sonarscratch.checker.http.RetryPolicy;
 import sonarscratch.checker.issues.ComponentsCollection;
 import sonarscratch.checker.issues.Finder;
 import sonarscratch.checker.issues.IssuesCollection;
+import sonarscratch.checker.issues.IssuesQuery;
+import sonarscratch.checker.issues.SpillStore;
+import sonarscratch.checker.log.AsyncSystemLogger;
 import sonarscratch.checker.log.SystemLogger;
 import sonarscratch.checker.report.Html;
+import sonarscratch.checker.report.ReportCache;
+import sonarscratch.checker.report.ShardedHtml;
 
 class AppExecuteDependency {
     Reader reader(String[] args) {
@@ -31,12 +40,36 @@ class AppExecuteDependency {
         return new SystemLogger();
     }
 
-    Client client(int attemptsCount, int attemptSleepMilliseconds, SystemLogger logger) throws ClientException {
-        return new Client(attemptsCount, attemptSleepMilliseconds, logger);
+    AsyncSystemLogger asyncSystemLogger(SystemLogger target) {
+        return new AsyncSystemLogger(target);
     }
 
-    Finder finder(Client client, SystemLogger systemLogger) {
-        return new Finder(client, systemLogger);
+    RetryPolicy retryPolicy(int attemptsCount, int attemptSleepMilliseconds, boolean backoff,
+            int deadlineMilliseconds) throws ClientException {
+        if (backoff) {
+            return new ExponentialRetryPolicy(attemptsCount, ExponentialRetryPolicy.DEFAULT_BASE_DELAY_MILLISECONDS,
+                    attemptSleepMilliseconds, deadlineMilliseconds);
+        }
+
+        return new FixedRetryPolicy(attemptsCount, attemptSleepMilliseconds);
+    }
+
+    DiskResponseCache responseCache(String cachePath, long maxBytesCount) {
+        return new DiskResponseCache(cachePath, maxBytesCount);
+    }
+
+    Client client(RetryPolicy retryPolicy, SystemLogger logger, boolean pooled, DiskResponseCache responseCache,
+            String adminCredentials, String credentials) {
+        return new Client(retryPolicy, logger, pooled, responseCache, adminCredentials, credentials);
+    }
+
+    SpillStore spillStore(String spillPath) throws IOException {
+        return new SpillStore(spillPath);
+    }
+
+    Finder finder(Client client, SystemLogger systemLogger, int threadsCount, IssuesQuery query,
+            SpillStore spillStore) {
+        return new Finder(client, systemLogger, threadsCount, query, spillStore);
     }
 
     BufferedWriter bufferedWriter(String reportPath) throws IOException {
@@ -44,7 +77,25 @@ class AppExecuteDependency {
     }
 
     Html html(IssuesCollection issuesCollection, ComponentsCollection componentsCollection, Iterable<Project> projects,
-            Charset encoding, BufferedWriter bufferedWriter, SystemLogger logger) {
-        return new Html(issuesCollection, componentsCollection, projects, encoding, bufferedWriter, logger);
+            Charset encoding, BufferedWriter bufferedWriter, SystemLogger logger, int threadsCount,
+            ReportCache reportCache) {
+        return new Html(issuesCollection, componentsCollection, projects, encoding, bufferedWriter, logger,
+                threadsCount, reportCache);
+    }
+
+    Html streamingHtml(Iterable<Project> projects, Charset encoding, BufferedWriter bufferedWriter,
+            SystemLogger logger, int threadsCount, ReportCache reportCache) {
+        return new Html(projects, encoding, bufferedWriter, logger, threadsCount, reportCache);
+    }
+
+    ShardedHtml shardedHtml(IssuesCollection issuesCollection, ComponentsCollection componentsCollection,
+            Iterable<Project> projects, Charset encoding, BufferedWriter indexWriter, String reportPath,
+            SystemLogger logger, int threadsCount, int shardIssuesCount, ReportCache reportCache) {
+        return new ShardedHtml(issuesCollection, componentsCollection, projects, encoding, indexWriter, reportPath,
+                logger, threadsCount, shardIssuesCount, reportCache);
+    }
+
+    ReportCache reportCache(String reportPath, Charset encoding) {
+        return new ReportCache(reportPath + ".cache", encoding);
     }
 }
@@ -6,7 +6,9 @@
 
 package sonarscratch.checker.config;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.List;
 
 public class Config {
     public static final String DEFAULT_SONAR_URL = "http://localhost:9000";
@@ -14,6 +16,12 @@ public class Config {
     public static final int DEFAULT_SONAR_ATTEMPT_SLEEP_MILLISECONDS = 5000;
     public static final String DEFAULT_REPORT_PATH = "sonarqube-issues.html";
     public static final String DEFAULT_ENCODING = "UTF-8";
+    public static final int DEFAULT_THREADS_COUNT = 1;
+    public static final int DEFAULT_DEADLINE_MILLISECONDS = 0;
+    public static final String DEFAULT_CACHE_PATH = Paths
+            .get(System.getProperty("user.home"), ".cache", "sonarscratch-checker").toString();
+    public static final long DEFAULT_CACHE_MAX_BYTES_COUNT = 64L * 1024 * 1024;
+    public static final String DEFAULT_SPILL_PATH = System.getProperty("java.io.tmpdir");
 
     private boolean showHelp;
     private boolean showVersion;
@@ -25,6 +33,31 @@ public class Config {
     private Iterable<Project> projects = new ArrayList<>();
     private String encoding = DEFAULT_ENCODING;
     private boolean check;
+    private boolean findAll;
+    private int threadsCount = DEFAULT_THREADS_COUNT;
+    private boolean incremental;
+    private boolean pooled;
+    private boolean backoff;
+    private int deadlineMilliseconds = DEFAULT_DEADLINE_MILLISECONDS;
+    private String reportTaskPath;
+    private List<String> projectsFilter = new ArrayList<>();
+    private List<String> severitiesFilter = new ArrayList<>();
+    private List<String> typesFilter = new ArrayList<>();
+    private String branch;
+    private String pullRequest;
+    private String createdAfter;
+    private boolean cache;
+    private String cachePath = DEFAULT_CACHE_PATH;
+    private List<Server> servers = new ArrayList<>();
+    private boolean shard;
+    private boolean stream;
+    private int shardIssuesCount;
+    private boolean spill;
+    private String spillPath = DEFAULT_SPILL_PATH;
+    private String metricsPath;
+    private boolean quiet;
+    private boolean verbose;
+    private boolean asyncLog;
 
     Config() {
         showHelp = false;
@@ -111,4 +144,204 @@ public class Config {
     void setCheck(boolean value) {
         check = value;
     }
+
+    public boolean findAll() {
+        return findAll;
+    }
+
+    void setFindAll(boolean value) {
+        findAll = value;
+    }
+
+    public int getThreadsCount() {
+        return threadsCount;
+    }
+
+    void setThreadsCount(int value) {
+        threadsCount = value;
+    }
+
+    public boolean incremental() {
+        return incremental;
+    }
+
+    void setIncremental(boolean value) {
+        incremental = value;
+    }
+
+    public boolean pooled() {
+        return pooled;
+    }
+
+    void setPooled(boolean value) {
+        pooled = value;
+    }
+
+    public boolean backoff() {
+        return backoff;
+    }
+
+    void setBackoff(boolean value) {
+        backoff = value;
+    }
+
+    public int getDeadlineMilliseconds() {
+        return deadlineMilliseconds;
+    }
+
+    void setDeadlineMilliseconds(int value) {
+        deadlineMilliseconds = value;
+    }
+
+    public String getReportTaskPath() {
+        return reportTaskPath;
+    }
+
+    void setReportTaskPath(String value) {
+        reportTaskPath = value;
+    }
+
+    public List<String> getProjectsFilter() {
+        return projectsFilter;
+    }
+
+    void setProjectsFilter(List<String> value) {
+        projectsFilter = value;
+    }
+
+    public List<String> getSeveritiesFilter() {
+        return severitiesFilter;
+    }
+
+    void setSeveritiesFilter(List<String> value) {
+        severitiesFilter = value;
+    }
+
+    public List<String> getTypesFilter() {
+        return typesFilter;
+    }
+
+    void setTypesFilter(List<String> value) {
+        typesFilter = value;
+    }
+
+    public String getBranch() {
+        return branch;
+    }
+
+    void setBranch(String value) {
+        branch = value;
+    }
+
+    public String getPullRequest() {
+        return pullRequest;
+    }
+
+    void setPullRequest(String value) {
+        pullRequest = value;
+    }
+
+    public String getCreatedAfter() {
+        return createdAfter;
+    }
+
+    void setCreatedAfter(String value) {
+        createdAfter = value;
+    }
+
+    public boolean cache() {
+        return cache;
+    }
+
+    void setCache(boolean value) {
+        cache = value;
+    }
+
+    public String getCachePath() {
+        return cachePath;
+    }
+
+    void setCachePath(String value) {
+        cachePath = value;
+    }
+
+    public List<Server> getServers() {
+        return servers;
+    }
+
+    void setServers(List<Server> value) {
+        servers = value;
+    }
+
+    public boolean shard() {
+        return shard;
+    }
+
+    void setShard(boolean value) {
+        shard = value;
+    }
+
+    public int getShardIssuesCount() {
+        return shardIssuesCount;
+    }
+
+    void setShardIssuesCount(int value) {
+        shardIssuesCount = value;
+    }
+
+    public boolean stream() {
+        return stream;
+    }
+
+    void setStream(boolean value) {
+        stream = value;
+    }
+
+    public boolean spill() {
+        return spill;
+    }
+
+    void setSpill(boolean value) {
+        spill = value;
+    }
+
+    public String getSpillPath() {
+        return spillPath;
+    }
+
+    void setSpillPath(String value) {
+        spillPath = value;
+    }
+
+    public String getMetricsPath() {
+        return metricsPath;
+    }
+
+    void setMetricsPath(String value) {
+        metricsPath = value;
+    }
+
+    public boolean quiet() {
+        return quiet;
+    }
+
+    void setQuiet(boolean value) {
+        quiet = value;
+    }
+
+    public boolean verbose() {
+        return verbose;
+    }
+
+    void setVerbose(boolean value) {
+        verbose = value;
+    }
+
+    public boolean asyncLog() {
+        return asyncLog;
+    }
+
+    void setAsyncLog(boolean value) {
+        asyncLog = value;
+    }
 }
@@ -7,6 +7,7 @@
 package sonarscratch.checker.config;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class Reader {
     private static final int EXTRA_STEP_ARGUMENTS_COUNT = 2;
@@ -24,9 +25,40 @@ public class Reader {
         throw new ReaderException("Out of arguments");
     }
 
+    private int getIntArgument(int i, int minValue) throws ReaderException {
+        var value = getNextArgument(i);
+        var message = "Option " + args[i] + " expects an integer not lower than " + minValue + ", not '" + value + "'";
+        int number;
+
+        try {
+            number = Integer.parseInt(value);
+        } catch (NumberFormatException exception) {
+            throw new ReaderException(message, exception);
+        }
+
+        if (number < minValue) {
+            throw new ReaderException(message);
+        }
+
+        return number;
+    }
+
+    private List<String> getListArgument(int i) throws ReaderException {
+        var values = new ArrayList<String>();
+
+        for (var value : getNextArgument(i).split(",")) {
+            if (!value.isBlank()) {
+                values.add(value.trim());
+            }
+        }
+
+        return values;
+    }
+
     public Config read() throws ReaderException {
         var config = new Config();
         var projects = new ArrayList<Project>();
+        var servers = new ArrayList<Server>();
         int stepCount;
 
         for (int i = 0; i < args.length; i += stepCount) {
@@ -38,12 +70,37 @@ public class Reader {
                 stepCount = fetchExtraArgument(i, config, projects);
             }
 
+            if (stepCount == 0) {
+                stepCount = fetchServerArgument(i, servers);
+            }
+
             if (stepCount == 0) {
                 throw new ReaderException("Unknown argument '" + arg + "'");
             }
         }
 
+        if (servers.isEmpty()) {
+            servers.add(new Server(config.getSonarUrl(), null));
+        }
+
+        if (servers.size() > 1 && config.getReportTaskPath() != null) {
+            throw new ReaderException("Option --task cannot be used with several servers");
+        }
+
+        if (config.stream() && (servers.size() > 1 || config.shard())) {
+            throw new ReaderException("Option --stream cannot be used with --shard or several servers");
+        }
+
+        if (config.quiet() && config.verbose()) {
+            throw new ReaderException("Option --quiet cannot be used with --verbose");
+        }
+
+        if (config.spill() && (config.stream() || config.shard())) {
+            throw new ReaderException("Option --spill cannot be used with --stream or --shard");
+        }
+
         config.setProjects(projects);
+        config.setServers(servers);
         return config;
     }
 
@@ -74,6 +131,62 @@ public class Reader {
             stepCount = 1;
         }
 
+        if ("--all".equals(arg) || "-a".equals(arg)) {
+            config.setFindAll(true);
+            stepCount = 1;
+        }
+
+        if ("--incremental".equals(arg)) {
+            config.setIncremental(true);
+            stepCount = 1;
+        }
+
+        if ("--pooled".equals(arg)) {
+            config.setPooled(true);
+            stepCount = 1;
+        }
+
+        if ("--backoff".equals(arg)) {
+            config.setBackoff(true);
+            stepCount = 1;
+        }
+
+        if ("--stream".equals(arg)) {
+            config.setStream(true);
+            config.setFindAll(true);
+            stepCount = 1;
+        }
+
+        if ("--shard".equals(arg)) {
+            config.setShard(true);
+            stepCount = 1;
+        }
+
+        if ("--quiet".equals(arg) || "-q".equals(arg)) {
+            config.setQuiet(true);
+            stepCount = 1;
+        }
+
+        if ("--verbose".equals(arg)) {
+            config.setVerbose(true);
+            stepCount = 1;
+        }
+
+        if ("--async-log".equals(arg)) {
+            config.setAsyncLog(true);
+            stepCount = 1;
+        }
+
+        if ("--spill".equals(arg)) {
+            config.setSpill(true);
+            stepCount = 1;
+        }
+
+        if ("--cache".equals(arg)) {
+            config.setCache(true);
+            stepCount = 1;
+        }
+
         return stepCount;
     }
 
@@ -96,6 +209,69 @@ public class Reader {
             stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
         }
 
+        if ("--deadline".equals(arg)) {
+            config.setDeadlineMilliseconds(getIntArgument(argIndex, 0));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
+        if ("--task".equals(arg)) {
+            config.setReportTaskPath(getNextArgument(argIndex));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
+        if ("--projects".equals(arg)) {
+            config.setProjectsFilter(getListArgument(argIndex));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
+        if ("--severities".equals(arg)) {
+            config.setSeveritiesFilter(getListArgument(argIndex));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
+        if ("--types".equals(arg)) {
+            config.setTypesFilter(getListArgument(argIndex));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
+        if ("--branch".equals(arg)) {
+            config.setBranch(getNextArgument(argIndex));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
+        if ("--pull-request".equals(arg)) {
+            config.setPullRequest(getNextArgument(argIndex));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
+        if ("--created-after".equals(arg)) {
+            config.setCreatedAfter(getNextArgument(argIndex));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
+        if ("--shard-size".equals(arg)) {
+            config.setShard(true);
+            config.setShardIssuesCount(getIntArgument(argIndex, 1));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
+        if ("--cache-path".equals(arg)) {
+            config.setCache(true);
+            config.setCachePath(getNextArgument(argIndex));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
+        if ("--metrics".equals(arg)) {
+            config.setMetricsPath(getNextArgument(argIndex));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
+        if ("--spill-path".equals(arg)) {
+            config.setSpill(true);
+            config.setSpillPath(getNextArgument(argIndex));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
         if ("--path".equals(arg)) {
             config.setReportPath(getNextArgument(argIndex));
             stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
@@ -111,6 +287,41 @@ public class Reader {
             stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
         }
 
+        if ("--threads".equals(arg)) {
+            config.setThreadsCount(getIntArgument(argIndex, 1));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
+        return stepCount;
+    }
+
+    private int fetchServerArgument(int argIndex, ArrayList<Server> servers) throws ReaderException {
+        var arg = args[argIndex];
+        int stepCount = 0;
+
+        if ("--server".equals(arg)) {
+            servers.add(Server.parse(getNextArgument(argIndex)));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
+        if ("--server-projects".equals(arg)) {
+            if (servers.isEmpty()) {
+                throw new ReaderException("Option --server-projects must follow a --server option");
+            }
+
+            servers.get(servers.size() - 1).setProjectsFilter(getListArgument(argIndex));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
+        if ("--server-credentials".equals(arg)) {
+            if (servers.isEmpty()) {
+                throw new ReaderException("Option --server-credentials must follow a --server option");
+            }
+
+            servers.get(servers.size() - 1).setCredentials(Server.readCredentials(getNextArgument(argIndex)));
+            stepCount = EXTRA_STEP_ARGUMENTS_COUNT;
+        }
+
         return stepCount;
     }
 }
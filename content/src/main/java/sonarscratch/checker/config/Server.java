@@ -0,0 +1,76 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Server {
+    private String url;
+    private String credentials;
+    private List<String> projectsFilter = new ArrayList<>();
+
+    public Server(String url, String credentials) {
+        this.url = url;
+        this.credentials = credentials;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getCredentials() {
+        return credentials;
+    }
+
+    public List<String> getProjectsFilter() {
+        return projectsFilter;
+    }
+
+    void setProjectsFilter(List<String> value) {
+        projectsFilter = value;
+    }
+
+    void setCredentials(String value) {
+        credentials = value;
+    }
+
+    static Server parse(String value) throws ReaderException {
+        try {
+            if (new URI(value).getRawUserInfo() != null) {
+                throw new ReaderException("Option --server does not accept credentials, use --server-credentials");
+            }
+
+            return new Server(value, null);
+        } catch (URISyntaxException exception) {
+            throw new ReaderException("Incorrect server '" + value + "'");
+        }
+    }
+
+    static String readCredentials(String path) throws ReaderException {
+        String credentials;
+
+        try {
+            credentials = Files.readString(Paths.get(path), StandardCharsets.UTF_8).strip();
+        } catch (IOException | InvalidPathException exception) {
+            throw new ReaderException("Unreadable credentials file '" + path + "'");
+        }
+
+        if (credentials.isEmpty()) {
+            throw new ReaderException("Empty credentials file '" + path + "'");
+        }
+
+        return credentials.contains(":") ? credentials : credentials + ":";
+    }
+}
@@ -6,45 +6,121 @@
 
 package sonarscratch.checker.http;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 import sonarscratch.checker.log.SystemLogger;
+import sonarscratch.checker.metrics.Histogram;
+import sonarscratch.checker.util.CountingInputStream;
 import sonarscratch.checker.util.ExceptionUtil;
 
 public class Client {
     private static final String ATTEMPTS = "attempt(s)";
     public static final int DEFAULT_CORRECT_RESPONSE_CODE = 200;
-    private int attemptsCount;
-    private int attemptSleepMilliseconds;
+    public static final String DEFAULT_ADMIN_CREDENTIALS = "admin:admin";
+    static final String AUTHORIZATION_HEADER = "Authorization";
+    static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+    static final String ACCEPTED_ENCODINGS = "gzip, deflate";
+    private static final String GZIP_ENCODING = "gzip";
+    private static final String DEFLATE_ENCODING = "deflate";
+    static final String ETAG_HEADER = "ETag";
+    static final String LAST_MODIFIED_HEADER = "Last-Modified";
+    static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
+    static final int NOT_MODIFIED_RESPONSE_CODE = 304;
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            runnable -> newDaemonThread(runnable, "sonarscratch-checker-client-timer"));
+    private static final ExecutorService IO_EXECUTOR = Executors
+            .newCachedThreadPool(runnable -> newDaemonThread(runnable, "sonarscratch-checker-client-io"));
+    private RetryPolicy retryPolicy;
     private SystemLogger logger;
+    private boolean pooled;
+    private AtomicLong transferredBytesCount = new AtomicLong();
+    private AtomicLong decodedBytesCount = new AtomicLong();
+    private AtomicLong cacheHitsCount = new AtomicLong();
+    private AtomicLong retriesCount = new AtomicLong();
+    private Histogram requestsHistogram = new Histogram();
+    private DiskResponseCache responseCache;
+    private String adminAuthorization;
+    private String authorization;
 
-    public Client(int attemptsCount, int attemptSleepMilliseconds, SystemLogger logger) throws ClientException {
-        if (attemptsCount <= 0) {
-            throw new ClientException("'attemptsCount' argument cannot be zero nor negative (" + attemptsCount + ")");
-        }
+    public Client(RetryPolicy retryPolicy, SystemLogger logger, boolean pooled, DiskResponseCache responseCache,
+            String adminCredentials, String credentials) {
+        this.retryPolicy = retryPolicy;
+        this.logger = logger;
+        this.pooled = pooled;
+        this.responseCache = responseCache;
+        this.adminAuthorization = getAuthorization(adminCredentials);
+        this.authorization = credentials != null ? getAuthorization(credentials) : null;
+    }
 
-        this.attemptsCount = attemptsCount;
+    public Client(RetryPolicy retryPolicy, SystemLogger logger, boolean pooled, DiskResponseCache responseCache,
+            String adminCredentials) {
+        this(retryPolicy, logger, pooled, responseCache, adminCredentials, null);
+    }
 
-        if (attemptSleepMilliseconds < 0) {
-            throw new ClientException(
-                    "'attemptSleepMilliSeconds' argument cannot be negative (" + attemptSleepMilliseconds + ")");
-        }
+    public Client(RetryPolicy retryPolicy, SystemLogger logger, boolean pooled, DiskResponseCache responseCache) {
+        this(retryPolicy, logger, pooled, responseCache, DEFAULT_ADMIN_CREDENTIALS);
+    }
 
-        this.attemptSleepMilliseconds = attemptSleepMilliseconds;
-        this.logger = logger;
+    public Client(RetryPolicy retryPolicy, SystemLogger logger, boolean pooled) {
+        this(retryPolicy, logger, pooled, null);
+    }
+
+    public Client(int attemptsCount, int attemptSleepMilliseconds, SystemLogger logger, boolean pooled)
+            throws ClientException {
+        this(new FixedRetryPolicy(attemptsCount, attemptSleepMilliseconds), logger, pooled);
+    }
+
+    public Client(int attemptsCount, int attemptSleepMilliseconds, SystemLogger logger) throws ClientException {
+        this(attemptsCount, attemptSleepMilliseconds, logger, false);
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
     }
 
     public int getAttemptsCount() {
-        return attemptsCount;
+        return retryPolicy.getAttemptsCount();
+    }
+
+    public boolean isPooled() {
+        return pooled;
+    }
+
+    public long getTransferredBytesCount() {
+        return transferredBytesCount.get();
+    }
+
+    public long getDecodedBytesCount() {
+        return decodedBytesCount.get();
+    }
+
+    public long getCacheHitsCount() {
+        return cacheHitsCount.get();
+    }
+
+    public long getRetriesCount() {
+        return retriesCount.get();
     }
 
-    public int getAttemptSleepMilliseconds() {
-        return attemptSleepMilliseconds;
+    public Histogram getRequestsHistogram() {
+        return requestsHistogram;
     }
 
     public void on(String url, int correctResponseCode, boolean asAdmin, Action action) throws ClientException {
@@ -52,12 +128,20 @@ public class Client {
 
         logger.info("Waiting correct response from '" + url + "'");
 
+        var startNanos = System.nanoTime();
         var hasCorrectResponse = false;
         Exception lastException = null;
         int responseCode = -1;
+        var attempt = 0;
+        long delay = 0;
 
-        for (var i = 0; i < attemptsCount && !hasCorrectResponse; i++) {
-            logger.info("Attempt " + (i + 1) + "/" + attemptsCount);
+        while (!hasCorrectResponse && delay >= 0) {
+            var attemptNumber = attempt + 1;
+
+            logger.info(() -> "Attempt " + attemptNumber + "/" + getAttemptsCount());
+            countRetry(attempt);
+
+            var attemptStartNanos = System.nanoTime();
 
             try {
                 dependency.connection(url, asAdmin);
@@ -65,25 +149,245 @@ public class Client {
                 throw new ClientException(ExceptionUtil.getDefaultMessage(ClientException.class), exception);
             }
 
+            var retriable = true;
+            var cacheKey = getCacheKey(url, asAdmin, action);
+
             try {
+                var cachedEntry = getCachedEntry(dependency, cacheKey);
+
                 responseCode = dependency.connectionResponseCode();
 
-                if (responseCode == correctResponseCode) {
-                    runAction(action, dependency.connectionInputStream());
+                if (responseCode == correctResponseCode || isNotModified(responseCode, cachedEntry)) {
+                    runAction(action, getInputStream(dependency, responseCode, cacheKey, cachedEntry));
                     hasCorrectResponse = true;
-                    logger.info("Succeeded after " + (i + 1) + " " + ATTEMPTS);
+                    logger.info(() -> "Succeeded after " + attemptNumber + " " + ATTEMPTS);
                     logger.info(SystemLogger.BLOCK_END);
+                } else {
+                    retriable = retryPolicy.isRetriable(responseCode);
                 }
             } catch (IOException | ActionException exception) {
                 lastException = exception;
             } finally {
                 dependency.connectionDisconnect();
+                requestsHistogram.recordSince(attemptStartNanos);
+                logAttempt(url, responseCode, attemptStartNanos);
             }
 
-            retry(hasCorrectResponse);
+            attempt++;
+
+            if (!hasCorrectResponse) {
+                delay = retriable ? getRetryDelayMilliseconds(attempt, startNanos) : -1;
+                sleep(delay);
+            }
+        }
+
+        checkFailure(hasCorrectResponse, attempt, responseCode, lastException);
+    }
+
+    public CompletableFuture<Void> onAsync(String url, int correctResponseCode, boolean asAdmin, Action action) {
+        var attempts = new AsyncAttempts(url, correctResponseCode, asAdmin, action);
+
+        logger.info("Waiting correct response from '" + url + "'");
+        attemptAsync(attempts);
+
+        return attempts.result;
+    }
+
+    public CompletableFuture<Void> onAsync(String url, boolean asAdmin, Action action) {
+        return onAsync(url, DEFAULT_CORRECT_RESPONSE_CODE, asAdmin, action);
+    }
+
+    public CompletableFuture<Void> onAsync(String url, Action action) {
+        return onAsync(url, DEFAULT_CORRECT_RESPONSE_CODE, false, action);
+    }
+
+    public long getRetryDelayMilliseconds(int attemptsCount, long startNanos) {
+        var delay = retryPolicy.getDelayMilliseconds(attemptsCount - 1);
+        var elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        return retryPolicy.canRetry(attemptsCount, elapsed, delay) ? delay : -1;
+    }
+
+    public CompletableFuture<Void> delayAsync(long delayMilliseconds) {
+        var delay = new CompletableFuture<Void>();
+
+        SCHEDULER.schedule(() -> IO_EXECUTOR.execute(() -> delay.complete(null)), delayMilliseconds,
+                TimeUnit.MILLISECONDS);
+
+        return delay;
+    }
+
+    private void attemptAsync(AsyncAttempts attempts) {
+        var dependency = getClientOnDependency();
+
+        logger.info(() -> "Attempt " + (attempts.index + 1) + "/" + getAttemptsCount());
+        countRetry(attempts.index);
+        attempts.attemptStartNanos = System.nanoTime();
+
+        var cacheKey = getCacheKey(attempts.url, attempts.asAdmin, attempts.action);
+        DiskResponseCache.Entry cachedEntry;
+
+        try {
+            dependency.connection(attempts.url, attempts.asAdmin);
+            cachedEntry = getCachedEntry(dependency, cacheKey);
+        } catch (IOException exception) {
+            attempts.result.completeExceptionally(
+                    new ClientException(ExceptionUtil.getDefaultMessage(ClientException.class), exception));
+            return;
         }
 
-        checkFailure(hasCorrectResponse, responseCode, lastException);
+        dependency.connectionResponseCodeAsync(IO_EXECUTOR).whenCompleteAsync((responseCode, exception) -> {
+            try {
+                onAttemptAsync(attempts, dependency, responseCode, exception, cacheKey, cachedEntry);
+            } catch (RuntimeException runtimeException) {
+                attempts.result.completeExceptionally(runtimeException);
+            }
+        }, IO_EXECUTOR);
+    }
+
+    private static Thread newDaemonThread(Runnable runnable, String name) {
+        var thread = new Thread(runnable, name);
+
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private void onAttemptAsync(AsyncAttempts attempts, ClientOnDependency dependency, Integer responseCode,
+            Throwable exception, String cacheKey, DiskResponseCache.Entry cachedEntry) {
+        var retriable = true;
+
+        try {
+            if (exception != null) {
+                attempts.lastException = exception instanceof CompletionException ? exception.getCause() : exception;
+            } else {
+                attempts.responseCode = responseCode;
+
+                if (responseCode == attempts.correctResponseCode || isNotModified(responseCode, cachedEntry)) {
+                    runAction(attempts.action, getInputStream(dependency, responseCode, cacheKey, cachedEntry));
+                    logger.info(() -> "Succeeded after " + (attempts.index + 1) + " " + ATTEMPTS);
+                    logger.info(SystemLogger.BLOCK_END);
+                    attempts.result.complete(null);
+                    return;
+                }
+
+                retriable = retryPolicy.isRetriable(responseCode);
+            }
+        } catch (IOException | ActionException actionException) {
+            attempts.lastException = actionException;
+        } finally {
+            dependency.connectionDisconnect();
+            requestsHistogram.recordSince(attempts.attemptStartNanos);
+            logAttempt(attempts.url, attempts.responseCode, attempts.attemptStartNanos);
+        }
+
+        attempts.index++;
+
+        var delay = retriable ? getRetryDelayMilliseconds(attempts.index, attempts.startNanos) : -1;
+
+        if (delay >= 0) {
+            delayAsync(delay).thenRun(() -> attemptAsync(attempts));
+        } else {
+            attempts.result.completeExceptionally(
+                    getFailure(attempts.index, attempts.responseCode, attempts.lastException));
+        }
+    }
+
+    private void logAttempt(String url, int responseCode, long attemptStartNanos) {
+        logger.verbose(() -> "Response code " + responseCode + " from '" + url + "' after "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - attemptStartNanos) + " ms");
+    }
+
+    private void countRetry(int attempt) {
+        if (attempt > 0) {
+            retriesCount.incrementAndGet();
+        }
+    }
+
+    private String getCacheKey(String url, boolean asAdmin, Action action) {
+        if (responseCache == null || action == null) {
+            return null;
+        }
+
+        if (asAdmin) {
+            return "admin " + DiskResponseCache.getDigest(adminAuthorization) + " " + url;
+        }
+
+        return (authorization != null ? "user " + DiskResponseCache.getDigest(authorization) + " " : "") + url;
+    }
+
+    private DiskResponseCache.Entry getCachedEntry(ClientOnDependency dependency, String cacheKey) {
+        if (cacheKey == null) {
+            return null;
+        }
+
+        DiskResponseCache.Entry cachedEntry;
+
+        try {
+            cachedEntry = responseCache.get(cacheKey);
+        } catch (IOException exception) {
+            logger.err("Response cache not read : " + exception.getMessage());
+            return null;
+        }
+
+        if (cachedEntry != null) {
+            if (cachedEntry.getEtag() != null) {
+                dependency.connectionHeader(IF_NONE_MATCH_HEADER, cachedEntry.getEtag());
+            }
+
+            if (cachedEntry.getLastModified() != null) {
+                dependency.connectionHeader(IF_MODIFIED_SINCE_HEADER, cachedEntry.getLastModified());
+            }
+        }
+
+        return cachedEntry;
+    }
+
+    private static boolean isNotModified(int responseCode, DiskResponseCache.Entry cachedEntry) {
+        return cachedEntry != null && responseCode == NOT_MODIFIED_RESPONSE_CODE;
+    }
+
+    private InputStream getInputStream(ClientOnDependency dependency, int responseCode, String cacheKey,
+            DiskResponseCache.Entry cachedEntry) throws IOException {
+        if (isNotModified(responseCode, cachedEntry)) {
+            cacheHitsCount.incrementAndGet();
+            return responseCache.open(cachedEntry);
+        }
+
+        var stream = getInputStream(dependency);
+        var etag = dependency.connectionHeaderField(ETAG_HEADER);
+        var lastModified = dependency.connectionHeaderField(LAST_MODIFIED_HEADER);
+
+        if (cacheKey == null || (etag == null && lastModified == null)) {
+            return stream;
+        }
+
+        byte[] body;
+
+        try (stream) {
+            body = stream.readAllBytes();
+        }
+
+        try {
+            responseCache.put(cacheKey, etag, lastModified, body);
+        } catch (IOException exception) {
+            logger.err("Response not cached : " + exception.getMessage());
+        }
+
+        return new ByteArrayInputStream(body);
+    }
+
+    private InputStream getInputStream(ClientOnDependency dependency) throws IOException {
+        var transferredStream = new CountingInputStream(dependency.connectionInputStream(), transferredBytesCount);
+        var contentEncoding = dependency.connectionHeaderField(CONTENT_ENCODING_HEADER);
+        InputStream decodedStream = transferredStream;
+
+        if (GZIP_ENCODING.equalsIgnoreCase(contentEncoding)) {
+            decodedStream = new GZIPInputStream(transferredStream);
+        } else if (DEFLATE_ENCODING.equalsIgnoreCase(contentEncoding)) {
+            decodedStream = new InflaterInputStream(transferredStream);
+        }
+
+        return new CountingInputStream(decodedStream, decodedBytesCount);
     }
 
     private static void runAction(Action action, InputStream stream) throws ActionException {
@@ -101,39 +405,72 @@ public class Client {
     }
 
     ClientOnDependency getClientOnDependency() {
-        return new ClientOnDependency();
+        return pooled ? new PooledClientOnDependency(adminAuthorization, authorization)
+                : new ClientOnDependency(adminAuthorization, authorization);
     }
 
-    static HttpURLConnection createConnection(String url, boolean asAdmin) throws IOException {
+    static HttpURLConnection createConnection(String url, String authorization) throws IOException {
         var connection = (HttpURLConnection) new URL(url).openConnection();
 
-        if (asAdmin) {
-            connection.setRequestProperty("Authorization",
-                    "Basic " + Base64.getEncoder().encodeToString("admin:admin".getBytes(StandardCharsets.UTF_8)));
+        connection.setRequestProperty(ACCEPT_ENCODING_HEADER, ACCEPTED_ENCODINGS);
+
+        if (authorization != null) {
+            connection.setRequestProperty(AUTHORIZATION_HEADER, authorization);
         }
 
         return connection;
     }
 
-    private void retry(boolean hasCorrectResponse) {
+    static String getAdminAuthorization() {
+        return getAuthorization(DEFAULT_ADMIN_CREDENTIALS);
+    }
+
+    static String getAuthorization(String credentials) {
+        return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sleep(long delayMilliseconds) {
         try {
-            if (!hasCorrectResponse && attemptSleepMilliseconds > 0) {
-                Thread.sleep(attemptSleepMilliseconds);
+            if (delayMilliseconds > 0) {
+                Thread.sleep(delayMilliseconds);
             }
         } catch (InterruptedException exception) {
             Thread.currentThread().interrupt();
         }
     }
 
-    private void checkFailure(boolean hasCorrectResponse, int responseCode, Exception lastException)
-            throws ClientException {
+    private void checkFailure(boolean hasCorrectResponse, int attemptsCount, int responseCode,
+            Exception lastException) throws ClientException {
         if (!hasCorrectResponse) {
-            logger.err("Failed after " + attemptsCount + " " + ATTEMPTS);
-            logger.err(SystemLogger.BLOCK_END);
-            throw new ClientException(
-                    "Enable to get correct response after " + attemptsCount + " " + ATTEMPTS
-                            + (responseCode != -1 ? (" (Last response code was " + responseCode + ")") : ""),
-                    lastException);
+            throw getFailure(attemptsCount, responseCode, lastException);
+        }
+    }
+
+    private ClientException getFailure(int attemptsCount, int responseCode, Throwable lastException) {
+        logger.err("Failed after " + attemptsCount + " " + ATTEMPTS);
+        logger.err(SystemLogger.BLOCK_END);
+
+        return new ClientException("Enable to get correct response after " + attemptsCount + " " + ATTEMPTS
+                + (responseCode != -1 ? (" (Last response code was " + responseCode + ")") : ""), lastException);
+    }
+
+    private static class AsyncAttempts {
+        private final String url;
+        private final int correctResponseCode;
+        private final boolean asAdmin;
+        private final Action action;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final long startNanos = System.nanoTime();
+        private long attemptStartNanos;
+        private int index;
+        private int responseCode = -1;
+        private Throwable lastException;
+
+        AsyncAttempts(String url, int correctResponseCode, boolean asAdmin, Action action) {
+            this.url = url;
+            this.correctResponseCode = correctResponseCode;
+            this.asAdmin = asAdmin;
+            this.action = action;
         }
     }
 }
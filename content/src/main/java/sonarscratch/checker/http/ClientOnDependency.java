@@ -9,22 +9,43 @@ package sonarscratch.checker.http;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 class ClientOnDependency {
     private HttpURLConnection connection;
+    private String adminAuthorization;
+    private String authorization;
 
-    ClientOnDependency() {
+    ClientOnDependency(String adminAuthorization, String authorization) {
         connection = null;
+        this.adminAuthorization = adminAuthorization;
+        this.authorization = authorization;
+    }
+
+    String getAuthorization(boolean asAdmin) {
+        return asAdmin ? adminAuthorization : authorization;
     }
 
     void connection(String url, boolean asAdmin) throws IOException {
-        connection = Client.createConnection(url, asAdmin);
+        connection = Client.createConnection(url, getAuthorization(asAdmin));
     }
 
     int connectionResponseCode() throws IOException {
         return connection.getResponseCode();
     }
 
+    CompletableFuture<Integer> connectionResponseCodeAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return connectionResponseCode();
+            } catch (IOException exception) {
+                throw new CompletionException(exception);
+            }
+        }, executor);
+    }
+
     void connectionDisconnect() {
         connection.disconnect();
     }
@@ -32,4 +53,12 @@ class ClientOnDependency {
     InputStream connectionInputStream() throws IOException {
         return connection.getInputStream();
     }
+
+    void connectionHeader(String name, String value) {
+        connection.setRequestProperty(name, value);
+    }
+
+    String connectionHeaderField(String name) {
+        return connection.getHeaderField(name);
+    }
 }
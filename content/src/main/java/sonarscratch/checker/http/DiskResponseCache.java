@@ -0,0 +1,263 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.http;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+
+public class DiskResponseCache {
+    private static final String FORMAT = "sonarscratch-checker-response-cache";
+    private static final int VERSION = 1;
+    private static final String OWNER_ONLY_DIRECTORY = "rwx------";
+    private static final String OWNER_ONLY_FILE = "rw-------";
+    private static final String ENTRY_EXTENSION = ".entry";
+    private static final String NO_VALIDATOR = "";
+    private Path directory;
+    private long maxBytesCount;
+    private LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytesCount;
+    private boolean loaded;
+
+    public DiskResponseCache(String directory, long maxBytesCount) {
+        this.directory = Paths.get(directory);
+        this.maxBytesCount = maxBytesCount;
+    }
+
+    public synchronized long getBytesCount() throws IOException {
+        load();
+        return bytesCount;
+    }
+
+    synchronized Entry get(String key) throws IOException {
+        load();
+
+        var entry = entries.get(key);
+
+        if (entry == null) {
+            return null;
+        }
+
+        try {
+            Files.setLastModifiedTime(entry.path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException exception) {
+            drop(entry);
+            return null;
+        }
+
+        return entry;
+    }
+
+    synchronized InputStream open(Entry entry) throws IOException {
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry.path)))) {
+            if (readHeader(input) == null) {
+                throw new IOException("Incorrect cached response '" + entry.path + "'");
+            }
+
+            return new ByteArrayInputStream(input.readAllBytes());
+        } catch (IOException exception) {
+            drop(entry);
+            throw exception;
+        }
+    }
+
+    synchronized void put(String key, String etag, String lastModified, byte[] body) throws IOException {
+        load();
+        createDirectory();
+
+        var path = directory.resolve(getFileName(key));
+        var temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+
+        Files.deleteIfExists(temporaryPath);
+        Files.createFile(temporaryPath, getOwnerOnlyAttributes(OWNER_ONLY_FILE));
+
+        try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+            output.writeUTF(FORMAT);
+            output.writeInt(VERSION);
+            output.writeUTF(key);
+            output.writeUTF(etag == null ? NO_VALIDATOR : etag);
+            output.writeUTF(lastModified == null ? NO_VALIDATOR : lastModified);
+            output.write(body);
+        }
+
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        remove(key);
+
+        var entry = new Entry(key, path, etag, lastModified, Files.size(path));
+
+        entries.put(key, entry);
+        bytesCount += entry.size;
+        evict();
+    }
+
+    static String getDigest(String value) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            var hexadecimal = new StringBuilder();
+
+            for (var digestByte : digest) {
+                hexadecimal.append(String.format("%02x", digestByte));
+            }
+
+            return hexadecimal.toString();
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private void createDirectory() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            Files.createDirectories(directory, getOwnerOnlyAttributes(OWNER_ONLY_DIRECTORY));
+        }
+    }
+
+    private FileAttribute<?>[] getOwnerOnlyAttributes(String permissions) {
+        if (!directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return new FileAttribute<?>[0];
+        }
+
+        return new FileAttribute<?>[] {
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(permissions)) };
+    }
+
+    private void load() throws IOException {
+        if (loaded) {
+            return;
+        }
+
+        loaded = true;
+
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        var paths = new ArrayList<Path>();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + ENTRY_EXTENSION)) {
+            stream.forEach(paths::add);
+        }
+
+        paths.sort(Comparator.comparing(DiskResponseCache::getLastModifiedTime));
+
+        for (var path : paths) {
+            loadEntry(path);
+        }
+
+        evict();
+    }
+
+    private void loadEntry(Path path) throws IOException {
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            var header = readHeader(input);
+
+            if (header != null) {
+                var entry = new Entry(header[0], path, header[1], header[2], Files.size(path));
+
+                entries.put(header[0], entry);
+                bytesCount += entry.size;
+                return;
+            }
+        } catch (IOException exception) {
+            Files.deleteIfExists(path);
+            return;
+        }
+
+        Files.deleteIfExists(path);
+    }
+
+    private static String[] readHeader(DataInputStream input) throws IOException {
+        if (!FORMAT.equals(input.readUTF()) || input.readInt() != VERSION) {
+            return null;
+        }
+
+        var key = input.readUTF();
+        var etag = input.readUTF();
+        var lastModified = input.readUTF();
+
+        return new String[] { key, etag.isEmpty() ? null : etag, lastModified.isEmpty() ? null : lastModified };
+    }
+
+    private void evict() throws IOException {
+        var iterator = entries.values().iterator();
+
+        while (bytesCount > maxBytesCount && iterator.hasNext()) {
+            var entry = iterator.next();
+
+            iterator.remove();
+            bytesCount -= entry.size;
+            Files.deleteIfExists(entry.path);
+        }
+    }
+
+    private void drop(Entry entry) {
+        if (entries.get(entry.key) == entry) {
+            remove(entry.key);
+        }
+    }
+
+    private void remove(String key) {
+        var entry = entries.remove(key);
+
+        if (entry != null) {
+            bytesCount -= entry.size;
+        }
+    }
+
+    private static FileTime getLastModifiedTime(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException exception) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String getFileName(String key) {
+        return getDigest(key) + ENTRY_EXTENSION;
+    }
+
+    static final class Entry {
+        private final String key;
+        private final Path path;
+        private final String etag;
+        private final String lastModified;
+        private final long size;
+
+        private Entry(String key, Path path, String etag, String lastModified, long size) {
+            this.key = key;
+            this.path = path;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        String getEtag() {
+            return etag;
+        }
+
+        String getLastModified() {
+            return lastModified;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.http;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongUnaryOperator;
+
+public class ExponentialRetryPolicy implements RetryPolicy {
+    public static final int DEFAULT_BASE_DELAY_MILLISECONDS = 250;
+    private static final int REQUEST_TIMEOUT = 408;
+    private static final int TOO_EARLY = 425;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVER_ERROR = 500;
+    private int attemptsCount;
+    private long baseDelayMilliseconds;
+    private long maxDelayMilliseconds;
+    private long deadlineMilliseconds;
+    private LongUnaryOperator jitter;
+
+    public ExponentialRetryPolicy(int attemptsCount, long baseDelayMilliseconds, long maxDelayMilliseconds,
+            long deadlineMilliseconds) throws ClientException {
+        this(attemptsCount, baseDelayMilliseconds, maxDelayMilliseconds, deadlineMilliseconds,
+                ceiling -> ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    ExponentialRetryPolicy(int attemptsCount, long baseDelayMilliseconds, long maxDelayMilliseconds,
+            long deadlineMilliseconds, LongUnaryOperator jitter) throws ClientException {
+        if (attemptsCount <= 0) {
+            throw new ClientException("'attemptsCount' argument cannot be zero nor negative (" + attemptsCount + ")");
+        }
+
+        if (baseDelayMilliseconds < 0 || maxDelayMilliseconds < 0) {
+            throw new ClientException("Delays cannot be negative (base " + baseDelayMilliseconds + ", max "
+                    + maxDelayMilliseconds + ")");
+        }
+
+        if (deadlineMilliseconds < 0) {
+            throw new ClientException(
+                    "'deadlineMilliseconds' argument cannot be negative (" + deadlineMilliseconds + ")");
+        }
+
+        this.attemptsCount = attemptsCount;
+        this.baseDelayMilliseconds = baseDelayMilliseconds;
+        this.maxDelayMilliseconds = maxDelayMilliseconds;
+        this.deadlineMilliseconds = deadlineMilliseconds;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public int getAttemptsCount() {
+        return attemptsCount;
+    }
+
+    public long getDeadlineMilliseconds() {
+        return deadlineMilliseconds;
+    }
+
+    @Override
+    public long getDelayMilliseconds(int attempt) {
+        return jitter.applyAsLong(getDelayCeilingMilliseconds(attempt));
+    }
+
+    long getDelayCeilingMilliseconds(int attempt) {
+        if (attempt >= Long.numberOfLeadingZeros(baseDelayMilliseconds) - 1) {
+            return maxDelayMilliseconds;
+        }
+
+        return Math.min(maxDelayMilliseconds, baseDelayMilliseconds << attempt);
+    }
+
+    @Override
+    public boolean isRetriable(int responseCode) {
+        return responseCode == REQUEST_TIMEOUT || responseCode == TOO_EARLY || responseCode == TOO_MANY_REQUESTS
+                || responseCode >= SERVER_ERROR;
+    }
+
+    @Override
+    public boolean canRetry(int attemptsCount, long elapsedMilliseconds, long delayMilliseconds) {
+        return attemptsCount < this.attemptsCount
+                && (deadlineMilliseconds == 0 || elapsedMilliseconds + delayMilliseconds <= deadlineMilliseconds);
+    }
+}
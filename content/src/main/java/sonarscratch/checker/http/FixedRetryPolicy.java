@@ -0,0 +1,46 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.http;
+
+public class FixedRetryPolicy implements RetryPolicy {
+    private int attemptsCount;
+    private int attemptSleepMilliseconds;
+
+    public FixedRetryPolicy(int attemptsCount, int attemptSleepMilliseconds) throws ClientException {
+        if (attemptsCount <= 0) {
+            throw new ClientException("'attemptsCount' argument cannot be zero nor negative (" + attemptsCount + ")");
+        }
+
+        if (attemptSleepMilliseconds < 0) {
+            throw new ClientException(
+                    "'attemptSleepMilliSeconds' argument cannot be negative (" + attemptSleepMilliseconds + ")");
+        }
+
+        this.attemptsCount = attemptsCount;
+        this.attemptSleepMilliseconds = attemptSleepMilliseconds;
+    }
+
+    @Override
+    public int getAttemptsCount() {
+        return attemptsCount;
+    }
+
+    @Override
+    public long getDelayMilliseconds(int attempt) {
+        return attemptSleepMilliseconds;
+    }
+
+    @Override
+    public boolean isRetriable(int responseCode) {
+        return true;
+    }
+
+    @Override
+    public boolean canRetry(int attemptsCount, long elapsedMilliseconds, long delayMilliseconds) {
+        return attemptsCount < this.attemptsCount;
+    }
+}
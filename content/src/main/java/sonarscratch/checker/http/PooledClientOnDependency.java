@@ -0,0 +1,103 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+class PooledClientOnDependency extends ClientOnDependency {
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2)
+            .followRedirects(HttpClient.Redirect.NORMAL).build();
+    private HttpRequest.Builder requestBuilder;
+    private HttpRequest request;
+    private HttpResponse<InputStream> response;
+
+    PooledClientOnDependency(String adminAuthorization, String authorization) {
+        super(adminAuthorization, authorization);
+    }
+
+    @Override
+    void connection(String url, boolean asAdmin) throws IOException {
+        try {
+            requestBuilder = HttpRequest.newBuilder(URI.create(url))
+                    .header(Client.ACCEPT_ENCODING_HEADER, Client.ACCEPTED_ENCODINGS).GET();
+
+            var authorization = getAuthorization(asAdmin);
+
+            if (authorization != null) {
+                requestBuilder.header(Client.AUTHORIZATION_HEADER, authorization);
+            }
+
+            request = null;
+            response = null;
+        } catch (IllegalArgumentException exception) {
+            var malformedURLException = new MalformedURLException(exception.getMessage());
+
+            malformedURLException.initCause(exception);
+            throw malformedURLException;
+        }
+    }
+
+    @Override
+    void connectionHeader(String name, String value) {
+        requestBuilder.header(name, value);
+    }
+
+    @Override
+    int connectionResponseCode() throws IOException {
+        request = requestBuilder.build();
+
+        try {
+            response = HTTP_CLIENT.send(request, BodyHandlers.ofInputStream());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Request to '" + request.uri() + "' interrupted");
+        }
+
+        return response.statusCode();
+    }
+
+    @Override
+    CompletableFuture<Integer> connectionResponseCodeAsync(Executor executor) {
+        request = requestBuilder.build();
+
+        return HTTP_CLIENT.sendAsync(request, BodyHandlers.ofInputStream()).thenApply(asyncResponse -> {
+            response = asyncResponse;
+            return asyncResponse.statusCode();
+        });
+    }
+
+    @Override
+    void connectionDisconnect() {
+        if (response != null) {
+            try {
+                response.body().close();
+            } catch (IOException exception) {
+                response = null;
+            }
+        }
+    }
+
+    @Override
+    InputStream connectionInputStream() {
+        return response.body();
+    }
+
+    @Override
+    String connectionHeaderField(String name) {
+        return response.headers().firstValue(name).orElse(null);
+    }
+}
@@ -0,0 +1,17 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.http;
+
+public interface RetryPolicy {
+    int getAttemptsCount();
+
+    long getDelayMilliseconds(int attempt);
+
+    boolean isRetriable(int responseCode);
+
+    boolean canRetry(int attemptsCount, long elapsedMilliseconds, long delayMilliseconds);
+}
@@ -0,0 +1,53 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+import sonarscratch.checker.util.ExceptionUtil;
+
+class AnalysisTask {
+    private static final String TASK_ID_PROPERTY = "ceTaskId";
+    private static final String PROJECT_KEY_PROPERTY = "projectKey";
+    private String id;
+    private String projectKey;
+
+    AnalysisTask(String id, String projectKey) {
+        this.id = id;
+        this.projectKey = projectKey;
+    }
+
+    static AnalysisTask read(String reportTaskPath) throws FinderException {
+        var properties = new Properties();
+
+        try (var reader = Files.newBufferedReader(Paths.get(reportTaskPath), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException exception) {
+            throw new FinderException(ExceptionUtil.getDefaultMessage(AnalysisTask.class), exception);
+        }
+
+        var id = properties.getProperty(TASK_ID_PROPERTY, "").trim();
+
+        if (id.isEmpty()) {
+            throw new FinderException("Property '" + TASK_ID_PROPERTY + "' not found in '" + reportTaskPath + "'");
+        }
+
+        return new AnalysisTask(id, properties.getProperty(PROJECT_KEY_PROPERTY, "").trim());
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getProjectKey() {
+        return projectKey;
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import java.io.IOException;
+import java.io.Reader;
+
+class CapturingReader extends Reader {
+    private Reader reader;
+    private SourcePage page;
+    private int start;
+    private boolean capturing;
+
+    CapturingReader(Reader reader, SourcePage page) {
+        this.reader = reader;
+        this.page = page;
+    }
+
+    void startCapture(char first) {
+        start = page.length();
+        page.append(first);
+        capturing = true;
+    }
+
+    IssueSource endCapture() {
+        capturing = false;
+        return page.getSource(start, page.length());
+    }
+
+    @Override
+    public int read() throws IOException {
+        var c = reader.read();
+
+        if (capturing && c != -1) {
+            page.append((char) c);
+        }
+
+        return c;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        var count = reader.read(buffer, offset, length);
+
+        if (capturing && count > 0) {
+            page.append(buffer, offset, count);
+        }
+
+        return count;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void mark(int readAheadLimit) throws IOException {
+        reader.mark(readAheadLimit);
+    }
+
+    @Override
+    public void reset() throws IOException {
+        reader.reset();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -6,23 +6,156 @@
 
 package sonarscratch.checker.issues;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import org.json.JSONObject;
 
-public class ComponentsCollection implements Iterable<JSONObject> {
-    private ArrayList<JSONObject> list = new ArrayList<>();
+public class ComponentsCollection implements Iterable<SonarComponent> {
+    private static final int INITIAL_OFFSETS_COUNT = 64;
+    private static final long NULL_OFFSET = -1;
+    private ArrayList<SonarComponent> list;
+    private HashMap<String, SonarComponent> componentsByKey;
+    private SpillStore store;
+    private HashMap<String, Long> offsetsByKey;
+    private long[] offsets;
+    private int spilledCount;
+
+    public ComponentsCollection() {
+        this.list = new ArrayList<>();
+        this.componentsByKey = new HashMap<>();
+    }
+
+    public ComponentsCollection(SpillStore store) {
+        this.store = store;
+        this.offsetsByKey = new HashMap<>();
+        this.offsets = new long[INITIAL_OFFSETS_COUNT];
+    }
+
+    public void addComponent(SonarComponent component) {
+        if (store == null) {
+            list.add(component);
+
+            if (component != null) {
+                componentsByKey.put(component.getKey(), component);
+            }
+
+            return;
+        }
+
+        var offset = NULL_OFFSET;
+
+        if (component != null) {
+            try {
+                offset = store.append(write(component));
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+
+            offsetsByKey.put(component.getKey(), offset);
+        }
+
+        addOffsets(new long[] { offset }, 1);
+    }
 
     public void addComponent(JSONObject component) {
-        list.add(component);
+        addComponent(new SonarComponent(component));
+    }
+
+    void addAll(ComponentsCollection components) {
+        if (store == null || components.store != store) {
+            components.forEach(this::addComponent);
+            return;
+        }
+
+        offsetsByKey.putAll(components.offsetsByKey);
+        addOffsets(components.offsets, components.spilledCount);
+    }
+
+    public SonarComponent get(String key) {
+        if (store == null) {
+            return componentsByKey.get(key);
+        }
+
+        var offset = offsetsByKey.get(key);
+
+        try {
+            return offset != null ? read(store.read(offset)) : null;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
     }
 
     public int count() {
-        return list.size();
+        return store == null ? list.size() : spilledCount;
+    }
+
+    SpillStore getSpillStore() {
+        return store;
+    }
+
+    public Iterator<SonarComponent> iterator() {
+        return store == null ? list.iterator() : new SpilledIterator();
+    }
+
+    private void addOffsets(long[] addedOffsets, int count) {
+        if (spilledCount + count > offsets.length) {
+            offsets = Arrays.copyOf(offsets, Math.max(offsets.length * 2, spilledCount + count));
+        }
+
+        System.arraycopy(addedOffsets, 0, offsets, spilledCount, count);
+        spilledCount += count;
+    }
+
+    private static byte[] write(SonarComponent component) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+
+        try (var output = new DataOutputStream(bytes)) {
+            output.writeUTF(component.getKey());
+            output.writeUTF(component.getName());
+            output.writeUTF(component.getLongName());
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private static SonarComponent read(byte[] record) throws IOException {
+        try (var input = new DataInputStream(new ByteArrayInputStream(record))) {
+            return new SonarComponent(input.readUTF(), input.readUTF(), input.readUTF());
+        }
     }
 
-    public Iterator<JSONObject> iterator() {
-        return list.iterator();
+    private final class SpilledIterator implements Iterator<SonarComponent> {
+        private SpillStore.Cursor cursor = store.cursor();
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < spilledCount;
+        }
+
+        @Override
+        public SonarComponent next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            var offset = offsets[index++];
+
+            try {
+                return offset != NULL_OFFSET ? read(cursor.read(offset)) : null;
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
     }
 }
@@ -10,11 +10,27 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.json.JSONTokener;
 
+import sonarscratch.checker.http.Action;
 import sonarscratch.checker.http.ActionException;
 import sonarscratch.checker.http.Client;
 import sonarscratch.checker.http.ClientException;
@@ -23,116 +39,284 @@ import sonarscratch.checker.util.ExceptionUtil;
 
 public class Finder {
     private static final String ATTEMPTS = "attempt(s)";
+    private static final String WAITING_ANALYSIS_FAILED = "Waiting analysis failed";
+    private static final String FINDING_ISSUES_COUNT_FAILED = "Finding issues count failed";
+    private static final String FINDING_ISSUES_FAILED = "Finding issues failed";
+    private static final String TASK_SUCCESS = "SUCCESS";
+    private static final String TASK_PENDING = "PENDING";
+    private static final String TASK_IN_PROGRESS = "IN_PROGRESS";
+    private static final int TASK_HISTORY_SIZE = 10;
+    private static final int TASK_OVERRUN_POLLS = 4;
+    static final long TASK_MIN_POLL_MILLISECONDS = 100;
     public static final int ISSUES_MAX_LIMIT = 500;
+    public static final int ISSUES_SEARCH_WINDOW = 10000;
     private Client client;
     private SystemLogger logger;
+    private int threadsCount;
+    private IssuesQuery query;
+    private SpillStore spillStore;
+    private StringPool stringPool = new StringPool();
+    private String componentsNamespace;
 
-    public Finder(Client client, SystemLogger logger) {
+    public Finder(Client client, SystemLogger logger, int threadsCount, IssuesQuery query, SpillStore spillStore) {
         this.client = client;
         this.logger = logger;
+        this.threadsCount = threadsCount;
+        this.query = query;
+        this.spillStore = spillStore;
+    }
+
+    public Finder(Client client, SystemLogger logger, int threadsCount, IssuesQuery query) {
+        this(client, logger, threadsCount, query, null);
+    }
+
+    public Finder(Client client, SystemLogger logger, int threadsCount) {
+        this(client, logger, threadsCount, new IssuesQuery());
+    }
+
+    public Finder(Client client, SystemLogger logger) {
+        this(client, logger, 1);
+    }
+
+    public void setComponentsNamespace(String value) {
+        componentsNamespace = value;
+    }
+
+    public long getStringPoolSavedBytesCount() {
+        return stringPool.getSavedBytesCount();
     }
 
     public void wait(String baseUrl) throws FinderException {
         logger.info("Waiting analysis");
+        var startNanos = System.nanoTime();
         var done = false;
+        var attempt = 0;
+        long delay = 0;
 
         try {
-            for (var i = 0; i < client.getAttemptsCount() && !done; i++) {
-                logger.info("Waiting analysis : attempt " + (i + 1) + "/" + client.getAttemptsCount());
+            while (!done && delay >= 0) {
+                logger.info("Waiting analysis : attempt " + (attempt + 1) + "/" + client.getAttemptsCount());
 
-                final var activityJsonText = new StringBuilder();
+                done = isActivityDone(getJsonResponse(getActivityStatusUrl(baseUrl), true, WAITING_ANALYSIS_FAILED),
+                        attempt);
+                attempt++;
 
-                client.on(baseUrl + "/api/ce/activity_status", true, (InputStream stream) -> {
-                    try {
-                        fillTextResponse(activityJsonText, stream);
-                    } catch (IOException exception) {
-                        throw new ActionException("Waiting analysis failed", exception);
-                    }
-                });
+                if (!done) {
+                    delay = client.getRetryDelayMilliseconds(attempt, startNanos);
+                    sleep(delay);
+                }
+            }
+        } catch (ClientException | JSONException exception) {
+            throw new FinderException(ExceptionUtil.getDefaultMessage(Finder.class), exception);
+        }
+
+        if (!done) {
+            throw getWaitFailure(attempt);
+        }
+    }
+
+    public void waitTask(String baseUrl, String reportTaskPath) throws FinderException {
+        var task = AnalysisTask.read(reportTaskPath);
 
-                var activityObject = new JSONObject(activityJsonText.toString());
-                var failing = activityObject.getInt("failing");
+        logger.info("Waiting analysis task " + task.getId());
 
-                if (failing != 0) {
-                    throw new FinderException(
-                            "Finding " + failing + " failed activities, resolve failures and restart SonarQube");
+        try {
+            var expectedMilliseconds = getExpectedTaskMilliseconds(baseUrl, task);
+            var startNanos = System.nanoTime();
+            var attempt = 0;
+            long attemptDelay = 0;
+            long attemptWaited = 0;
+
+            while (true) {
+                logger.info("Waiting analysis task : attempt " + (attempt + 1) + "/" + client.getAttemptsCount());
+
+                if (isTaskDone(getJsonResponse(getTaskUrl(baseUrl, task), true, WAITING_ANALYSIS_FAILED), task,
+                        attempt)) {
+                    return;
                 }
 
-                var pending = activityObject.getInt("pending");
-                var inProgress = activityObject.getInt("inProgress");
+                if (attemptWaited >= attemptDelay) {
+                    attempt++;
+                    attemptDelay = client.getRetryDelayMilliseconds(attempt, startNanos);
+                    attemptWaited = 0;
 
-                if (pending + inProgress == 0) {
-                    logger.info("Waiting done after " + (i + 1) + " " + ATTEMPTS);
-                    done = true;
-                } else {
-                    logger.info("Pending activities : " + pending + ", in progress activities : " + inProgress);
+                    if (attemptDelay < 0) {
+                        throw getWaitFailure(attempt);
+                    }
                 }
 
-                logger.info(SystemLogger.BLOCK_END);
-                retry(done);
+                var delay = Math.min(attemptDelay - attemptWaited, getTaskDelayMilliseconds(expectedMilliseconds,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+
+                sleep(delay);
+                attemptWaited += delay;
             }
         } catch (ClientException | JSONException exception) {
             throw new FinderException(ExceptionUtil.getDefaultMessage(Finder.class), exception);
         }
+    }
 
-        if (!done) {
-            logger.err("Waiting analysis : failed after " + client.getAttemptsCount() + " " + ATTEMPTS);
-            logger.err(SystemLogger.BLOCK_END);
-            throw new FinderException("Waiting analysis failed after " + client.getAttemptsCount() + " " + ATTEMPTS);
+    static long getTaskDelayMilliseconds(long expectedMilliseconds, long elapsedMilliseconds) {
+        if (expectedMilliseconds <= 0) {
+            return Long.MAX_VALUE;
         }
+
+        var remainingMilliseconds = expectedMilliseconds - elapsedMilliseconds;
+
+        return Math.max(TASK_MIN_POLL_MILLISECONDS,
+                remainingMilliseconds > 0 ? remainingMilliseconds : expectedMilliseconds / TASK_OVERRUN_POLLS);
     }
 
-    public int count(String baseUrl) throws FinderException {
-        try {
-            logger.info("Finding issues count");
-            final var issuesJsonText = new StringBuilder();
+    private long getExpectedTaskMilliseconds(String baseUrl, AnalysisTask task)
+            throws ClientException, JSONException {
+        if (task.getProjectKey().isEmpty()) {
+            return -1;
+        }
 
-            client.on(baseUrl + "/api/issues/search?pageSize=1&resolved=false", false, (InputStream stream) -> {
-                try {
-                    fillTextResponse(issuesJsonText, stream);
-                } catch (IOException exception) {
-                    throw new ActionException("Finding issues count failed", exception);
-                }
-            });
+        var tasks = getJsonResponse(getTaskHistoryUrl(baseUrl, task), true, WAITING_ANALYSIS_FAILED)
+                .optJSONArray("tasks");
+        long totalMilliseconds = 0;
+        var count = 0;
 
-            var count = new JSONObject(issuesJsonText.toString()).getInt("total");
-            logger.info("Issues count is " + count);
+        for (var i = 0; tasks != null && i < tasks.length(); i++) {
+            var executionMilliseconds = tasks.getJSONObject(i).optLong("executionTimeMs", -1);
+
+            if (executionMilliseconds >= 0) {
+                totalMilliseconds += executionMilliseconds;
+                count++;
+            }
+        }
+
+        if (count == 0) {
+            return -1;
+        }
+
+        logger.info("Expected analysis task duration : " + totalMilliseconds / count + " ms");
+        return totalMilliseconds / count;
+    }
+
+    private boolean isTaskDone(JSONObject taskObject, AnalysisTask task, int attempt)
+            throws FinderException, JSONException {
+        var status = taskObject.getJSONObject("task").getString("status");
+
+        if (TASK_SUCCESS.equals(status)) {
+            logger.info("Waiting done after " + (attempt + 1) + " " + ATTEMPTS);
             logger.info(SystemLogger.BLOCK_END);
+            return true;
+        }
+
+        if (!TASK_PENDING.equals(status) && !TASK_IN_PROGRESS.equals(status)) {
+            throw new FinderException("Analysis task " + task.getId() + " ended with status " + status);
+        }
 
-            return count;
+        logger.info("Analysis task status : " + status);
+        return false;
+    }
+
+    public CompletableFuture<Void> waitAsync(String baseUrl) {
+        var result = new CompletableFuture<Void>();
+
+        logger.info("Waiting analysis");
+        waitAttemptAsync(baseUrl, 0, System.nanoTime(), result);
+
+        return result;
+    }
+
+    private void waitAttemptAsync(String baseUrl, int attempt, long startNanos, CompletableFuture<Void> result) {
+        logger.info("Waiting analysis : attempt " + (attempt + 1) + "/" + client.getAttemptsCount());
+
+        getResponseAsync(getActivityStatusUrl(baseUrl), true, WAITING_ANALYSIS_FAILED, Finder::parseJsonObject)
+                .whenComplete((activityObject, exception) -> {
+                    try {
+                        if (exception != null) {
+                            throw getFinderException(exception);
+                        }
+
+                        if (isActivityDone(activityObject, attempt)) {
+                            result.complete(null);
+                            return;
+                        }
+
+                        var delay = client.getRetryDelayMilliseconds(attempt + 1, startNanos);
+
+                        if (delay < 0) {
+                            throw getWaitFailure(attempt + 1);
+                        }
+
+                        client.delayAsync(delay)
+                                .thenRun(() -> waitAttemptAsync(baseUrl, attempt + 1, startNanos, result));
+                    } catch (FinderException | JSONException | RuntimeException failure) {
+                        result.completeExceptionally(getFinderException(failure));
+                    }
+                });
+    }
+
+    private boolean isActivityDone(JSONObject activityObject, int attempt) throws FinderException, JSONException {
+        var failing = activityObject.getInt("failing");
+
+        if (failing != 0) {
+            throw new FinderException(
+                    "Finding " + failing + " failed activities, resolve failures and restart SonarQube");
+        }
+
+        var pending = activityObject.getInt("pending");
+        var inProgress = activityObject.getInt("inProgress");
+        var done = pending + inProgress == 0;
+
+        if (done) {
+            logger.info("Waiting done after " + (attempt + 1) + " " + ATTEMPTS);
+        } else {
+            logger.info("Pending activities : " + pending + ", in progress activities : " + inProgress);
+        }
+
+        logger.info(SystemLogger.BLOCK_END);
+
+        return done;
+    }
+
+    private FinderException getWaitFailure(int attemptsCount) {
+        logger.err("Waiting analysis : failed after " + attemptsCount + " " + ATTEMPTS);
+        logger.err(SystemLogger.BLOCK_END);
+
+        return new FinderException("Waiting analysis failed after " + attemptsCount + " " + ATTEMPTS);
+    }
+
+    public int count(String baseUrl) throws FinderException {
+        try {
+            logger.info("Finding issues count");
+            return getCount(search(getCountUrl(baseUrl), false, FINDING_ISSUES_COUNT_FAILED));
         } catch (ClientException | JSONException exception) {
             throw new FinderException(ExceptionUtil.getDefaultMessage(Finder.class), exception);
         }
     }
 
-    public FinderResult find(String baseUrl, int limit) throws FinderException {
-        try {
-            if (limit < 0) {
-                limit = -1;
-            }
+    public CompletableFuture<Integer> countAsync(String baseUrl) {
+        logger.info("Finding issues count");
 
-            if (limit > ISSUES_MAX_LIMIT) {
-                throw new FinderException("'limit' argument cannot be greater than " + ISSUES_MAX_LIMIT);
+        return searchAsync(getCountUrl(baseUrl), false, FINDING_ISSUES_COUNT_FAILED).handle((response, exception) -> {
+            if (exception != null) {
+                throw new CompletionException(getFinderException(exception));
             }
 
-            logger.info("Finding issues");
-            final var issuesJsonText = new StringBuilder();
-
-            client.on(baseUrl + "/api/issues/search?pageSize=" + limit + "&resolved=false", false,
-                    (InputStream stream) -> {
-                        try {
-                            fillTextResponse(issuesJsonText, stream);
-                        } catch (IOException exception) {
-                            throw new ActionException("Finding issues failed", exception);
-                        }
-                    });
+            return getCount(response);
+        });
+    }
 
-            var jsonObject = new JSONObject(issuesJsonText.toString());
-            var issuesCollection = getIssuesCollection(jsonObject);
-            logger.info("Found " + issuesCollection.count() + " issues");
-            logger.info(SystemLogger.BLOCK_END);
+    private int getCount(SearchResponse response) {
+        var count = response.getIssuesCollection().total();
+
+        logger.info("Issues count is " + count);
+        logger.info(SystemLogger.BLOCK_END);
+
+        return count;
+    }
+
+    public FinderResult find(String baseUrl, int limit) throws FinderException {
+        try {
+            var url = getFindUrl(baseUrl, limit);
 
-            return new FinderResult(issuesCollection, getComponentsCollection(jsonObject));
+            logger.info("Finding issues");
+            return getFinderResult(search(url, true, FINDING_ISSUES_FAILED));
         } catch (ClientException | JSONException exception) {
             throw new FinderException(ExceptionUtil.getDefaultMessage(Finder.class), exception);
         }
@@ -142,48 +326,282 @@ public class Finder {
         return find(baseUrl, -1);
     }
 
-    private static IssuesCollection getIssuesCollection(JSONObject jsonObject) throws JSONException {
-        var issuesCollection = new IssuesCollection(jsonObject.getInt("total"));
-        var jsonObjectIssues = jsonObject.getJSONArray("issues");
-        var count = jsonObjectIssues.length();
+    public CompletableFuture<FinderResult> findAsync(String baseUrl, int limit) {
+        String url;
 
-        for (var i = 0; i < count; i++) {
-            issuesCollection.addIssue(jsonObjectIssues.getJSONObject(i));
+        try {
+            url = getFindUrl(baseUrl, limit);
+        } catch (FinderException exception) {
+            return CompletableFuture.failedFuture(exception);
         }
 
-        return issuesCollection;
+        logger.info("Finding issues");
+
+        return searchAsync(url, true, FINDING_ISSUES_FAILED).handle((response, exception) -> {
+            if (exception != null) {
+                throw new CompletionException(getFinderException(exception));
+            }
+
+            return getFinderResult(response);
+        });
     }
 
-    private static ComponentsCollection getComponentsCollection(JSONObject jsonObject) throws JSONException {
-        var componentsCollection = new ComponentsCollection();
-        var jsonObjectComponents = jsonObject.getJSONArray("components");
-        var count = jsonObjectComponents.length();
+    public CompletableFuture<FinderResult> findAsync(String baseUrl) {
+        return findAsync(baseUrl, -1);
+    }
 
-        for (var i = 0; i < count; i++) {
-            componentsCollection.addComponent(jsonObjectComponents.getJSONObject(i));
+    private String getFindUrl(String baseUrl, int limit) throws FinderException {
+        if (limit > ISSUES_MAX_LIMIT) {
+            throw new FinderException("'limit' argument cannot be greater than " + ISSUES_MAX_LIMIT);
         }
 
-        return componentsCollection;
+        return baseUrl + "/api/issues/search?pageSize=" + Math.max(limit, -1) + "&resolved=false" + query.getFilters();
+    }
+
+    private FinderResult getFinderResult(SearchResponse response) {
+        logger.info("Found " + response.getIssuesCollection().count() + " issues");
+        logger.info(SystemLogger.BLOCK_END);
+
+        return new FinderResult(response.getIssuesCollection(), response.getComponentsCollection());
+    }
+
+    public FinderResult findAll(String baseUrl) throws FinderException {
+        var harvest = new FinderHarvest(true, spillStore);
+
+        findAll(baseUrl, harvest, null);
+        return new FinderResult(harvest.getIssuesCollection(), harvest.getComponentsCollection());
     }
 
-    private static void fillTextResponse(StringBuilder stringBuilder, InputStream stream) throws IOException {
-        var bufferedReader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    public FinderStream findAllStream(String baseUrl, int pagesCapacity) {
+        var stream = new FinderStream(pagesCapacity);
+        var thread = new Thread(() -> {
+            try {
+                findAll(baseUrl, new FinderHarvest(false), stream);
+                stream.close();
+            } catch (FinderException exception) {
+                stream.fail(exception);
+            } catch (RuntimeException exception) {
+                stream.fail(new FinderException(ExceptionUtil.getDefaultMessage(Finder.class), exception));
+            }
+        }, "sonarscratch-checker-finder");
+
+        thread.setDaemon(true);
+        stream.start(thread);
+        return stream;
+    }
+
+    private void findAll(String baseUrl, FinderHarvest harvest, FinderStream stream) throws FinderException {
+        ExecutorService executor = null;
 
         try {
-            int c;
-            while ((c = bufferedReader.read()) != -1) {
-                stringBuilder.append((char) c);
+            logger.info("Finding all issues");
+
+            if (threadsCount > 1) {
+                executor = Executors.newFixedThreadPool(threadsCount);
             }
 
+            do {
+                harvestWindow(baseUrl, harvest, executor, stream);
+            } while (harvest.nextWindow());
+
+            logger.info("Found " + harvest.getIssuesCount() + " issues");
+            logger.info(SystemLogger.BLOCK_END);
+        } catch (ClientException | JSONException exception) {
+            throw new FinderException(ExceptionUtil.getDefaultMessage(Finder.class), exception);
+        } catch (UncheckedIOException exception) {
+            throw new FinderException(ExceptionUtil.getDefaultMessage(Finder.class), exception.getCause());
         } finally {
-            bufferedReader.close();
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private void harvestWindow(String baseUrl, FinderHarvest harvest, ExecutorService executor,
+            FinderStream stream) throws ClientException, JSONException, FinderException {
+        var createdAfter = harvest.getCreatedAfter();
+        var firstPage = getPage(submitPage(executor, baseUrl, 1, createdAfter));
+        var windowTotal = firstPage.getIssuesCollection().total();
+        var pagesCount = Math.min((windowTotal + ISSUES_MAX_LIMIT - 1) / ISSUES_MAX_LIMIT,
+                ISSUES_SEARCH_WINDOW / ISSUES_MAX_LIMIT);
+
+        addPage(harvest, firstPage, 1, stream);
+
+        var pendingPages = new ArrayDeque<Future<SearchResponse>>();
+        var nextPageIndex = 2;
+
+        for (var pageIndex = 2; pageIndex <= pagesCount; pageIndex++) {
+            while (nextPageIndex <= pagesCount && pendingPages.size() < Math.max(threadsCount, 1)) {
+                pendingPages.add(submitPage(executor, baseUrl, nextPageIndex, createdAfter));
+                nextPageIndex++;
+            }
+
+            addPage(harvest, getPage(pendingPages.poll()), pageIndex, stream);
+        }
+
+        harvest.setWindowTruncated(windowTotal > pagesCount * ISSUES_MAX_LIMIT);
+    }
+
+    private void addPage(FinderHarvest harvest, SearchResponse page, int pageIndex, FinderStream stream)
+            throws FinderException {
+        var harvestedPage = harvest.addPage(page);
+
+        logger.info(() -> "Found " + harvest.getIssuesCount() + "/" + harvestedPage.getIssuesCollection().total()
+                + " issues (page " + pageIndex + ")");
+
+        if (stream != null) {
+            stream.put(harvestedPage);
+        }
+    }
+
+    private Future<SearchResponse> submitPage(ExecutorService executor, String baseUrl, int pageIndex,
+            String createdAfter) {
+        Callable<SearchResponse> page = () -> search(getSearchUrl(baseUrl, pageIndex, createdAfter), true,
+                FINDING_ISSUES_FAILED);
+
+        if (executor != null) {
+            return executor.submit(page);
+        }
+
+        var task = new FutureTask<>(page);
+        task.run();
+
+        return task;
+    }
+
+    private static SearchResponse getPage(Future<SearchResponse> page)
+            throws ClientException, JSONException, FinderException {
+        try {
+            return page.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new FinderException("Finding issues interrupted", exception);
+        } catch (ExecutionException exception) {
+            var cause = exception.getCause();
+
+            if (cause instanceof ClientException) {
+                throw (ClientException) cause;
+            }
+
+            if (cause instanceof JSONException) {
+                throw (JSONException) cause;
+            }
+
+            throw new FinderException(ExceptionUtil.getDefaultMessage(Finder.class), cause);
+        }
+    }
+
+    private String getSearchUrl(String baseUrl, int pageIndex, String createdAfter) {
+        return baseUrl + "/api/issues/search?pageSize=" + ISSUES_MAX_LIMIT + "&pageIndex=" + pageIndex
+                + "&resolved=false&s=CREATION_DATE&asc=true" + query.getFilters(createdAfter);
+    }
+
+    private static String getActivityStatusUrl(String baseUrl) {
+        return baseUrl + "/api/ce/activity_status";
+    }
+
+    private static String getTaskUrl(String baseUrl, AnalysisTask task) {
+        return baseUrl + "/api/ce/task?id=" + URLEncoder.encode(task.getId(), StandardCharsets.UTF_8);
+    }
+
+    private static String getTaskHistoryUrl(String baseUrl, AnalysisTask task) {
+        return baseUrl + "/api/ce/activity?status=" + TASK_SUCCESS + "&ps=" + TASK_HISTORY_SIZE + "&component="
+                + URLEncoder.encode(task.getProjectKey(), StandardCharsets.UTF_8);
+    }
+
+    private String getCountUrl(String baseUrl) {
+        return baseUrl + "/api/issues/search?pageSize=1&resolved=false" + query.getFilters();
+    }
+
+    private static FinderException getFinderException(Throwable exception) {
+        var cause = exception instanceof CompletionException && exception.getCause() != null ? exception.getCause()
+                : exception;
+
+        if (cause instanceof FinderException) {
+            return (FinderException) cause;
+        }
+
+        return new FinderException(ExceptionUtil.getDefaultMessage(Finder.class), cause);
+    }
+
+    private static JSONObject parseJsonObject(Reader reader) throws JSONException {
+        return new JSONObject(new JSONTokener(reader));
+    }
+
+    private JSONObject getJsonResponse(String url, boolean asAdmin, String failureMessage)
+            throws ClientException, JSONException {
+        return getResponse(url, asAdmin, failureMessage, Finder::parseJsonObject);
+    }
+
+    private SearchResponse search(String url, boolean requireIssues, String failureMessage)
+            throws ClientException, JSONException {
+        return getResponse(url, false, failureMessage, getSearchParser(requireIssues));
+    }
+
+    private CompletableFuture<SearchResponse> searchAsync(String url, boolean requireIssues, String failureMessage) {
+        return getResponseAsync(url, false, failureMessage, getSearchParser(requireIssues));
+    }
+
+    private ResponseParser<SearchResponse> getSearchParser(boolean requireIssues) {
+        return reader -> {
+            var response = new SearchResponse(stringPool, componentsNamespace);
+
+            SearchResponseParser.parse(reader, response, requireIssues);
+            return response;
+        };
+    }
+
+    private <T> T getResponse(String url, boolean asAdmin, String failureMessage, ResponseParser<T> parser)
+            throws ClientException, JSONException {
+        var response = new AtomicReference<T>();
+        var parseException = new AtomicReference<JSONException>();
+
+        client.on(url, asAdmin, getResponseAction(response, parseException, failureMessage, parser));
+
+        if (parseException.get() != null) {
+            throw parseException.get();
         }
+
+        return response.get();
+    }
+
+    private <T> CompletableFuture<T> getResponseAsync(String url, boolean asAdmin, String failureMessage,
+            ResponseParser<T> parser) {
+        var response = new AtomicReference<T>();
+        var parseException = new AtomicReference<JSONException>();
+
+        return client.onAsync(url, asAdmin, getResponseAction(response, parseException, failureMessage, parser))
+                .thenApply(ignored -> {
+                    if (parseException.get() != null) {
+                        throw new CompletionException(parseException.get());
+                    }
+
+                    return response.get();
+                });
+    }
+
+    private static <T> Action getResponseAction(AtomicReference<T> response,
+            AtomicReference<JSONException> parseException, String failureMessage, ResponseParser<T> parser) {
+        return (InputStream stream) -> {
+            try (var reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+                response.set(parser.parse(reader));
+                parseException.set(null);
+            } catch (IOException exception) {
+                throw new ActionException(failureMessage, exception);
+            } catch (JSONException exception) {
+                if (exception.getCause() instanceof IOException) {
+                    throw new ActionException(failureMessage, exception.getCause());
+                }
+
+                parseException.set(exception);
+            }
+        };
     }
 
-    private void retry(boolean done) {
+    private static void sleep(long delayMilliseconds) {
         try {
-            if (!done && client.getAttemptSleepMilliseconds() > 0) {
-                Thread.sleep(client.getAttemptSleepMilliseconds());
+            if (delayMilliseconds > 0) {
+                Thread.sleep(delayMilliseconds);
             }
         } catch (InterruptedException exception) {
             Thread.currentThread().interrupt();
@@ -0,0 +1,123 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import java.util.HashSet;
+
+class FinderHarvest {
+    private boolean retained;
+    private SpillStore store;
+    private IssuesCollection issuesCollection;
+    private ComponentsCollection componentsCollection;
+    private HashSet<String> componentKeys = new HashSet<>();
+    private HashSet<String> boundaryKeys = new HashSet<>();
+    private HashSet<String> lastDateKeys = new HashSet<>();
+    private String createdAfter;
+    private String lastCreationDate;
+    private boolean windowTruncated;
+    private int issuesCount;
+
+    FinderHarvest(boolean retained, SpillStore store) {
+        this.retained = retained;
+        this.store = store;
+        this.componentsCollection = store != null ? new ComponentsCollection(store) : new ComponentsCollection();
+    }
+
+    FinderHarvest(boolean retained) {
+        this(retained, null);
+    }
+
+    FinderResult addPage(SearchResponse page) {
+        if (issuesCollection == null) {
+            var total = page.getIssuesCollection().total();
+
+            issuesCollection = store != null ? new IssuesCollection(total, store) : new IssuesCollection(total);
+        }
+
+        var pageIssues = new IssuesCollection(issuesCollection.total());
+        var pageComponents = new ComponentsCollection();
+
+        for (var issue : page.getIssuesCollection()) {
+            if (addIssue(issue)) {
+                pageIssues.addIssue(issue);
+            }
+        }
+
+        for (var component : page.getComponentsCollection()) {
+            if (componentKeys.add(component.getKey())) {
+                pageComponents.addComponent(component);
+
+                if (retained) {
+                    componentsCollection.addComponent(component);
+                }
+            }
+        }
+
+        return new FinderResult(pageIssues, pageComponents);
+    }
+
+    private boolean addIssue(SonarIssue issue) {
+        var key = issue.getKey();
+
+        if (boundaryKeys.contains(key)) {
+            return false;
+        }
+
+        var creationDate = issue.getCreationDate();
+
+        if (!creationDate.equals(lastCreationDate)) {
+            lastCreationDate = creationDate;
+            lastDateKeys = new HashSet<>();
+        }
+
+        lastDateKeys.add(key);
+        issuesCount++;
+
+        if (retained) {
+            issuesCollection.addIssue(issue);
+        }
+
+        return true;
+    }
+
+    int getIssuesCount() {
+        return issuesCount;
+    }
+
+    boolean nextWindow() throws FinderException {
+        if (!windowTruncated) {
+            return false;
+        }
+
+        if (lastCreationDate == null || lastCreationDate.isEmpty() || lastCreationDate.equals(createdAfter)) {
+            throw new FinderException("More than " + Finder.ISSUES_SEARCH_WINDOW
+                    + " issues share the creation date '" + lastCreationDate + "', unable to split search");
+        }
+
+        createdAfter = lastCreationDate;
+        boundaryKeys = lastDateKeys;
+        windowTruncated = false;
+
+        return true;
+    }
+
+    IssuesCollection getIssuesCollection() {
+        return issuesCollection;
+    }
+
+    ComponentsCollection getComponentsCollection() {
+        return componentsCollection;
+    }
+
+    String getCreatedAfter() {
+        return createdAfter;
+    }
+
+    void setWindowTruncated(boolean value) {
+        windowTruncated = value;
+    }
+}
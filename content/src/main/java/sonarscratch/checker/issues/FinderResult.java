@@ -6,6 +6,8 @@
 
 package sonarscratch.checker.issues;
 
+import java.util.List;
+
 public class FinderResult {
     private IssuesCollection issuesCollection;
     private ComponentsCollection componentsCollection;
@@ -22,4 +24,27 @@ public class FinderResult {
     public ComponentsCollection getComponentsCollection() {
         return componentsCollection;
     }
+
+    public static FinderResult merge(List<FinderResult> finderResults) {
+        if (finderResults.size() == 1) {
+            return finderResults.get(0);
+        }
+
+        var total = 0;
+
+        for (var finderResult : finderResults) {
+            total += finderResult.getIssuesCollection().total();
+        }
+
+        var store = finderResults.get(0).getIssuesCollection().getSpillStore();
+        var issuesCollection = store != null ? new IssuesCollection(total, store) : new IssuesCollection(total);
+        var componentsCollection = store != null ? new ComponentsCollection(store) : new ComponentsCollection();
+
+        for (var finderResult : finderResults) {
+            issuesCollection.addAll(finderResult.getIssuesCollection());
+            componentsCollection.addAll(finderResult.getComponentsCollection());
+        }
+
+        return new FinderResult(issuesCollection, componentsCollection);
+    }
 }
@@ -0,0 +1,102 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+public class FinderStream {
+    private static final FinderResult END = new FinderResult(null, null);
+    private ArrayBlockingQueue<FinderResult> pages;
+    private FinderResult head;
+    private volatile FinderException failure;
+    private volatile Thread producer;
+    private boolean ended;
+    private long takenIssuesCount;
+
+    FinderStream(int pagesCapacity) {
+        this.pages = new ArrayBlockingQueue<>(pagesCapacity);
+    }
+
+    public synchronized FinderResult peek() throws FinderException {
+        if (head == null && !ended) {
+            head = takePage();
+        }
+
+        return head;
+    }
+
+    public synchronized FinderResult take() throws FinderException {
+        var page = peek();
+
+        head = null;
+
+        if (page != null) {
+            takenIssuesCount += page.getIssuesCollection().count();
+        }
+
+        return page;
+    }
+
+    public synchronized long getTakenIssuesCount() {
+        return takenIssuesCount;
+    }
+
+    public void cancel() {
+        var thread = producer;
+
+        if (thread != null) {
+            thread.interrupt();
+        }
+
+        pages.clear();
+    }
+
+    void start(Thread thread) {
+        producer = thread;
+        thread.start();
+    }
+
+    void put(FinderResult page) throws FinderException {
+        try {
+            pages.put(page);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new FinderException("Finding issues interrupted", exception);
+        }
+    }
+
+    void close() throws FinderException {
+        put(END);
+    }
+
+    void fail(FinderException exception) {
+        failure = exception;
+        pages.clear();
+        pages.offer(END);
+    }
+
+    private FinderResult takePage() throws FinderException {
+        try {
+            var page = pages.take();
+
+            if (page == END) {
+                ended = true;
+
+                if (failure != null) {
+                    throw failure;
+                }
+
+                return null;
+            }
+
+            return page;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new FinderException("Finding issues interrupted", exception);
+        }
+    }
+}
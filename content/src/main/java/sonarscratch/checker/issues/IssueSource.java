@@ -0,0 +1,13 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import java.io.IOException;
+
+interface IssueSource {
+    String read() throws IOException;
+}
@@ -0,0 +1,21 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+public enum IssueType {
+    CODE_SMELL, BUG, VULNERABILITY, SECURITY_HOTSPOT;
+
+    static IssueType from(String name) {
+        for (var type : values()) {
+            if (type.name().equals(name)) {
+                return type;
+            }
+        }
+
+        return null;
+    }
+}
@@ -6,16 +6,38 @@
 
 package sonarscratch.checker.issues;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import org.json.JSONObject;
 
-public class IssuesCollection implements Iterable<JSONObject> {
-    private ArrayList<JSONObject> list = new ArrayList<>();
+public class IssuesCollection implements Iterable<SonarIssue> {
+    private static final int INITIAL_OFFSETS_COUNT = 1024;
+    private static final String[] RECORD_FIELDS = {"key", "rule", "severity", "type", "component", "project",
+        "message", "creationDate", "updateDate"};
+    private ArrayList<SonarIssue> list;
+    private SpillStore store;
+    private long[] offsets;
+    private int spilledCount;
     private int total;
 
     public IssuesCollection(int total) {
+        this.list = new ArrayList<>();
+        this.total = total;
+    }
+
+    public IssuesCollection(int total, SpillStore store) {
+        this.store = store;
+        this.offsets = new long[INITIAL_OFFSETS_COUNT];
         this.total = total;
     }
 
@@ -23,15 +45,131 @@ public class IssuesCollection implements Iterable<JSONObject> {
         return total;
     }
 
+    void setTotal(int value) {
+        total = value;
+    }
+
+    public void addIssue(SonarIssue issue) {
+        if (store == null) {
+            list.add(issue);
+            return;
+        }
+
+        if (spilledCount == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+
+        try {
+            var sourceOffset = store.append(issue.readSource().getBytes(StandardCharsets.UTF_8));
+
+            offsets[spilledCount] = store.append(write(issue, sourceOffset));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        spilledCount++;
+    }
+
     public void addIssue(JSONObject issue) {
-        list.add(issue);
+        addIssue(new SonarIssue(issue));
+    }
+
+    void addAll(IssuesCollection issues) {
+        if (store == null || issues.store != store) {
+            issues.forEach(this::addIssue);
+            return;
+        }
+
+        if (spilledCount + issues.spilledCount > offsets.length) {
+            offsets = Arrays.copyOf(offsets, Math.max(offsets.length * 2, spilledCount + issues.spilledCount));
+        }
+
+        System.arraycopy(issues.offsets, 0, offsets, spilledCount, issues.spilledCount);
+        spilledCount += issues.spilledCount;
     }
 
     public int count() {
-        return list.size();
+        return store == null ? list.size() : spilledCount;
+    }
+
+    public boolean spilled() {
+        return store != null;
     }
 
-    public Iterator<JSONObject> iterator() {
-        return list.iterator();
+    SpillStore getSpillStore() {
+        return store;
+    }
+
+    public Iterator<SonarIssue> iterator() {
+        return store == null ? list.iterator() : new SpilledIterator();
+    }
+
+    private static byte[] write(SonarIssue issue, long sourceOffset) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+
+        try (var output = new DataOutputStream(bytes)) {
+            output.writeLong(sourceOffset);
+            output.writeUTF(issue.getKey());
+            output.writeUTF(issue.getRule());
+            output.writeUTF(issue.getSeverityName());
+            output.writeUTF(issue.getTypeName());
+            output.writeUTF(issue.getComponent());
+            output.writeUTF(issue.getProject());
+            output.writeUTF(issue.getMessage());
+            output.writeUTF(issue.getCreationDate());
+            output.writeUTF(issue.getUpdateDate());
+            output.writeBoolean(issue.hasTextRange());
+            output.writeInt(issue.getStartLine());
+            output.writeInt(issue.getEndLine());
+            output.writeInt(issue.getStartOffset());
+            output.writeInt(issue.getEndOffset());
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private static SonarIssue read(byte[] record, SpillStore store) throws IOException {
+        try (var input = new DataInputStream(new ByteArrayInputStream(record))) {
+            var issue = new SonarIssue();
+            var sourceOffset = input.readLong();
+
+            for (var field : RECORD_FIELDS) {
+                issue.setField(field, input.readUTF());
+            }
+
+            if (input.readBoolean()) {
+                issue.setTextRange(input.readInt(), input.readInt(), input.readInt(), input.readInt());
+            }
+
+            issue.setSource(() -> new String(store.read(sourceOffset), StandardCharsets.UTF_8));
+            return issue;
+        }
+    }
+
+    private final class SpilledIterator implements Iterator<SonarIssue> {
+        private SpillStore.Cursor cursor = store.cursor();
+        private StringPool pool = new StringPool();
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < spilledCount;
+        }
+
+        @Override
+        public SonarIssue next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            try {
+                var issue = read(cursor.read(offsets[index++]), store);
+
+                issue.intern(pool);
+                return issue;
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
     }
 }
@@ -0,0 +1,74 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class IssuesQuery {
+    private List<String> projects = new ArrayList<>();
+    private List<String> severities = new ArrayList<>();
+    private List<String> types = new ArrayList<>();
+    private String branch;
+    private String pullRequest;
+    private String createdAfter;
+
+    public IssuesQuery projects(List<String> value) {
+        projects = new ArrayList<>(value);
+        return this;
+    }
+
+    public IssuesQuery severities(List<String> value) {
+        severities = new ArrayList<>(value);
+        return this;
+    }
+
+    public IssuesQuery types(List<String> value) {
+        types = new ArrayList<>(value);
+        return this;
+    }
+
+    public IssuesQuery branch(String value) {
+        branch = value;
+        return this;
+    }
+
+    public IssuesQuery pullRequest(String value) {
+        pullRequest = value;
+        return this;
+    }
+
+    public IssuesQuery createdAfter(String value) {
+        createdAfter = value;
+        return this;
+    }
+
+    String getFilters() {
+        return getFilters(null);
+    }
+
+    String getFilters(String windowCreatedAfter) {
+        var filters = new StringBuilder();
+
+        appendFilter(filters, "componentKeys", String.join(",", projects));
+        appendFilter(filters, "severities", String.join(",", severities));
+        appendFilter(filters, "types", String.join(",", types));
+        appendFilter(filters, "branch", branch);
+        appendFilter(filters, "pullRequest", pullRequest);
+        appendFilter(filters, "createdAfter", windowCreatedAfter != null ? windowCreatedAfter : createdAfter);
+
+        return filters.toString();
+    }
+
+    private static void appendFilter(StringBuilder filters, String name, String value) {
+        if (value != null && !value.isEmpty()) {
+            filters.append('&').append(name).append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import java.io.Reader;
+
+import org.json.JSONException;
+
+@FunctionalInterface
+interface ResponseParser<T> {
+    T parse(Reader reader) throws JSONException;
+}
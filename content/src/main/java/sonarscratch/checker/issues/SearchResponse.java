@@ -0,0 +1,55 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+class SearchResponse implements SearchResponseHandler {
+    private IssuesCollection issuesCollection = new IssuesCollection(0);
+    private ComponentsCollection componentsCollection = new ComponentsCollection();
+    private StringPool pool;
+    private String componentsNamespace;
+
+    SearchResponse(StringPool pool, String componentsNamespace) {
+        this.pool = pool;
+        this.componentsNamespace = componentsNamespace;
+    }
+
+    SearchResponse() {
+        this(new StringPool(), null);
+    }
+
+    @Override
+    public void total(int total) {
+        issuesCollection.setTotal(total);
+    }
+
+    @Override
+    public void issue(SonarIssue issue) {
+        if (componentsNamespace != null) {
+            issue.setField("component", componentsNamespace + issue.getComponent());
+        }
+
+        issue.intern(pool);
+        issuesCollection.addIssue(issue);
+    }
+
+    @Override
+    public void component(SonarComponent component) {
+        if (componentsNamespace != null) {
+            component.setField("key", componentsNamespace + component.getKey());
+        }
+
+        componentsCollection.addComponent(component);
+    }
+
+    IssuesCollection getIssuesCollection() {
+        return issuesCollection;
+    }
+
+    ComponentsCollection getComponentsCollection() {
+        return componentsCollection;
+    }
+}
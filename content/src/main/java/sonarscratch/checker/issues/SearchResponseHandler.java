@@ -0,0 +1,15 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+interface SearchResponseHandler {
+    void total(int total);
+
+    void issue(SonarIssue issue);
+
+    void component(SonarComponent component);
+}
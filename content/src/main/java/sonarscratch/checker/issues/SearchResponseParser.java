@@ -0,0 +1,173 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import java.io.Reader;
+import java.util.HashSet;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+final class SearchResponseParser {
+    private SearchResponseParser() {
+    }
+
+    static void parse(Reader reader, SearchResponseHandler handler, boolean requireIssues) throws JSONException {
+        var page = new SourcePage();
+        var capturingReader = new CapturingReader(reader, page);
+        var tokener = new JSONTokener(capturingReader);
+        var found = new HashSet<String>();
+
+        if (tokener.nextClean() != '{') {
+            throw tokener.syntaxError("A JSONObject text must begin with '{'");
+        }
+
+        try {
+            parseMembers(tokener, key -> {
+                if ("total".equals(key)) {
+                    handler.total(getInt(key, tokener.nextValue()));
+                } else if ("issues".equals(key)) {
+                    parseArray(tokener, key, first -> handler.issue(parseIssue(tokener, capturingReader, first)));
+                } else if ("components".equals(key)) {
+                    parseArray(tokener, key, first -> handler.component(parseComponent(tokener)));
+                } else {
+                    tokener.nextValue();
+                    return;
+                }
+
+                found.add(key);
+            });
+        } finally {
+            page.close();
+        }
+
+        checkKey(found.contains("total"), "total");
+        checkKey(found.contains("issues") || !requireIssues, "issues");
+        checkKey(found.contains("components") || !requireIssues, "components");
+    }
+
+    private static SonarIssue parseIssue(JSONTokener tokener, CapturingReader capturingReader, char first)
+            throws JSONException {
+        var issue = new SonarIssue();
+
+        capturingReader.startCapture(first);
+        parseMembers(tokener, key -> {
+            var value = tokener.nextValue();
+
+            if (SonarIssue.isField(key)) {
+                issue.setField(key, getString(value));
+            } else if ("textRange".equals(key) && value instanceof JSONObject) {
+                issue.setTextRange((JSONObject) value);
+            }
+        });
+        issue.setSource(capturingReader.endCapture());
+        return issue;
+    }
+
+    private static SonarComponent parseComponent(JSONTokener tokener) throws JSONException {
+        var component = new SonarComponent();
+
+        parseMembers(tokener, key -> {
+            var value = tokener.nextValue();
+
+            if (SonarComponent.isField(key)) {
+                component.setField(key, getString(value));
+            }
+        });
+        return component;
+    }
+
+    private static void parseMembers(JSONTokener tokener, MemberParser parser) throws JSONException {
+        var c = tokener.nextClean();
+
+        while (c != '}') {
+            tokener.back();
+
+            var key = tokener.nextValue().toString();
+
+            if (tokener.nextClean() != ':') {
+                throw tokener.syntaxError("Expected a ':' after a key");
+            }
+
+            parser.parse(key);
+            c = nextMember(tokener);
+        }
+    }
+
+    private static char nextMember(JSONTokener tokener) throws JSONException {
+        switch (tokener.nextClean()) {
+        case ',':
+            return tokener.nextClean();
+        case '}':
+            return '}';
+        default:
+            throw tokener.syntaxError("Expected a ',' or '}'");
+        }
+    }
+
+    private static void parseArray(JSONTokener tokener, String key, ItemParser parser) throws JSONException {
+        if (tokener.nextClean() != '[') {
+            throw new JSONException("JSONObject[" + JSONObject.quote(key) + "] is not a JSONArray.");
+        }
+
+        var c = tokener.nextClean();
+
+        if (c == ']') {
+            return;
+        }
+
+        while (true) {
+            if (c != '{') {
+                throw new JSONException("JSONArray[" + JSONObject.quote(key) + "] item is not a JSONObject.");
+            }
+
+            parser.parse(c);
+
+            switch (tokener.nextClean()) {
+            case ',':
+                c = tokener.nextClean();
+
+                if (c == ']') {
+                    return;
+                }
+
+                break;
+            case ']':
+                return;
+            default:
+                throw tokener.syntaxError("Expected a ',' or ']'");
+            }
+        }
+    }
+
+    private static String getString(Object value) {
+        return JSONObject.NULL.equals(value) ? "" : value.toString();
+    }
+
+    private static int getInt(String key, Object value) throws JSONException {
+        try {
+            return value instanceof Number ? ((Number) value).intValue() : Integer.parseInt(value.toString());
+        } catch (NumberFormatException exception) {
+            throw new JSONException("JSONObject[" + JSONObject.quote(key) + "] is not a number.");
+        }
+    }
+
+    private static void checkKey(boolean found, String key) throws JSONException {
+        if (!found) {
+            throw new JSONException("JSONObject[" + JSONObject.quote(key) + "] not found.");
+        }
+    }
+
+    private interface MemberParser {
+        void parse(String key) throws JSONException;
+    }
+
+    private interface ItemParser {
+        void parse(char first) throws JSONException;
+    }
+}
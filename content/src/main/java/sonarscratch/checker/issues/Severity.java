@@ -0,0 +1,21 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+public enum Severity {
+    INFO, MINOR, MAJOR, CRITICAL, BLOCKER;
+
+    static Severity from(String name) {
+        for (var severity : values()) {
+            if (severity.name().equals(name)) {
+                return severity;
+            }
+        }
+
+        return null;
+    }
+}
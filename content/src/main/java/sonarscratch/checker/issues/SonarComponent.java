@@ -0,0 +1,65 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import java.util.Set;
+
+import org.json.JSONObject;
+
+public class SonarComponent {
+    private static final Set<String> FIELDS = Set.of("key", "name", "longName");
+    private String key = "";
+    private String name = "";
+    private String longName = "";
+
+    public SonarComponent(JSONObject jsonObject) {
+        for (var field : FIELDS) {
+            setField(field, jsonObject.optString(field));
+        }
+    }
+
+    SonarComponent() {
+    }
+
+    SonarComponent(String key, String name, String longName) {
+        this.key = key;
+        this.name = name;
+        this.longName = longName;
+    }
+
+    static boolean isField(String name) {
+        return FIELDS.contains(name);
+    }
+
+    void setField(String name, String value) {
+        switch (name) {
+        case "key":
+            key = value;
+            break;
+        case "name":
+            this.name = value;
+            break;
+        case "longName":
+            longName = value;
+            break;
+        default:
+            break;
+        }
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLongName() {
+        return longName;
+    }
+}
@@ -0,0 +1,206 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+public class SonarIssue {
+    private static final Set<String> FIELDS = Set.of("key", "rule", "severity", "type", "component", "project",
+            "message", "creationDate", "updateDate");
+    private String key = "";
+    private String rule = "";
+    private Severity severity;
+    private String severityName = "";
+    private IssueType type;
+    private String typeName = "";
+    private String component = "";
+    private String project = "";
+    private String message = "";
+    private String creationDate = "";
+    private String updateDate = "";
+    private boolean textRange;
+    private int startLine;
+    private int endLine;
+    private int startOffset;
+    private int endOffset;
+    private IssueSource source;
+
+    public SonarIssue(JSONObject jsonObject) {
+        for (var field : FIELDS) {
+            setField(field, jsonObject.optString(field));
+        }
+
+        var range = jsonObject.optJSONObject("textRange");
+
+        if (range != null) {
+            setTextRange(range);
+        }
+
+        var text = jsonObject.toString();
+
+        source = () -> text;
+    }
+
+    SonarIssue(JSONObject jsonObject, StringPool pool) {
+        this(jsonObject);
+        intern(pool);
+    }
+
+    SonarIssue() {
+    }
+
+    static boolean isField(String name) {
+        return FIELDS.contains(name);
+    }
+
+    void setField(String name, String value) {
+        switch (name) {
+        case "key":
+            key = value;
+            break;
+        case "rule":
+            rule = value;
+            break;
+        case "severity":
+            severity = Severity.from(value);
+            severityName = severity != null ? severity.name() : value;
+            break;
+        case "type":
+            type = IssueType.from(value);
+            typeName = type != null ? type.name() : value;
+            break;
+        case "component":
+            component = value;
+            break;
+        case "project":
+            project = value;
+            break;
+        case "message":
+            message = value;
+            break;
+        case "creationDate":
+            creationDate = value;
+            break;
+        case "updateDate":
+            updateDate = value;
+            break;
+        default:
+            break;
+        }
+    }
+
+    void setTextRange(JSONObject range) {
+        setTextRange(range.optInt("startLine"), range.optInt("endLine"), range.optInt("startOffset"),
+                range.optInt("endOffset"));
+    }
+
+    void setTextRange(int startLine, int endLine, int startOffset, int endOffset) {
+        this.textRange = true;
+        this.startLine = startLine;
+        this.endLine = endLine;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+    }
+
+    void setSource(IssueSource source) {
+        this.source = source;
+    }
+
+    void intern(StringPool pool) {
+        rule = pool.intern(rule);
+        project = pool.intern(project);
+
+        if (severity == null) {
+            severityName = pool.intern(severityName);
+        }
+
+        if (type == null) {
+            typeName = pool.intern(typeName);
+        }
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getRule() {
+        return rule;
+    }
+
+    public Severity getSeverity() {
+        return severity;
+    }
+
+    public String getSeverityName() {
+        return severityName;
+    }
+
+    public IssueType getType() {
+        return type;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public String getComponent() {
+        return component;
+    }
+
+    public String getProject() {
+        return project;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getCreationDate() {
+        return creationDate;
+    }
+
+    public String getUpdateDate() {
+        return updateDate;
+    }
+
+    public boolean hasTextRange() {
+        return textRange;
+    }
+
+    public int getStartLine() {
+        return startLine;
+    }
+
+    public int getEndLine() {
+        return endLine;
+    }
+
+    public int getStartOffset() {
+        return startOffset;
+    }
+
+    public int getEndOffset() {
+        return endOffset;
+    }
+
+    public JSONObject getInfos() throws JSONException {
+        try {
+            return new JSONObject(readSource());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    String readSource() throws IOException {
+        return source.read();
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+class SourcePage {
+    private StringBuilder builder = new StringBuilder();
+    private String text;
+
+    int length() {
+        return builder.length();
+    }
+
+    void append(char c) {
+        builder.append(c);
+    }
+
+    void append(char[] buffer, int offset, int length) {
+        builder.append(buffer, offset, length);
+    }
+
+    synchronized void close() {
+        if (text == null) {
+            text = builder.toString();
+            builder = null;
+        }
+    }
+
+    IssueSource getSource(int start, int end) {
+        return () -> substring(start, end);
+    }
+
+    private synchronized String substring(int start, int end) {
+        return text != null ? text.substring(start, end) : builder.substring(start, end);
+    }
+}
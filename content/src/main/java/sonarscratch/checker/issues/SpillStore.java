@@ -0,0 +1,156 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+public class SpillStore implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LENGTH_SIZE = Integer.BYTES;
+    private Path path;
+    private FileChannel channel;
+    private ByteBuffer writeBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long flushedBytesCount;
+
+    public SpillStore(String directory) throws IOException {
+        var directoryPath = Paths.get(directory);
+
+        Files.createDirectories(directoryPath);
+        path = Files.createTempFile(directoryPath, "sonarscratch-checker-", ".spill");
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    public synchronized long getBytesCount() {
+        return flushedBytesCount + writeBuffer.position();
+    }
+
+    synchronized long append(byte[] record) throws IOException {
+        var offset = getBytesCount();
+
+        if (writeBuffer.remaining() < LENGTH_SIZE + record.length) {
+            flush();
+        }
+
+        if (writeBuffer.remaining() < LENGTH_SIZE + record.length) {
+            var buffer = ByteBuffer.allocate(LENGTH_SIZE + record.length);
+
+            buffer.putInt(record.length).put(record).flip();
+            writeFully(buffer);
+        } else {
+            writeBuffer.putInt(record.length).put(record);
+        }
+
+        return offset;
+    }
+
+    byte[] read(long offset) throws IOException {
+        var length = ByteBuffer.allocate(LENGTH_SIZE);
+
+        readFully(length, offset);
+
+        var record = ByteBuffer.allocate(length.flip().getInt());
+
+        readFully(record, offset + LENGTH_SIZE);
+        return record.array();
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writeBuffer.clear();
+        channel.close();
+        Files.deleteIfExists(path);
+    }
+
+    private synchronized void readFully(ByteBuffer buffer, long offset) throws IOException {
+        if (offset + buffer.remaining() > flushedBytesCount) {
+            flush();
+        }
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of spill file '" + path + "'");
+            }
+        }
+    }
+
+    private synchronized int readAvailable(ByteBuffer buffer, long offset) throws IOException {
+        if (offset + buffer.remaining() > flushedBytesCount) {
+            flush();
+        }
+
+        while (buffer.hasRemaining() && offset + buffer.position() < flushedBytesCount) {
+            channel.read(buffer, offset + buffer.position());
+        }
+
+        return buffer.position();
+    }
+
+    private void flush() throws IOException {
+        writeBuffer.flip();
+        writeFully(writeBuffer);
+        writeBuffer.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            flushedBytesCount += channel.write(buffer, flushedBytesCount);
+        }
+    }
+
+    final class Cursor {
+        private ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private long bufferOffset;
+
+        private Cursor() {
+            readBuffer.limit(0);
+        }
+
+        byte[] read(long offset) throws IOException {
+            if (!isBuffered(offset, LENGTH_SIZE)) {
+                fill(offset);
+            }
+
+            var length = readBuffer.getInt((int) (offset - bufferOffset));
+
+            if (LENGTH_SIZE + length > readBuffer.capacity()) {
+                return SpillStore.this.read(offset);
+            }
+
+            if (!isBuffered(offset, LENGTH_SIZE + length)) {
+                fill(offset);
+            }
+
+            var record = new byte[length];
+
+            readBuffer.position((int) (offset - bufferOffset) + LENGTH_SIZE);
+            readBuffer.get(record);
+            return record;
+        }
+
+        private boolean isBuffered(long offset, int length) {
+            return offset >= bufferOffset && offset + length <= bufferOffset + readBuffer.limit();
+        }
+
+        private void fill(long offset) throws IOException {
+            readBuffer.clear();
+            bufferOffset = offset;
+            readBuffer.limit(readAvailable(readBuffer, offset));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class StringPool {
+    private static final int STRING_OVERHEAD_BYTES_COUNT = 40;
+    private static final int LATIN1_MAX_CHAR = 0xFF;
+    private ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+    private AtomicLong savedBytesCount = new AtomicLong();
+
+    public String intern(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+
+        var pooled = strings.putIfAbsent(value, value);
+
+        if (pooled == null) {
+            return value;
+        }
+
+        if (pooled != value) {
+            savedBytesCount.addAndGet(getBytesCount(value));
+        }
+
+        return pooled;
+    }
+
+    public int count() {
+        return strings.size();
+    }
+
+    public long getSavedBytesCount() {
+        return savedBytesCount.get();
+    }
+
+    static long getBytesCount(String value) {
+        var bytesPerChar = 1;
+
+        for (var index = 0; index < value.length(); index++) {
+            if (value.charAt(index) > LATIN1_MAX_CHAR) {
+                bytesPerChar = Character.BYTES;
+                break;
+            }
+        }
+
+        return STRING_OVERHEAD_BYTES_COUNT + (long) value.length() * bytesPerChar;
+    }
+}
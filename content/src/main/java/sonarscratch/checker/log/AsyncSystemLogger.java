@@ -0,0 +1,165 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.log;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+
+public class AsyncSystemLogger extends SystemLogger implements AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 1024;
+    private static final Entry CLOSE = new Entry(null, null);
+    private SystemLogger target;
+    private ArrayBlockingQueue<Entry> entries;
+    private volatile boolean closed;
+    private volatile boolean stopped;
+    private Thread writer;
+    private Object pendingLock = new Object();
+
+    public AsyncSystemLogger(SystemLogger target, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive : " + capacity);
+        }
+
+        this.target = target;
+        this.entries = new ArrayBlockingQueue<>(capacity);
+        setLevel(target.getLevel());
+        writer = new Thread(this::drain, "sonarscratch-checker-logger");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public AsyncSystemLogger(SystemLogger target) {
+        this(target, DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public PrintStream outStream() {
+        return target.outStream();
+    }
+
+    @Override
+    public PrintStream errStream() {
+        return target.errStream();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        try {
+            if (!stopped) {
+                entries.put(CLOSE);
+            }
+
+            writer.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        printPending();
+    }
+
+    @Override
+    protected void print(PrintStream stream, String text) {
+        if (closed || stopped) {
+            printPending();
+            printTarget(stream, text);
+            return;
+        }
+
+        try {
+            entries.put(new Entry(stream, text));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            printTarget(stream, text);
+            return;
+        }
+
+        if (stopped) {
+            printPending();
+        }
+    }
+
+    private void drain() {
+        try {
+            drainEntries();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stopped = true;
+            printPending();
+        }
+    }
+
+    private void drainEntries() throws InterruptedException {
+        var batch = new ArrayList<Entry>();
+        var text = new StringBuilder();
+
+        while (true) {
+            batch.add(entries.take());
+            entries.drainTo(batch);
+
+            PrintStream batchStream = null;
+
+            for (var entry : batch) {
+                if (entry == CLOSE) {
+                    flush(batchStream, text);
+                    return;
+                }
+
+                if (entry.stream != batchStream) {
+                    flush(batchStream, text);
+                    batchStream = entry.stream;
+                }
+
+                text.append(entry.text);
+            }
+
+            flush(batchStream, text);
+            batch.clear();
+        }
+    }
+
+    private void printPending() {
+        synchronized (pendingLock) {
+            for (var entry = entries.poll(); entry != null; entry = entries.poll()) {
+                if (entry != CLOSE) {
+                    printTarget(entry.stream, entry.text);
+                }
+            }
+        }
+    }
+
+    private void flush(PrintStream stream, StringBuilder text) {
+        if (stream != null && text.length() > 0) {
+            printTarget(stream, text.toString());
+            text.setLength(0);
+        }
+    }
+    private void printTarget(PrintStream stream, String text) {
+        try {
+            target.print(stream, text);
+        } catch (RuntimeException exception) {
+            stream.print(text);
+        }
+    }
+
+    private static final class Entry {
+        private final PrintStream stream;
+        private final String text;
+
+        private Entry(PrintStream stream, String text) {
+            this.stream = stream;
+            this.text = text;
+        }
+    }
+}
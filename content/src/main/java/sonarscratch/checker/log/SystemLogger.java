@@ -7,10 +7,16 @@
 package sonarscratch.checker.log;
 
 import java.io.PrintStream;
+import java.util.function.Supplier;
 
 public class SystemLogger {
     public static final String BLOCK_END = "-----------------------------------------";
     private static final String LINE_SEPARATOR = System.lineSeparator();
+    private volatile Level level = Level.INFO;
+
+    public enum Level {
+        QUIET, INFO, VERBOSE
+    }
 
     public PrintStream outStream() {
         return System.out;
@@ -20,11 +26,45 @@ public class SystemLogger {
         return System.err;
     }
 
+    public Level getLevel() {
+        return level;
+    }
+
+    public void setLevel(Level value) {
+        level = value;
+    }
+
+    public boolean isInfoEnabled() {
+        return level != Level.QUIET;
+    }
+
+    public boolean isVerboseEnabled() {
+        return level == Level.VERBOSE;
+    }
+
     public void info(String message) {
-        outStream().print("[INFO] : " + message + LINE_SEPARATOR);
+        if (isInfoEnabled()) {
+            print(outStream(), "[INFO] : " + message + LINE_SEPARATOR);
+        }
+    }
+
+    public void info(Supplier<String> message) {
+        if (isInfoEnabled()) {
+            info(message.get());
+        }
+    }
+
+    public void verbose(Supplier<String> message) {
+        if (isVerboseEnabled()) {
+            print(outStream(), "[VERB] : " + message.get() + LINE_SEPARATOR);
+        }
     }
 
     public void err(String message) {
-        errStream().print("[ERR ] : " + message + LINE_SEPARATOR);
+        print(errStream(), "[ERR ] : " + message + LINE_SEPARATOR);
+    }
+
+    protected void print(PrintStream stream, String text) {
+        stream.print(text);
     }
 }
@@ -0,0 +1,68 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class Histogram {
+    private static final long[] MILLISECONDS_BOUNDS = { 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000,
+        30000, 60000 };
+    private AtomicLongArray bucketCounts = new AtomicLongArray(MILLISECONDS_BOUNDS.length + 1);
+    private AtomicLong count = new AtomicLong();
+    private AtomicLong sum = new AtomicLong();
+
+    public void record(long milliseconds) {
+        var index = 0;
+
+        while (index < MILLISECONDS_BOUNDS.length && milliseconds > MILLISECONDS_BOUNDS[index]) {
+            index++;
+        }
+
+        bucketCounts.incrementAndGet(index);
+        count.incrementAndGet();
+        sum.addAndGet(milliseconds);
+    }
+
+    public void recordSince(long startNanos) {
+        record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    public void add(Histogram histogram) {
+        for (var index = 0; index < bucketCounts.length(); index++) {
+            bucketCounts.addAndGet(index, histogram.bucketCounts.get(index));
+        }
+
+        count.addAndGet(histogram.getCount());
+        sum.addAndGet(histogram.getSum());
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getSum() {
+        return sum.get();
+    }
+
+    static long[] getBounds() {
+        return MILLISECONDS_BOUNDS.clone();
+    }
+
+    long[] getCumulativeCounts() {
+        var cumulativeCounts = new long[bucketCounts.length()];
+        long cumulativeCount = 0;
+
+        for (var index = 0; index < cumulativeCounts.length; index++) {
+            cumulativeCount += bucketCounts.get(index);
+            cumulativeCounts[index] = cumulativeCount;
+        }
+
+        return cumulativeCounts;
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+public class Metrics {
+    private static final String PREFIX = "sonarscratch_checker_";
+    private static final String INFINITE_BOUND = "+Inf";
+    private static final int JSON_INDENT_FACTOR = 2;
+    private TreeMap<String, Long> counters = new TreeMap<>();
+    private TreeMap<String, Double> gauges = new TreeMap<>();
+    private TreeMap<String, Histogram> histograms = new TreeMap<>();
+
+    public synchronized void add(String name, long value) {
+        counters.merge(name, value, Long::sum);
+    }
+
+    public synchronized void set(String name, double value) {
+        gauges.put(name, value);
+    }
+
+    public synchronized Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    public synchronized long getCounter(String name) {
+        return counters.getOrDefault(name, 0L);
+    }
+
+    public synchronized Double getGauge(String name) {
+        return gauges.get(name);
+    }
+
+    public synchronized void writeJson(Writer writer) throws IOException, JSONException {
+        var json = new JSONObject();
+        var jsonCounters = new JSONObject();
+        var jsonGauges = new JSONObject();
+        var jsonHistograms = new JSONObject();
+
+        for (var counter : counters.entrySet()) {
+            jsonCounters.put(counter.getKey(), counter.getValue());
+        }
+
+        for (var gauge : gauges.entrySet()) {
+            jsonGauges.put(gauge.getKey(), gauge.getValue());
+        }
+
+        for (var histogram : histograms.entrySet()) {
+            var jsonHistogram = new JSONObject();
+            var jsonBuckets = new JSONObject();
+            var bounds = Histogram.getBounds();
+            var cumulativeCounts = histogram.getValue().getCumulativeCounts();
+
+            for (var index = 0; index < cumulativeCounts.length; index++) {
+                jsonBuckets.put(getBound(bounds, index), cumulativeCounts[index]);
+            }
+
+            jsonHistogram.put("count", histogram.getValue().getCount());
+            jsonHistogram.put("sum", histogram.getValue().getSum());
+            jsonHistogram.put("buckets", jsonBuckets);
+            jsonHistograms.put(histogram.getKey(), jsonHistogram);
+        }
+
+        json.put("counters", jsonCounters);
+        json.put("gauges", jsonGauges);
+        json.put("histograms", jsonHistograms);
+        writer.write(json.toString(JSON_INDENT_FACTOR));
+        writer.flush();
+    }
+
+    public synchronized void writePrometheus(Writer writer) throws IOException {
+        writeSamples(writer, counters, "counter");
+        writeSamples(writer, gauges, "gauge");
+
+        for (var histogram : histograms.entrySet()) {
+            var name = PREFIX + histogram.getKey();
+            var bounds = Histogram.getBounds();
+            var cumulativeCounts = histogram.getValue().getCumulativeCounts();
+
+            writeLine(writer, "# TYPE " + name + " histogram");
+
+            for (var index = 0; index < cumulativeCounts.length; index++) {
+                writeLine(writer, name + "_bucket{le=\"" + getBound(bounds, index) + "\"} " + cumulativeCounts[index]);
+            }
+
+            writeLine(writer, name + "_sum " + histogram.getValue().getSum());
+            writeLine(writer, name + "_count " + histogram.getValue().getCount());
+        }
+
+        writer.flush();
+    }
+
+    private static void writeSamples(Writer writer, Map<String, ? extends Number> samples, String type)
+            throws IOException {
+        for (var sample : samples.entrySet()) {
+            writeLine(writer, "# TYPE " + PREFIX + sample.getKey() + " " + type);
+            writeLine(writer, PREFIX + sample.getKey() + " " + sample.getValue());
+        }
+    }
+
+    private static String getBound(long[] bounds, int index) {
+        return index < bounds.length ? Long.toString(bounds[index]) : INFINITE_BOUND;
+    }
+
+    private static void writeLine(Writer writer, String line) throws IOException {
+        writer.write(line);
+        writer.write('\n');
+    }
+}
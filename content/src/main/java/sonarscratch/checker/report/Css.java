@@ -14,6 +14,9 @@ final class Css {
     public static final String SONARSCRATCH_CHECKER_HEADER_WARNING = ".sonarscratch-checker-header-warning"
             + "{color: #E91313}";
     public static final String SONARSCRATCH_CHECKER_HEADER_ISSUES = ".sonarscratch-checker-header-issues" + "{}";
+    public static final String SONARSCRATCH_CHECKER_INDEX = ".sonarscratch-checker-index"
+            + "{border-collapse: collapse;} .sonarscratch-checker-index td, .sonarscratch-checker-index th"
+            + "{border: 1px solid #DDD; padding: 4px;}";
     public static final String SONARSCRATCH_CHECKER_ISSUE = ".sonarscratch-checker-issue"
             + "{border: 1px solid #DDD; margin-top: 10px;}";
     public static final String SONARSCRATCH_CHECKER_ISSUE_SUMMARY = ".sonarscratch-checker-issue-summary"
@@ -10,6 +10,10 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 class FilePreview {
     private static final int WINDOWS_END_LINE_COUNT = 2;
@@ -17,16 +21,33 @@ class FilePreview {
     private static final int DEFAULT_SURROUNDED_LINES_COUNT = 1;
     private String filePath;
     private Charset encoding;
-    private Range range;
+    private List<Range> ranges;
     private int surroundedLinesCount;
+    private SourceFileCache sourceFileCache;
+    private ArrayList<Iterable<LinePreview>> previews;
+    private int pendingPreviewsCount;
+    private AtomicLong readBytesCount = new AtomicLong();
 
-    FilePreview(String filePath, Charset encoding, Range range, int surroundedLinesCount) {
+    FilePreview(String filePath, Charset encoding, List<Range> ranges, int surroundedLinesCount) {
         this.filePath = filePath;
         this.encoding = encoding;
-        this.range = range;
+        this.ranges = ranges;
         this.surroundedLinesCount = surroundedLinesCount;
     }
 
+    FilePreview(String filePath, Charset encoding, List<Range> ranges) {
+        this(filePath, encoding, ranges, DEFAULT_SURROUNDED_LINES_COUNT);
+    }
+
+    FilePreview(String filePath, Charset encoding, List<Range> ranges, SourceFileCache sourceFileCache) {
+        this(filePath, encoding, ranges);
+        this.sourceFileCache = sourceFileCache;
+    }
+
+    FilePreview(String filePath, Charset encoding, Range range, int surroundedLinesCount) {
+        this(filePath, encoding, List.of(range), surroundedLinesCount);
+    }
+
     FilePreview(String filePath, Charset encoding, Range range) {
         this(filePath, encoding, range, DEFAULT_SURROUNDED_LINES_COUNT);
     }
@@ -35,46 +56,163 @@ class FilePreview {
         return new FilePreviewGetPreviewDependency();
     }
 
+    long getReadBytesCount() {
+        return readBytesCount.get();
+    }
+
     Iterable<LinePreview> getPreview() throws IOException {
-        var linePreviews = new ArrayList<LinePreview>();
-        var bufferedReader = getFilePreviewGetPreviewDependency().bufferedReader(filePath, this.encoding);
+        return getPreview(0);
+    }
 
-        try {
-            addLinePreviews(linePreviews, bufferedReader);
-        } finally {
-            bufferedReader.close();
+    synchronized Iterable<LinePreview> getPreview(int index) throws IOException {
+        if (previews == null || previews.get(index) == null) {
+            previews = getPreviews();
+            pendingPreviewsCount = previews.size();
         }
 
-        return linePreviews;
+        var preview = previews.get(index);
+
+        previews.set(index, null);
+        pendingPreviewsCount--;
+
+        if (pendingPreviewsCount == 0) {
+            previews = null;
+        }
+
+        return preview;
     }
 
-    private void addLinePreviews(ArrayList<LinePreview> linePreviews, BufferedReader bufferedReader)
-            throws IOException {
+    private ArrayList<Iterable<LinePreview>> getPreviews() throws IOException {
+        var lines = new HashMap<Integer, String>();
+        var filePreviewGetPreviewDependency = getFilePreviewGetPreviewDependency();
+        var sourceFile = filePreviewGetPreviewDependency.sourceFile(sourceFileCache, filePath, this.encoding,
+                readBytesCount);
+
+        if (sourceFile != null) {
+            readLines(sourceFile, getWindows(), lines, readBytesCount);
+        } else {
+            var bufferedReader = filePreviewGetPreviewDependency.bufferedReader(filePath, this.encoding,
+                    readBytesCount);
+
+            try {
+                readLines(bufferedReader, getWindows(), lines);
+            } finally {
+                bufferedReader.close();
+            }
+        }
+
+        var filePreviews = new ArrayList<Iterable<LinePreview>>(ranges.size());
+
+        for (var range : ranges) {
+            filePreviews.add(getLinePreviews(range, lines));
+        }
+
+        return filePreviews;
+    }
+
+    private ArrayList<int[]> getWindows() {
+        var windows = new ArrayList<int[]>();
+
+        for (var range : ranges) {
+            windows.add(new int[] { getFirstLine(range), getLastLine(range) });
+        }
+
+        windows.sort(Comparator.comparingInt((int[] window) -> window[0]));
+
+        var mergedWindows = new ArrayList<int[]>();
+
+        for (var window : windows) {
+            var last = mergedWindows.isEmpty() ? null : mergedWindows.get(mergedWindows.size() - 1);
+
+            if (last != null && window[0] <= last[1] + 1) {
+                last[1] = Math.max(last[1], window[1]);
+            } else {
+                mergedWindows.add(window);
+            }
+        }
+
+        return mergedWindows;
+    }
+
+    private static void readLines(SourceFile sourceFile, ArrayList<int[]> windows, HashMap<Integer, String> lines,
+            AtomicLong readBytesCount) throws IOException {
+        for (var window : windows) {
+            var lineNumber = Math.max(window[0], 1);
+
+            for (var line : sourceFile.readLines(window[0], window[1], readBytesCount)) {
+                lines.put(lineNumber, line);
+                lineNumber++;
+            }
+        }
+    }
+
+    private static void readLines(BufferedReader bufferedReader, ArrayList<int[]> windows,
+            HashMap<Integer, String> lines) throws IOException {
         int c = -1;
         int lineNumber = 1;
-        int lineStartOffset = -1;
+        int window = 0;
 
         do {
+            while (window < windows.size() && windows.get(window)[1] < lineNumber) {
+                window++;
+            }
+
+            if (window == windows.size()) {
+                return;
+            }
+
+            StringBuilder lineBuilder = null;
+
+            if (windows.get(window)[0] <= lineNumber) {
+                lineBuilder = new StringBuilder();
+            }
+
+            c = getLine(bufferedReader, lineBuilder, c);
+
+            if (lineBuilder != null) {
+                lines.put(lineNumber, lineBuilder.toString());
+            }
+
+            lineNumber++;
+        } while (c != END_OF_FILE);
+    }
+
+    private ArrayList<LinePreview> getLinePreviews(Range range, HashMap<Integer, String> lines) {
+        var linePreviews = new ArrayList<LinePreview>();
+        int lineStartOffset = -1;
+
+        for (var lineNumber = Math.max(getFirstLine(range), 1); lineNumber <= getLastLine(range); lineNumber++) {
+            var line = lines.get(lineNumber);
+
+            if (line == null) {
+                break;
+            }
+
             var isBeforeLine = range.getStartLine() - lineNumber > 0
                     && range.getStartLine() - lineNumber <= surroundedLinesCount;
             var isIssueLine = lineNumber >= range.getStartLine() && lineNumber <= range.getEndLine();
             var isAfterLine = lineNumber - range.getEndLine() > 0
                     && lineNumber - range.getEndLine() <= surroundedLinesCount;
-            StringBuilder lineBuilder = null;
 
             if (isBeforeLine || isIssueLine || isAfterLine) {
-                lineBuilder = new StringBuilder();
-                lineStartOffset = getLineStartOffset(isIssueLine, lineStartOffset);
+                lineStartOffset = getLineStartOffset(range, isIssueLine, lineStartOffset);
+                lineStartOffset = addLinePreview(range, lineNumber, lineNumber == range.getStartLine(), line,
+                        isIssueLine, lineStartOffset, linePreviews);
             }
+        }
 
-            c = getLine(bufferedReader, lineBuilder, c);
-            lineStartOffset = addLinePreview(lineNumber, lineNumber == range.getStartLine(), lineBuilder, isIssueLine,
-                    lineStartOffset, linePreviews);
-            lineNumber++;
-        } while (c != END_OF_FILE);
+        return linePreviews;
+    }
+
+    private int getFirstLine(Range range) {
+        return Math.min(range.getStartLine() - surroundedLinesCount, range.getEndLine() + 1);
     }
 
-    private int getLineStartOffset(boolean isIssueLine, int lastLineStartOffset) {
+    private int getLastLine(Range range) {
+        return Math.max(range.getStartLine() - 1, range.getEndLine() + surroundedLinesCount);
+    }
+
+    private static int getLineStartOffset(Range range, boolean isIssueLine, int lastLineStartOffset) {
         var lineStartOffset = lastLineStartOffset;
 
         if (isIssueLine) {
@@ -88,28 +226,25 @@ class FilePreview {
         return lineStartOffset;
     }
 
-    private int addLinePreview(int lineNumber, boolean isFirstLine, StringBuilder lineBuilder, boolean isIssueLine,
-            int lineStartOffset, ArrayList<LinePreview> linePreviews) {
-        if (lineBuilder != null) {
-            var line = cleanLine(lineBuilder.toString());
-            LinePreview linePreview;
-
-            if (isIssueLine) {
-                var offset = isFirstLine ? lineStartOffset : 0;
-                var isLastLine = range.getEndOffset() < lineStartOffset + (lineBuilder.length() - offset);
-                var linePreviewLength = isLastLine ? (range.getEndOffset() - lineStartOffset)
-                        : (line.length() - offset);
+    private static int addLinePreview(Range range, int lineNumber, boolean isFirstLine, String rawLine,
+            boolean isIssueLine, int lineStartOffset, ArrayList<LinePreview> linePreviews) {
+        var line = cleanLine(rawLine);
+        LinePreview linePreview;
 
-                linePreview = new LinePreview(lineNumber, line, offset, offset + linePreviewLength);
-                lineStartOffset = lineStartOffset + linePreviewLength
-                        + (isLastLine ? 0 : (lineBuilder.length() - line.length()));
-            } else {
-                linePreview = new LinePreview(lineNumber, line);
-            }
+        if (isIssueLine) {
+            var offset = isFirstLine ? lineStartOffset : 0;
+            var isLastLine = range.getEndOffset() < lineStartOffset + (rawLine.length() - offset);
+            var linePreviewLength = isLastLine ? (range.getEndOffset() - lineStartOffset) : (line.length() - offset);
 
-            linePreviews.add(linePreview);
+            linePreview = new LinePreview(lineNumber, line, offset, offset + linePreviewLength);
+            lineStartOffset = lineStartOffset + linePreviewLength
+                    + (isLastLine ? 0 : (rawLine.length() - line.length()));
+        } else {
+            linePreview = new LinePreview(lineNumber, line);
         }
 
+        linePreviews.add(linePreview);
+
         return lineStartOffset;
     }
 
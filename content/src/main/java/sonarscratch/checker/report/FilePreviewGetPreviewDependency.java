@@ -7,12 +7,24 @@
 package sonarscratch.checker.report;
 
 import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import sonarscratch.checker.util.CountingInputStream;
 
 class FilePreviewGetPreviewDependency {
-    BufferedReader bufferedReader(String filePath, Charset encoding) throws IOException {
-        return new BufferedReader(new FileReader(filePath, encoding));
+    BufferedReader bufferedReader(String filePath, Charset encoding, AtomicLong readBytesCount) throws IOException {
+        return new BufferedReader(new InputStreamReader(
+                new CountingInputStream(new FileInputStream(filePath), readBytesCount), encoding));
+    }
+
+    SourceFile sourceFile(SourceFileCache sourceFileCache, String filePath, Charset encoding,
+            AtomicLong readBytesCount) throws IOException {
+        return sourceFileCache != null && SourceFile.isSupported(encoding)
+                ? sourceFileCache.get(filePath, encoding, readBytesCount)
+                : null;
     }
 }
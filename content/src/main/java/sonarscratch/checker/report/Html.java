@@ -8,324 +8,471 @@ package sonarscratch.checker.report;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.json.JSONException;
-import org.json.JSONObject;
 
 import sonarscratch.checker.config.Project;
 import sonarscratch.checker.issues.ComponentsCollection;
+import sonarscratch.checker.issues.FinderException;
+import sonarscratch.checker.issues.FinderStream;
 import sonarscratch.checker.issues.IssuesCollection;
+import sonarscratch.checker.issues.SonarComponent;
+import sonarscratch.checker.issues.SonarIssue;
 import sonarscratch.checker.log.SystemLogger;
 import sonarscratch.checker.util.ExceptionUtil;
 
 public class Html {
-    private static final int JSON_PROPERTY_LEFT_MARGIN = 10;
-    private static final String NO_PREVIEW_START_BLOCK = "<span class=\""
-            + "sonarscratch-checker-issue-line-preview-content-none\">";
-    private static final String ISSUE_SUMMARY_SEPARATOR = "<div class=\""
-            + "sonarscratch-checker-issue-summary-sep\"></div>";
-    private static final String END_SPAN_BLOCK = "</span>";
-    private static final String END_DIV_BLOCK = "</div>";
+    private static final int ISSUES_CHUNK_SIZE = 200;
+    private static final int SPILLED_ISSUES_PAGE_SIZE = 1000;
     private IssuesCollection issuesCollection;
-    private HashMap<String, JSONObject> componentsByKey = new HashMap<>();
+    private ComponentsCollection componentsCollection;
     private HashMap<String, Project> projectsByName = new HashMap<>();
+    private HashMap<String, FilePreview> filePreviewsByPath = new HashMap<>();
+    private HashMap<String, Integer> previewIndexesByPath = new HashMap<>();
+    private IdentityHashMap<SonarIssue, String> cachedFragmentsByIssue = new IdentityHashMap<>();
+    private HashMap<String, SonarComponent> pageComponentsByKey = new HashMap<>();
     private BufferedWriter bufferedWriter;
     private SystemLogger logger;
     private Charset encoding;
-
-    public Html(IssuesCollection issuesCollection, ComponentsCollection componentsCollection,
-            Iterable<Project> projects, Charset encoding, BufferedWriter bufferedWriter, SystemLogger logger) {
+    private int threadsCount;
+    private ReportCache reportCache;
+    private SourceFileCache sourceFileCache;
+    private ExecutorService executor;
+    private long previewFilesCount;
+    private long previewBytesCount;
+
+    Html(IssuesCollection issuesCollection, ComponentsCollection componentsCollection, Iterable<Project> projects,
+            Charset encoding, BufferedWriter bufferedWriter, SystemLogger logger, int threadsCount,
+            ReportCache reportCache, SourceFileCache sourceFileCache) {
         this.issuesCollection = issuesCollection;
 
         for (Project project : projects) {
             this.projectsByName.put(project.getName(), project);
         }
 
-        for (JSONObject component : componentsCollection) {
-            this.componentsByKey.put(component.optString("key"), component);
-        }
-
+        this.componentsCollection = componentsCollection;
         this.encoding = encoding;
         this.bufferedWriter = bufferedWriter;
         this.logger = logger;
+        this.threadsCount = threadsCount;
+        this.reportCache = reportCache;
+        this.sourceFileCache = sourceFileCache;
+    }
+
+    public Html(IssuesCollection issuesCollection, ComponentsCollection componentsCollection,
+            Iterable<Project> projects, Charset encoding, BufferedWriter bufferedWriter, SystemLogger logger,
+            int threadsCount, ReportCache reportCache) {
+        this(issuesCollection, componentsCollection, projects, encoding, bufferedWriter, logger, threadsCount,
+                reportCache, new SourceFileCache(SourceFileCache.MAX_CACHED_BYTES));
+    }
+
+    public Html(IssuesCollection issuesCollection, ComponentsCollection componentsCollection,
+            Iterable<Project> projects, Charset encoding, BufferedWriter bufferedWriter, SystemLogger logger,
+            int threadsCount) {
+        this(issuesCollection, componentsCollection, projects, encoding, bufferedWriter, logger, threadsCount, null);
+    }
+
+    public Html(IssuesCollection issuesCollection, ComponentsCollection componentsCollection,
+            Iterable<Project> projects, Charset encoding, BufferedWriter bufferedWriter, SystemLogger logger) {
+        this(issuesCollection, componentsCollection, projects, encoding, bufferedWriter, logger, 1);
+    }
+
+    public Html(Iterable<Project> projects, Charset encoding, BufferedWriter bufferedWriter, SystemLogger logger,
+            int threadsCount, ReportCache reportCache) {
+        this(new IssuesCollection(0), new ComponentsCollection(), projects, encoding, bufferedWriter, logger,
+                threadsCount, reportCache);
     }
 
     public void write() throws HtmlException {
         try {
             logger.info("Writing HTML report");
-            writeln("<html>");
-            writeln("<head><meta charset=\"UTF-8\">");
-            writeln("<style>");
-            writeln(Css.SONARSCRATCH_CHECKER);
-            writeln(Css.SONARSCRATCH_CHECKER_HEADER);
-            writeln(Css.SONARSCRATCH_CHECKER_HEADER_WARNING);
-            writeln(Css.SONARSCRATCH_CHECKER_HEADER_ISSUES);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY_SEP);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY_MESSAGE);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY_TYPE);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY_SEVERITY);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY_FILE);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY_MORE);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY_LESS);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_INFOS);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_INFOS_CONTENT);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_INFOS_CONTENT_KEY);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_INFOS_CONTENT_VALUE);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_PREVIEW);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_LINE_PREVIEW);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_LINE_PREVIEW_NUMBER);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_LINE_PREVIEW_CONTENT);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_LINE_PREVIEW_CONTENT_NONE);
-            writeln(Css.SONARSCRATCH_CHECKER_ISSUE_LINE_PREVIEW_CONTENT_CODE);
-            writeln("</style>");
-            writeln("</head>");
-            writeln("<body class=\"sonarscratch-checker\">");
-
-            writeHeader();
-
-            for (var issue : issuesCollection) {
-                writeIssue(getIssue(issue));
+            writeHead();
+            writeHeader("This report shows " + issuesCollection.count() + " issues from " + issuesCollection.total()
+                    + ".");
+
+            if (issuesCollection.spilled()) {
+                writeSpilledIssues();
+                writeTail();
+                return;
             }
 
-            writeln("</body>");
-            writeln("</html>");
+            prepareFilePreviews(issuesCollection);
 
-            logger.info("HTML report written");
-            logger.info(SystemLogger.BLOCK_END);
+            if (reportCache != null) {
+                logger.info("Reusing " + cachedFragmentsByIssue.size() + " issue(s) from report cache");
+            }
+
+            writeIssues(issuesCollection);
+            countPreviewBytes();
+            writeTail();
         } catch (IOException | JSONException exception) {
             throw new HtmlException(ExceptionUtil.getDefaultMessage(Html.class), exception);
+        } catch (UncheckedIOException exception) {
+            throw new HtmlException(ExceptionUtil.getDefaultMessage(Html.class), exception.getCause());
+        } finally {
+            shutdownExecutor();
         }
     }
 
-    HtmlWriteDependency getHtmlWriteDependency() {
-        return new HtmlWriteDependency();
-    }
+    public void write(FinderStream stream) throws HtmlException {
+        try {
+            logger.info("Writing HTML report while finding issues");
+            writeHead();
 
-    private Issue getIssue(JSONObject jsonObject) throws JSONException, HtmlException {
-        var componentName = jsonObject.optString("component");
+            var firstPage = stream.peek();
+            var total = firstPage != null ? firstPage.getIssuesCollection().total() : 0;
+            var count = 0;
+            var cachedCount = 0;
 
-        if (componentName.isEmpty()) {
-            throw new HtmlException("Issue with unspecified component");
-        }
+            writeHeader("This report shows issues from " + total + ", counted at the end of the report.");
 
-        JSONObject component = componentsByKey.get(componentName);
+            for (var page = stream.take(); page != null; page = stream.take()) {
+                for (var component : page.getComponentsCollection()) {
+                    componentsCollection.addComponent(component);
+                }
 
-        if (component == null) {
-            throw new HtmlException("Unfound component '" + componentName + "'");
-        }
+                cachedCount += writePage(page.getIssuesCollection());
+                count += page.getIssuesCollection().count();
+            }
 
-        String path = component.optString("longName");
-        FilePreview filePreview = null;
+            if (reportCache != null) {
+                logger.info("Reused " + cachedCount + " issue(s) from report cache");
+            }
 
-        if (jsonObject.has("textRange")) {
-            var projectName = jsonObject.optString("project");
+            writeHeader("This report shows " + count + " issues from " + total + ".");
+            writeTail();
+        } catch (IOException | JSONException | FinderException exception) {
+            throw new HtmlException(ExceptionUtil.getDefaultMessage(Html.class), exception);
+        } finally {
+            shutdownExecutor();
+        }
+    }
 
-            if (projectName.isEmpty()) {
-                throw new HtmlException("Issue with unspecified project");
-            }
+    private void writeSpilledIssues() throws IOException, JSONException, HtmlException {
+        var page = new ArrayList<SonarIssue>(SPILLED_ISSUES_PAGE_SIZE);
+        var cachedCount = 0;
 
-            var project = projectsByName.get(projectName);
+        for (var issue : issuesCollection) {
+            page.add(issue);
 
-            if (project == null) {
-                throw new HtmlException("Unfound project '" + projectName + "'");
+            if (page.size() == SPILLED_ISSUES_PAGE_SIZE) {
+                cachedCount += writePage(page);
+                page.clear();
             }
-
-            var textRange = jsonObject.getJSONObject("textRange");
-            filePreview = getHtmlWriteDependency().filePreview(project.getRootPath() + "/" + path, encoding,
-                    new Range(textRange.optInt("startLine"), textRange.optInt("endLine"),
-                            textRange.optInt("startOffset"), textRange.optInt("endOffset")));
         }
 
-        return new Issue(jsonObject.optString("message"), jsonObject.optString("type"),
-                jsonObject.optString("severity"), new IssueFile(component.optString("name"), path), filePreview,
-                jsonObject);
+        cachedCount += writePage(page);
+
+        if (reportCache != null) {
+            logger.info("Reused " + cachedCount + " issue(s) from report cache");
+        }
     }
 
-    private void writeHeader() throws IOException {
-        writeln("<div class=\"sonarscratch-checker-header\">");
+    private int writePage(Iterable<SonarIssue> issues) throws IOException, JSONException, HtmlException {
+        prepareFilePreviews(issues);
 
-        write("<div class=\"sonarscratch-checker-header-warning\">");
-        write(getHtmlContent("This is a basic report, see SonarQube report for more details."));
-        writeln(END_DIV_BLOCK);
+        var cachedCount = cachedFragmentsByIssue.size();
 
-        write("<div class=\"sonarscratch-checker-header-issues\">");
-        write(getHtmlContent(
-                "This report shows " + issuesCollection.count() + " issues from " + issuesCollection.total() + "."));
-        writeln(END_DIV_BLOCK);
+        writeIssues(issues);
+        countPreviewBytes();
+        filePreviewsByPath.clear();
+        previewIndexesByPath.clear();
+        cachedFragmentsByIssue.clear();
+        pageComponentsByKey.clear();
 
-        writeln(END_DIV_BLOCK);
+        return cachedCount;
     }
 
-    private void writeIssue(Issue issue) throws IOException, JSONException, HtmlException {
-        writeln("<div class=\"sonarscratch-checker-issue\">");
-        writeIssueSummary(issue);
-        writeIssueInfos(issue);
-        writeIssuePreview(issue);
-        writeln(END_DIV_BLOCK);
+    private void writeHead() throws IOException {
+        writeln("<html>");
+        writeln("<head><meta charset=\"UTF-8\">");
+        writeln("<style>");
+        writeln(Css.SONARSCRATCH_CHECKER);
+        writeln(Css.SONARSCRATCH_CHECKER_HEADER);
+        writeln(Css.SONARSCRATCH_CHECKER_HEADER_WARNING);
+        writeln(Css.SONARSCRATCH_CHECKER_HEADER_ISSUES);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY_SEP);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY_MESSAGE);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY_TYPE);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY_SEVERITY);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY_FILE);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY_MORE);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_SUMMARY_LESS);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_INFOS);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_INFOS_CONTENT);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_INFOS_CONTENT_KEY);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_INFOS_CONTENT_VALUE);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_PREVIEW);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_LINE_PREVIEW);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_LINE_PREVIEW_NUMBER);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_LINE_PREVIEW_CONTENT);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_LINE_PREVIEW_CONTENT_NONE);
+        writeln(Css.SONARSCRATCH_CHECKER_ISSUE_LINE_PREVIEW_CONTENT_CODE);
+        writeln("</style>");
+        writeln("</head>");
+        writeln("<body class=\"sonarscratch-checker\">");
     }
 
-    private void writeIssueSummary(Issue issue) throws IOException {
-        write("<div class=\"sonarscratch-checker-issue-summary\">");
+    private void writeTail() throws IOException {
+        writeln("</body>");
+        writeln("</html>");
 
-        write("<span class=\"sonarscratch-checker-issue-summary-message\">");
-        write(getHtmlContent(issue.getMessage()));
-        write(END_SPAN_BLOCK);
+        logger.info("HTML report written");
+        logger.info(SystemLogger.BLOCK_END);
+    }
 
-        if (!issue.getType().isEmpty()) {
-            write(ISSUE_SUMMARY_SEPARATOR);
+    private void writeIssues(Iterable<SonarIssue> issues) throws IOException, JSONException, HtmlException {
+        if (threadsCount > 1) {
+            writeIssuesChunks(issues);
+        } else {
+            var issueWriter = new IssueWriter(bufferedWriter, reportCache);
 
-            write("<span class=\"sonarscratch-checker-issue-summary-type\">");
-            write(getHtmlContent(issue.getType()));
-            write(END_SPAN_BLOCK);
+            for (var issue : issues) {
+                issueWriter.writeIssue(getIssue(issue));
+            }
         }
+    }
 
-        if (!issue.getSeverity().isEmpty()) {
-            write(ISSUE_SUMMARY_SEPARATOR);
+    public long getPreviewFilesCount() {
+        return previewFilesCount;
+    }
 
-            write("<span class=\"sonarscratch-checker-issue-summary-severity\">");
-            write(getHtmlContent(issue.getSeverity()));
-            write(END_SPAN_BLOCK);
-        }
+    public long getPreviewBytesCount() {
+        return previewBytesCount;
+    }
+
+    HtmlWriteDependency getHtmlWriteDependency() {
+        return new HtmlWriteDependency();
+    }
 
-        if (!issue.getFile().getName().isEmpty()) {
-            write(ISSUE_SUMMARY_SEPARATOR);
+    ExecutorService getExecutorService() {
+        return Executors.newFixedThreadPool(threadsCount);
+    }
 
-            write("<span class=\"sonarscratch-checker-issue-summary-file\" title=\""
-                    + getHtmlProperty(issue.getFile().getPath()) + "\">");
-            write(getHtmlContent(issue.getFile().getName()));
-            write(END_SPAN_BLOCK);
+    private void writeIssuesChunks(Iterable<SonarIssue> issues) throws IOException, JSONException, HtmlException {
+        if (executor == null) {
+            executor = getExecutorService();
         }
 
-        writeln(ISSUE_SUMMARY_SEPARATOR);
+        var pendingChunks = new ArrayDeque<Future<String>>();
+
+        try {
+            var chunk = new ArrayList<Issue>(ISSUES_CHUNK_SIZE);
+
+            for (var sonarIssue : issues) {
+                chunk.add(getIssue(sonarIssue));
 
-        write("<span class=\"sonarscratch-checker-issue-summary-more\" ");
-        write("onclick=\"this.parentNode.querySelector('.sonarscratch-checker-issue-summary-less').style.display='';");
-        write("this.parentNode.querySelector('.sonarscratch-checker-issue-summary-more').style.display='none';");
-        write("this.parentNode.parentNode.querySelector('.sonarscratch-checker-issue-infos').style.display='';\">");
-        write(getHtmlContent("MORE"));
-        write(END_SPAN_BLOCK);
+                if (chunk.size() == ISSUES_CHUNK_SIZE) {
+                    pendingChunks.add(submitChunk(executor, chunk));
+                    chunk = new ArrayList<>(ISSUES_CHUNK_SIZE);
 
-        write("<span class=\"sonarscratch-checker-issue-summary-less\" style=\"display:none\" ");
-        write("onclick=\"this.parentNode.querySelector('.sonarscratch-checker-issue-summary-more').style.display='';");
-        write("this.parentNode.querySelector('.sonarscratch-checker-issue-summary-less').style.display='none';");
-        write("this.parentNode.parentNode.querySelector('.sonarscratch-checker-issue-infos').style.display='none';\">");
-        write(getHtmlContent("LESS"));
-        write(END_SPAN_BLOCK);
+                    if (pendingChunks.size() > threadsCount) {
+                        write(getChunk(pendingChunks.poll()));
+                    }
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                pendingChunks.add(submitChunk(executor, chunk));
+            }
 
-        writeln(END_DIV_BLOCK);
+            while (!pendingChunks.isEmpty()) {
+                write(getChunk(pendingChunks.poll()));
+            }
+        } finally {
+            for (var pendingChunk : pendingChunks) {
+                pendingChunk.cancel(true);
+            }
+        }
     }
 
-    private void writeIssueInfos(Issue issue) throws IOException, JSONException {
-        writeln("<div class=\"sonarscratch-checker-issue-infos\" style=\"display:none\">");
-        writeIssueNode(issue.getInfos(), 0);
-        writeln(END_DIV_BLOCK);
+    private void shutdownExecutor() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
     }
 
-    private void writeIssueNode(JSONObject node, int depth) throws IOException, JSONException {
-        var keys = node.keys();
+    private Future<String> submitChunk(ExecutorService executor, List<Issue> chunk) {
+        return executor.submit(() -> {
+            var stringWriter = new StringWriter();
+            var chunkWriter = new BufferedWriter(stringWriter);
+            var issueWriter = new IssueWriter(chunkWriter, reportCache);
 
-        while (keys.hasNext()) {
-            var key = (String) keys.next();
-            var value = node.get(key);
+            for (var issue : chunk) {
+                issueWriter.writeIssue(issue);
+            }
 
-            write("<div class=\"sonarscratch-checker-issue-infos-content\" style=\"margin-left:"
-                    + (depth * JSON_PROPERTY_LEFT_MARGIN) + "px\">");
+            chunkWriter.flush();
 
-            write("<span class=\"sonarscratch-checker-issue-infos-content-key\">");
-            boolean isNode = value instanceof JSONObject;
-            write(getHtmlContent(key + (isNode ? "" : " : ")));
-            write(END_SPAN_BLOCK);
+            return stringWriter.toString();
+        });
+    }
+
+    private static String getChunk(Future<String> chunk) throws IOException, JSONException, HtmlException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new HtmlException("Writing HTML report interrupted", exception);
+        } catch (ExecutionException exception) {
+            var cause = exception.getCause();
+
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
 
-            if (isNode) {
-                writeIssueNode((JSONObject) value, depth + 1);
-            } else {
-                write("<span class=\"sonarscratch-checker-issue-infos-content-value\">");
-                write(getHtmlContent(value.toString()));
-                write(END_SPAN_BLOCK);
+            if (cause instanceof JSONException) {
+                throw (JSONException) cause;
             }
 
-            writeln(END_DIV_BLOCK);
+            if (cause instanceof HtmlException) {
+                throw (HtmlException) cause;
+            }
+
+            throw new HtmlException(ExceptionUtil.getDefaultMessage(Html.class), cause);
         }
     }
 
-    private void writeIssuePreview(Issue issue) throws IOException, HtmlException {
-        var filePreview = issue.getFilePreview();
+    private void prepareFilePreviews(Iterable<SonarIssue> issues) throws IOException {
+        var rangesByPath = new HashMap<String, ArrayList<Range>>();
 
-        if (filePreview != null) {
-            var preview = filePreview.getPreview();
+        for (var sonarIssue : issues) {
+            var component = getComponent(sonarIssue.getComponent());
+            var project = projectsByName.get(sonarIssue.getProject());
+            var previewPath = sonarIssue.hasTextRange() && component != null && project != null
+                    ? getPreviewPath(project, component)
+                    : null;
 
-            writeln("<table class=\"sonarscratch-checker-issue-preview\">");
-
-            for (LinePreview linePreview : preview) {
-                writeLinePreview(linePreview);
+            if (!isCached(sonarIssue, component, previewPath) && previewPath != null) {
+                rangesByPath.computeIfAbsent(previewPath, path -> new ArrayList<>()).add(getRange(sonarIssue));
             }
+        }
 
-            writeln("</table>");
+        for (var entry : rangesByPath.entrySet()) {
+            filePreviewsByPath.put(entry.getKey(),
+                    getHtmlWriteDependency().filePreview(entry.getKey(), encoding, entry.getValue(), sourceFileCache));
+            previewFilesCount++;
         }
     }
 
-    private void writeLinePreview(LinePreview linePreview) throws IOException, HtmlException {
-        writeln("<tr class=\"sonarscratch-checker-issue-line-preview\">");
+    private void countPreviewBytes() {
+        for (var filePreview : filePreviewsByPath.values()) {
+            previewBytesCount += filePreview.getReadBytesCount();
+        }
+    }
 
-        write("<td class=\"sonarscratch-checker-issue-line-preview-number\">");
-        write(getHtmlContent(Integer.toString(linePreview.getNumber())));
-        writeln("</td>");
+    private boolean isCached(SonarIssue sonarIssue, SonarComponent component, String previewPath)
+            throws IOException {
+        if (reportCache == null || component == null || (sonarIssue.hasTextRange() && previewPath == null)) {
+            return false;
+        }
 
-        write("<td class=\"sonarscratch-checker-issue-line-preview-content\">");
+        var fragment = reportCache.getFragment(sonarIssue, component, previewPath);
 
-        if (linePreview.isIssueLine()) {
-            try {
-                if (linePreview.getStart() > 0) {
-                    write(NO_PREVIEW_START_BLOCK);
-                    write(getPreviewHtmlContent(linePreview.getLine().substring(0, linePreview.getStart())));
-                    write(END_SPAN_BLOCK);
-                }
-                write("<span class=\"sonarscratch-checker-issue-line-preview-content-code\">");
-                write(getPreviewHtmlContent(
-                        linePreview.getLine().substring(linePreview.getStart(), linePreview.getEnd())));
-                write(END_SPAN_BLOCK);
-
-                if (linePreview.getEnd() < linePreview.getLine().length()) {
-                    write(NO_PREVIEW_START_BLOCK);
-                    write(getPreviewHtmlContent(linePreview.getLine().substring(linePreview.getEnd())));
-                    write(END_SPAN_BLOCK);
-                }
-            } catch (StringIndexOutOfBoundsException exception) {
-                throw new HtmlException("Can not create preview. Synchronize SonarQube informations with sources",
-                        exception);
+        if (fragment == null) {
+            return false;
+        }
+
+        cachedFragmentsByIssue.put(sonarIssue, fragment);
+        return true;
+    }
+
+    private Issue getIssue(SonarIssue sonarIssue) throws HtmlException {
+        var componentName = sonarIssue.getComponent();
+
+        if (componentName.isEmpty()) {
+            throw new HtmlException("Issue with unspecified component");
+        }
+
+        var component = getComponent(componentName);
+
+        if (component == null) {
+            throw new HtmlException("Unfound component '" + componentName + "'");
+        }
+
+        FilePreview filePreview = null;
+        var previewIndex = 0;
+        var cachedFragment = cachedFragmentsByIssue.get(sonarIssue);
+
+        if (cachedFragment == null && sonarIssue.hasTextRange()) {
+            var projectName = sonarIssue.getProject();
+
+            if (projectName.isEmpty()) {
+                throw new HtmlException("Issue with unspecified project");
             }
-        } else {
-            write(NO_PREVIEW_START_BLOCK);
-            write(getPreviewHtmlContent(linePreview.getLine()));
-            write(END_SPAN_BLOCK);
+
+            var project = projectsByName.get(projectName);
+
+            if (project == null) {
+                throw new HtmlException("Unfound project '" + projectName + "'");
+            }
+
+            var previewPath = getPreviewPath(project, component);
+
+            filePreview = filePreviewsByPath.get(previewPath);
+            previewIndex = previewIndexesByPath.merge(previewPath, 1, Integer::sum) - 1;
         }
-        writeln("</td>");
 
-        writeln("</tr>");
+        return new Issue(sonarIssue.getMessage(), sonarIssue.getTypeName(), sonarIssue.getSeverityName(),
+                new IssueFile(component.getName(), component.getLongName()), filePreview, previewIndex, sonarIssue,
+                cachedFragment);
     }
 
-    private void writeln(String str) throws IOException {
-        bufferedWriter.write(str);
-        bufferedWriter.newLine();
+    private SonarComponent getComponent(String key) {
+        if (pageComponentsByKey.containsKey(key)) {
+            return pageComponentsByKey.get(key);
+        }
+
+        var component = componentsCollection.get(key);
+
+        pageComponentsByKey.put(key, component);
+        return component;
     }
 
-    private void write(String str) throws IOException {
-        bufferedWriter.write(str);
+    private static String getPreviewPath(Project project, SonarComponent component) {
+        return project.getRootPath() + "/" + component.getLongName();
+    }
+
+    private static Range getRange(SonarIssue sonarIssue) {
+        return new Range(sonarIssue.getStartLine(), sonarIssue.getEndLine(), sonarIssue.getStartOffset(),
+                sonarIssue.getEndOffset());
     }
 
-    private static String getHtmlContent(String content) {
-        return content.replace("<", "&lt;").replace(">", "&gt;");
+    private void writeHeader(String issuesText) throws IOException {
+        writeln("<div class=\"sonarscratch-checker-header\">");
+
+        write("<div class=\"sonarscratch-checker-header-warning\">");
+        write("This is a basic report, see SonarQube report for more details.");
+        writeln(IssueWriter.END_DIV_BLOCK);
+
+        write("<div class=\"sonarscratch-checker-header-issues\">");
+        write(issuesText);
+        writeln(IssueWriter.END_DIV_BLOCK);
+
+        writeln(IssueWriter.END_DIV_BLOCK);
     }
 
-    private static String getPreviewHtmlContent(String content) {
-        return getHtmlContent(content).replace(" ", "&nbsp;").replace("\t", "&nbsp;&nbsp;&nbsp;&nbsp;");
+    private void writeln(String str) throws IOException {
+        bufferedWriter.write(str);
+        bufferedWriter.newLine();
     }
 
-    private static String getHtmlProperty(String content) {
-        return content.replace("\"", "&quot;");
+    private void write(String str) throws IOException {
+        bufferedWriter.write(str);
     }
 }
@@ -0,0 +1,68 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.report;
+
+import java.io.IOException;
+import java.io.Writer;
+
+final class HtmlEscaper {
+    private static final String TAB_ENTITIES = "&nbsp;&nbsp;&nbsp;&nbsp;";
+
+    private HtmlEscaper() {
+    }
+
+    static void writeContent(Writer writer, String content) throws IOException {
+        write(writer, content, 0, content.length(), false);
+    }
+
+    static void writePreviewContent(Writer writer, String content, int start, int end) throws IOException {
+        write(writer, content, start, end, true);
+    }
+
+    private static void write(Writer writer, String content, int start, int end, boolean preview)
+            throws IOException {
+        var runStart = start;
+
+        for (var i = start; i < end; i++) {
+            var entity = getEntity(content.charAt(i), preview);
+
+            if (entity != null) {
+                if (i > runStart) {
+                    writer.write(content, runStart, i - runStart);
+                }
+
+                writer.write(entity);
+                runStart = i + 1;
+            }
+        }
+
+        if (end > runStart) {
+            writer.write(content, runStart, end - runStart);
+        }
+    }
+
+    private static String getEntity(char c, boolean preview) {
+        switch (c) {
+        case '&':
+            return "&amp;";
+        case '<':
+            return "&lt;";
+        case '>':
+            return "&gt;";
+        case '"':
+            return "&quot;";
+        case '\'':
+            return "&#39;";
+        case ' ':
+            return preview ? "&nbsp;" : null;
+        case '\t':
+            return preview ? TAB_ENTITIES : null;
+        default:
+            return null;
+        }
+    }
+}
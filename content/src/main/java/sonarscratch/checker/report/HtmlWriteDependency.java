@@ -6,10 +6,19 @@
 
 package sonarscratch.checker.report;
 
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 class HtmlWriteDependency {
-    FilePreview filePreview(String filePath, Charset encoding, Range range) {
-        return new FilePreview(filePath, encoding, range);
+    BufferedWriter bufferedWriter(String path) throws IOException {
+        return new BufferedWriter(new FileWriter(path, StandardCharsets.UTF_8));
+    }
+
+    FilePreview filePreview(String filePath, Charset encoding, List<Range> ranges, SourceFileCache sourceFileCache) {
+        return new FilePreview(filePath, encoding, ranges, sourceFileCache);
     }
 }
@@ -6,23 +6,36 @@
 
 package sonarscratch.checker.report;
 
+import org.json.JSONException;
 import org.json.JSONObject;
 
+import sonarscratch.checker.issues.SonarIssue;
+
 class Issue {
     private String message;
     private String type;
     private String severity;
     private IssueFile file;
     private FilePreview filePreview;
-    private JSONObject infos;
+    private int previewIndex;
+    private SonarIssue source;
+    private String fragment;
 
-    Issue(String message, String type, String severity, IssueFile file, FilePreview filePreview, JSONObject infos) {
+    Issue(String message, String type, String severity, IssueFile file, FilePreview filePreview, int previewIndex,
+            SonarIssue source, String fragment) {
         this.message = message;
         this.type = type;
         this.severity = severity;
         this.file = file;
         this.filePreview = filePreview;
-        this.infos = infos;
+        this.previewIndex = previewIndex;
+        this.source = source;
+        this.fragment = fragment;
+    }
+
+    Issue(String message, String type, String severity, IssueFile file, FilePreview filePreview, int previewIndex,
+            SonarIssue source) {
+        this(message, type, severity, file, filePreview, previewIndex, source, null);
     }
 
     String getMessage() {
@@ -45,7 +58,19 @@ class Issue {
         return filePreview;
     }
 
-    JSONObject getInfos() {
-        return infos;
+    int getPreviewIndex() {
+        return previewIndex;
+    }
+
+    String getKey() {
+        return source.getKey();
+    }
+
+    String getFragment() {
+        return fragment;
+    }
+
+    JSONObject getInfos() throws JSONException {
+        return source.getInfos();
     }
 }
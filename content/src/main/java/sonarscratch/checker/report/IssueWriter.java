@@ -0,0 +1,234 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+class IssueWriter {
+    static final String END_DIV_BLOCK = "</div>";
+    private static final int JSON_PROPERTY_LEFT_MARGIN = 10;
+    private static final String NO_PREVIEW_START_BLOCK = "<span class=\""
+            + "sonarscratch-checker-issue-line-preview-content-none\">";
+    private static final String ISSUE_SUMMARY_SEPARATOR = "<div class=\""
+            + "sonarscratch-checker-issue-summary-sep\"></div>";
+    private static final String END_SPAN_BLOCK = "</span>";
+    private BufferedWriter targetWriter;
+    private BufferedWriter bufferedWriter;
+    private ReportCache reportCache;
+    private StringWriter fragmentWriter;
+
+    IssueWriter(BufferedWriter bufferedWriter) {
+        this(bufferedWriter, null);
+    }
+
+    IssueWriter(BufferedWriter bufferedWriter, ReportCache reportCache) {
+        this.targetWriter = bufferedWriter;
+        this.reportCache = reportCache;
+
+        if (reportCache == null) {
+            this.bufferedWriter = bufferedWriter;
+        } else {
+            this.fragmentWriter = new StringWriter();
+            this.bufferedWriter = new BufferedWriter(fragmentWriter);
+        }
+    }
+
+    void writeIssue(Issue issue) throws IOException, JSONException, HtmlException {
+        var cachedFragment = issue.getFragment();
+
+        if (cachedFragment != null) {
+            targetWriter.write(cachedFragment);
+            return;
+        }
+
+        writeln("<div class=\"sonarscratch-checker-issue\">");
+        writeIssueSummary(issue);
+        writeIssueInfos(issue);
+        writeIssuePreview(issue);
+        writeln(END_DIV_BLOCK);
+
+        if (reportCache != null) {
+            bufferedWriter.flush();
+
+            var fragment = fragmentWriter.toString();
+
+            fragmentWriter.getBuffer().setLength(0);
+            reportCache.putFragment(issue.getKey(), fragment);
+            targetWriter.write(fragment);
+        }
+    }
+
+    private void writeIssueSummary(Issue issue) throws IOException {
+        write("<div class=\"sonarscratch-checker-issue-summary\">");
+
+        write("<span class=\"sonarscratch-checker-issue-summary-message\">");
+        writeContent(issue.getMessage());
+        write(END_SPAN_BLOCK);
+
+        if (!issue.getType().isEmpty()) {
+            write(ISSUE_SUMMARY_SEPARATOR);
+
+            write("<span class=\"sonarscratch-checker-issue-summary-type\">");
+            writeContent(issue.getType());
+            write(END_SPAN_BLOCK);
+        }
+
+        if (!issue.getSeverity().isEmpty()) {
+            write(ISSUE_SUMMARY_SEPARATOR);
+
+            write("<span class=\"sonarscratch-checker-issue-summary-severity\">");
+            writeContent(issue.getSeverity());
+            write(END_SPAN_BLOCK);
+        }
+
+        if (!issue.getFile().getName().isEmpty()) {
+            write(ISSUE_SUMMARY_SEPARATOR);
+
+            write("<span class=\"sonarscratch-checker-issue-summary-file\" title=\"");
+            writeContent(issue.getFile().getPath());
+            write("\">");
+            writeContent(issue.getFile().getName());
+            write(END_SPAN_BLOCK);
+        }
+
+        writeln(ISSUE_SUMMARY_SEPARATOR);
+
+        write("<span class=\"sonarscratch-checker-issue-summary-more\" ");
+        write("onclick=\"this.parentNode.querySelector('.sonarscratch-checker-issue-summary-less').style.display='';");
+        write("this.parentNode.querySelector('.sonarscratch-checker-issue-summary-more').style.display='none';");
+        write("this.parentNode.parentNode.querySelector('.sonarscratch-checker-issue-infos').style.display='';\">");
+        write("MORE");
+        write(END_SPAN_BLOCK);
+
+        write("<span class=\"sonarscratch-checker-issue-summary-less\" style=\"display:none\" ");
+        write("onclick=\"this.parentNode.querySelector('.sonarscratch-checker-issue-summary-more').style.display='';");
+        write("this.parentNode.querySelector('.sonarscratch-checker-issue-summary-less').style.display='none';");
+        write("this.parentNode.parentNode.querySelector('.sonarscratch-checker-issue-infos').style.display='none';\">");
+        write("LESS");
+        write(END_SPAN_BLOCK);
+
+        writeln(END_DIV_BLOCK);
+    }
+
+    private void writeIssueInfos(Issue issue) throws IOException, JSONException {
+        writeln("<div class=\"sonarscratch-checker-issue-infos\" style=\"display:none\">");
+        writeIssueNode(issue.getInfos(), 0);
+        writeln(END_DIV_BLOCK);
+    }
+
+    private void writeIssueNode(JSONObject node, int depth) throws IOException, JSONException {
+        var keys = node.keys();
+
+        while (keys.hasNext()) {
+            var key = (String) keys.next();
+            var value = node.get(key);
+
+            write("<div class=\"sonarscratch-checker-issue-infos-content\" style=\"margin-left:");
+            write(Integer.toString(depth * JSON_PROPERTY_LEFT_MARGIN));
+            write("px\">");
+
+            write("<span class=\"sonarscratch-checker-issue-infos-content-key\">");
+            boolean isNode = value instanceof JSONObject;
+            writeContent(key);
+
+            if (!isNode) {
+                write(" : ");
+            }
+
+            write(END_SPAN_BLOCK);
+
+            if (isNode) {
+                writeIssueNode((JSONObject) value, depth + 1);
+            } else {
+                write("<span class=\"sonarscratch-checker-issue-infos-content-value\">");
+                writeContent(value.toString());
+                write(END_SPAN_BLOCK);
+            }
+
+            writeln(END_DIV_BLOCK);
+        }
+    }
+
+    private void writeIssuePreview(Issue issue) throws IOException, HtmlException {
+        var filePreview = issue.getFilePreview();
+
+        if (filePreview != null) {
+            var preview = filePreview.getPreview(issue.getPreviewIndex());
+
+            writeln("<table class=\"sonarscratch-checker-issue-preview\">");
+
+            for (LinePreview linePreview : preview) {
+                writeLinePreview(linePreview);
+            }
+
+            writeln("</table>");
+        }
+    }
+
+    private void writeLinePreview(LinePreview linePreview) throws IOException, HtmlException {
+        writeln("<tr class=\"sonarscratch-checker-issue-line-preview\">");
+
+        write("<td class=\"sonarscratch-checker-issue-line-preview-number\">");
+        write(Integer.toString(linePreview.getNumber()));
+        writeln("</td>");
+
+        write("<td class=\"sonarscratch-checker-issue-line-preview-content\">");
+
+        var line = linePreview.getLine();
+
+        if (linePreview.isIssueLine()) {
+            var start = linePreview.getStart();
+            var end = linePreview.getEnd();
+
+            if (start < 0 || start > end || end > line.length()) {
+                throw new HtmlException("Can not create preview. Synchronize SonarQube informations with sources");
+            }
+
+            if (start > 0) {
+                write(NO_PREVIEW_START_BLOCK);
+                HtmlEscaper.writePreviewContent(bufferedWriter, line, 0, start);
+                write(END_SPAN_BLOCK);
+            }
+
+            write("<span class=\"sonarscratch-checker-issue-line-preview-content-code\">");
+            HtmlEscaper.writePreviewContent(bufferedWriter, line, start, end);
+            write(END_SPAN_BLOCK);
+
+            if (end < line.length()) {
+                write(NO_PREVIEW_START_BLOCK);
+                HtmlEscaper.writePreviewContent(bufferedWriter, line, end, line.length());
+                write(END_SPAN_BLOCK);
+            }
+        } else {
+            write(NO_PREVIEW_START_BLOCK);
+            HtmlEscaper.writePreviewContent(bufferedWriter, line, 0, line.length());
+            write(END_SPAN_BLOCK);
+        }
+
+        writeln("</td>");
+
+        writeln("</tr>");
+    }
+
+    private void writeln(String str) throws IOException {
+        bufferedWriter.write(str);
+        bufferedWriter.newLine();
+    }
+
+    private void write(String str) throws IOException {
+        bufferedWriter.write(str);
+    }
+
+    private void writeContent(String content) throws IOException {
+        HtmlEscaper.writeContent(bufferedWriter, content);
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.report;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+
+import sonarscratch.checker.issues.SonarComponent;
+import sonarscratch.checker.issues.SonarIssue;
+
+public class ReportCache {
+    private static final int MAGIC = 0x53435243;
+    private static final String FORMAT = "sonarscratch-checker-report-cache";
+    private static final int VERSION = 2;
+    private static final String NO_SOURCE = "-";
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+    private Path path;
+    private Charset encoding;
+    private HashMap<String, Entry> previousEntries = new HashMap<>();
+    private ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private HashMap<String, String> sourceHashesByPath = new HashMap<>();
+    private int hitsCount;
+
+    public ReportCache(String path, Charset encoding) {
+        this.path = Paths.get(path);
+        this.encoding = encoding;
+    }
+
+    public void load() throws IOException {
+        previousEntries.clear();
+
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            var size = Files.size(path);
+
+            if (input.readInt() != MAGIC || !FORMAT.equals(input.readUTF()) || input.readInt() != VERSION
+                    || !encoding.name().equals(input.readUTF())) {
+                return;
+            }
+
+            var count = readLength(input, size);
+
+            for (var i = 0; i < count; i++) {
+                var key = input.readUTF();
+                var fingerprint = input.readUTF();
+                var fragment = new byte[readLength(input, size)];
+
+                input.readFully(fragment);
+                previousEntries.put(key, new Entry(fingerprint, new String(fragment, StandardCharsets.UTF_8)));
+            }
+        } catch (IOException exception) {
+            previousEntries.clear();
+        }
+    }
+
+    public void save() throws IOException {
+        var temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        var renderedEntries = new ArrayList<Map.Entry<String, Entry>>(entries.size());
+
+        for (var entry : entries.entrySet()) {
+            if (entry.getValue().fragment != null) {
+                renderedEntries.add(entry);
+            }
+        }
+
+        try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+            output.writeInt(MAGIC);
+            output.writeUTF(FORMAT);
+            output.writeInt(VERSION);
+            output.writeUTF(encoding.name());
+            output.writeInt(renderedEntries.size());
+
+            for (var entry : renderedEntries) {
+                var fragment = entry.getValue().fragment.getBytes(StandardCharsets.UTF_8);
+
+                output.writeUTF(entry.getKey());
+                output.writeUTF(entry.getValue().fingerprint);
+                output.writeInt(fragment.length);
+                output.write(fragment);
+            }
+        }
+
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public int getHitsCount() {
+        return hitsCount;
+    }
+
+    synchronized String getFragment(SonarIssue issue, SonarComponent component, String sourcePath) throws IOException {
+        if (issue.getKey().isEmpty()) {
+            return null;
+        }
+
+        var fingerprint = issue.getUpdateDate() + "|" + component.getName() + "|" + component.getLongName() + "|"
+                + (sourcePath == null ? NO_SOURCE : getSourceHash(sourcePath));
+        var previousEntry = previousEntries.get(issue.getKey());
+
+        if (previousEntry != null && previousEntry.fingerprint.equals(fingerprint)) {
+            entries.put(issue.getKey(), previousEntry);
+            hitsCount++;
+            return previousEntry.fragment;
+        }
+
+        entries.put(issue.getKey(), new Entry(fingerprint, null));
+        return null;
+    }
+
+    void putFragment(String key, String fragment) {
+        entries.computeIfPresent(key, (entryKey, entry) -> new Entry(entry.fingerprint, fragment));
+    }
+
+    private int readLength(DataInputStream input, long size) throws IOException {
+        var length = input.readInt();
+
+        if (length < 0 || length > size) {
+            throw new IOException("Corrupted report cache '" + path + "'");
+        }
+
+        return length;
+    }
+
+    private String getSourceHash(String sourcePath) throws IOException {
+        var sourceHash = sourceHashesByPath.get(sourcePath);
+
+        if (sourceHash == null) {
+            sourceHash = computeSourceHash(Paths.get(sourcePath));
+            sourceHashesByPath.put(sourcePath, sourceHash);
+        }
+
+        return sourceHash;
+    }
+
+    private static String computeSourceHash(Path sourcePath) throws IOException {
+        if (!Files.isRegularFile(sourcePath)) {
+            return NO_SOURCE;
+        }
+
+        var crc = new CRC32C();
+        var buffer = new byte[HASH_BUFFER_SIZE];
+        long length = 0;
+
+        try (var input = Files.newInputStream(sourcePath)) {
+            int count;
+
+            while ((count = input.read(buffer)) != -1) {
+                crc.update(buffer, 0, count);
+                length += count;
+            }
+        }
+
+        return Long.toHexString(crc.getValue()) + ":" + length;
+    }
+
+    private static class Entry {
+        private final String fingerprint;
+        private final String fragment;
+
+        Entry(String fingerprint, String fragment) {
+            this.fingerprint = fingerprint;
+            this.fragment = fragment;
+        }
+    }
+}
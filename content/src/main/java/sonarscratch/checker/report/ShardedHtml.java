@@ -0,0 +1,272 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import sonarscratch.checker.config.Project;
+import sonarscratch.checker.issues.ComponentsCollection;
+import sonarscratch.checker.issues.IssuesCollection;
+import sonarscratch.checker.issues.SonarComponent;
+import sonarscratch.checker.issues.SonarIssue;
+import sonarscratch.checker.log.SystemLogger;
+import sonarscratch.checker.util.ExceptionUtil;
+
+public class ShardedHtml {
+    private static final String UNSPECIFIED_PROJECT = "unspecified";
+    private static final String SHARD_EXTENSION = ".html";
+    private IssuesCollection issuesCollection;
+    private HashMap<String, SonarComponent> componentsByKey = new HashMap<>();
+    private Iterable<Project> projects;
+    private Charset encoding;
+    private BufferedWriter indexWriter;
+    private Path reportPath;
+    private SystemLogger logger;
+    private int threadsCount;
+    private int shardIssuesCount;
+    private ReportCache reportCache;
+    private SourceFileCache sourceFileCache = new SourceFileCache(SourceFileCache.MAX_CACHED_BYTES);
+    private AtomicLong previewFilesCount = new AtomicLong();
+    private AtomicLong previewBytesCount = new AtomicLong();
+
+    public ShardedHtml(IssuesCollection issuesCollection, ComponentsCollection componentsCollection,
+            Iterable<Project> projects, Charset encoding, BufferedWriter indexWriter, String reportPath,
+            SystemLogger logger, int threadsCount, int shardIssuesCount, ReportCache reportCache) {
+        this.issuesCollection = issuesCollection;
+
+        for (var component : componentsCollection) {
+            this.componentsByKey.put(component.getKey(), component);
+        }
+
+        this.projects = projects;
+        this.encoding = encoding;
+        this.indexWriter = indexWriter;
+        this.reportPath = Paths.get(reportPath);
+        this.logger = logger;
+        this.threadsCount = threadsCount;
+        this.shardIssuesCount = shardIssuesCount;
+        this.reportCache = reportCache;
+    }
+
+    public void write() throws HtmlException {
+        var shards = getShards();
+
+        logger.info("Writing " + shards.size() + " HTML report shard(s)");
+
+        var executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threadsCount, shards.size())));
+
+        try {
+            deleteShards();
+
+            var pendingShards = new ArrayList<Future<Void>>();
+
+            for (var shard : shards) {
+                pendingShards.add(executor.submit(() -> {
+                    writeShard(shard);
+                    return null;
+                }));
+            }
+
+            for (var pendingShard : pendingShards) {
+                pendingShard.get();
+            }
+
+            writeIndex(shards);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new HtmlException("Writing HTML report interrupted", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof HtmlException) {
+                throw (HtmlException) exception.getCause();
+            }
+
+            throw new HtmlException(ExceptionUtil.getDefaultMessage(ShardedHtml.class), exception.getCause());
+        } catch (IOException exception) {
+            throw new HtmlException(ExceptionUtil.getDefaultMessage(ShardedHtml.class), exception);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public long getPreviewFilesCount() {
+        return previewFilesCount.get();
+    }
+
+    public long getPreviewBytesCount() {
+        return previewBytesCount.get();
+    }
+
+    HtmlWriteDependency getHtmlWriteDependency() {
+        return new HtmlWriteDependency();
+    }
+
+    private List<Shard> getShards() {
+        var issuesByProject = new LinkedHashMap<String, List<SonarIssue>>();
+
+        for (var issue : issuesCollection) {
+            var project = issue.getProject().isEmpty() ? UNSPECIFIED_PROJECT : issue.getProject();
+
+            issuesByProject.computeIfAbsent(project, key -> new ArrayList<>()).add(issue);
+        }
+
+        var shards = new ArrayList<Shard>();
+
+        for (var entry : issuesByProject.entrySet()) {
+            var issues = entry.getValue();
+            var size = shardIssuesCount > 0 ? shardIssuesCount : issues.size();
+
+            for (var start = 0; start < issues.size(); start += size) {
+                shards.add(new Shard(entry.getKey(), getFileName(entry.getKey(), start / size, issues.size() > size),
+                        issues.subList(start, Math.min(start + size, issues.size()))));
+            }
+        }
+
+        return shards;
+    }
+
+    private String getBaseName() {
+        var reportName = reportPath.getFileName().toString();
+        var extensionIndex = reportName.lastIndexOf('.');
+
+        return extensionIndex > 0 ? reportName.substring(0, extensionIndex) : reportName;
+    }
+
+    private String getFileName(String project, int index, boolean split) {
+        var fileName = new StringBuilder(getBaseName()).append('-');
+
+        for (var character : project.toCharArray()) {
+            if (character < 128 && (Character.isLetterOrDigit(character) || character == '.')) {
+                fileName.append(character);
+            } else {
+                fileName.append(String.format("_%04x", (int) character));
+            }
+        }
+
+        if (split) {
+            fileName.append('-').append(index + 1);
+        }
+
+        return fileName.append(SHARD_EXTENSION).toString();
+    }
+
+    private void deleteShards() throws IOException {
+        var prefix = getBaseName() + "-";
+        var directory = reportPath.toAbsolutePath().getParent();
+
+        try (var paths = Files.newDirectoryStream(directory)) {
+            for (var path : paths) {
+                var fileName = path.getFileName().toString();
+
+                if (fileName.startsWith(prefix) && fileName.endsWith(SHARD_EXTENSION) && Files.isRegularFile(path)) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    private void writeShard(Shard shard) throws IOException, HtmlException {
+        var shardIssues = new IssuesCollection(shard.issues.size());
+        var shardComponents = new ComponentsCollection();
+        var shardComponentKeys = new HashSet<String>();
+
+        for (var issue : shard.issues) {
+            shardIssues.addIssue(issue);
+
+            var component = componentsByKey.get(issue.getComponent());
+
+            if (component != null && shardComponentKeys.add(component.getKey())) {
+                shardComponents.addComponent(component);
+            }
+        }
+
+        var path = reportPath.resolveSibling(shard.fileName).toString();
+
+        try (var bufferedWriter = getHtmlWriteDependency().bufferedWriter(path)) {
+            var html = new Html(shardIssues, shardComponents, projects, encoding, bufferedWriter, logger, 1,
+                    reportCache, sourceFileCache);
+
+            html.write();
+            previewFilesCount.addAndGet(html.getPreviewFilesCount());
+            previewBytesCount.addAndGet(html.getPreviewBytesCount());
+        }
+    }
+
+    private void writeIndex(List<Shard> shards) throws IOException {
+        writeln("<html>");
+        writeln("<head><meta charset=\"UTF-8\">");
+        writeln("<style>");
+        writeln(Css.SONARSCRATCH_CHECKER);
+        writeln(Css.SONARSCRATCH_CHECKER_HEADER);
+        writeln(Css.SONARSCRATCH_CHECKER_HEADER_WARNING);
+        writeln(Css.SONARSCRATCH_CHECKER_HEADER_ISSUES);
+        writeln(Css.SONARSCRATCH_CHECKER_INDEX);
+        writeln("</style>");
+        writeln("</head>");
+        writeln("<body class=\"sonarscratch-checker\">");
+        writeln("<div class=\"sonarscratch-checker-header\">");
+        write("<div class=\"sonarscratch-checker-header-warning\">");
+        write("This is a basic report, see SonarQube report for more details.");
+        writeln(IssueWriter.END_DIV_BLOCK);
+        write("<div class=\"sonarscratch-checker-header-issues\">");
+        write("This report shows " + issuesCollection.count() + " issues from " + issuesCollection.total()
+                + ", in " + shards.size() + " files.");
+        writeln(IssueWriter.END_DIV_BLOCK);
+        writeln(IssueWriter.END_DIV_BLOCK);
+        writeln("<table class=\"sonarscratch-checker-index\">");
+        writeln("<tr><th>Project</th><th>Issues</th><th>Report</th></tr>");
+
+        for (var shard : shards) {
+            write("<tr><td>");
+            HtmlEscaper.writeContent(indexWriter, shard.project);
+            write("</td><td>" + shard.issues.size() + "</td><td><a href=\"");
+            HtmlEscaper.writeContent(indexWriter, shard.fileName);
+            write("\">");
+            HtmlEscaper.writeContent(indexWriter, shard.fileName);
+            writeln("</a></td></tr>");
+        }
+
+        writeln("</table>");
+        writeln("</body>");
+        writeln("</html>");
+        indexWriter.flush();
+    }
+
+    private void writeln(String str) throws IOException {
+        indexWriter.write(str);
+        indexWriter.newLine();
+    }
+
+    private void write(String str) throws IOException {
+        indexWriter.write(str);
+    }
+
+    private static final class Shard {
+        private final String project;
+        private final String fileName;
+        private final List<SonarIssue> issues;
+
+        private Shard(String project, String fileName, List<SonarIssue> issues) {
+            this.project = project;
+            this.fileName = fileName;
+            this.issues = issues;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.report;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+class SourceFile {
+    private static final int INITIAL_LINES_CAPACITY = 256;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private Path path;
+    private Charset encoding;
+    private int[] lineStarts;
+    private int linesCount;
+    private int size;
+    private long lastModified;
+
+    SourceFile(String filePath, Charset encoding, long lastModified, AtomicLong readBytesCount) throws IOException {
+        this.path = Paths.get(filePath);
+        this.encoding = encoding;
+        this.lastModified = lastModified;
+        indexLines(readBytesCount);
+    }
+
+    static boolean isSupported(Charset encoding) {
+        return encoding != null && Arrays.equals("a\r\n".getBytes(encoding), new byte[] { 'a', '\r', '\n' });
+    }
+
+    int getLinesCount() {
+        return linesCount;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    long getIndexBytes() {
+        return (long) lineStarts.length * Integer.BYTES;
+    }
+
+    long getLastModified() {
+        return lastModified;
+    }
+
+    List<String> readLines(int firstLine, int lastLine, AtomicLong readBytesCount) throws IOException {
+        var first = Math.max(firstLine, 1);
+        var last = Math.min(lastLine, linesCount);
+        var lines = new ArrayList<String>();
+
+        if (first > last) {
+            return lines;
+        }
+
+        var start = lineStarts[first - 1];
+        var buffer = ByteBuffer.allocate(getLineEnd(last) - start);
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of file '" + path + "'");
+                }
+            }
+        }
+
+        readBytesCount.addAndGet(buffer.capacity());
+
+        for (var lineNumber = first; lineNumber <= last; lineNumber++) {
+            buffer.limit(getLineEnd(lineNumber) - start).position(lineStarts[lineNumber - 1] - start);
+            lines.add(encoding.decode(buffer).toString());
+        }
+
+        return lines;
+    }
+
+    private int getLineEnd(int number) {
+        return number < linesCount ? lineStarts[number] : size;
+    }
+
+    private void indexLines(AtomicLong readBytesCount) throws IOException {
+        var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        var position = 0;
+        var carriageReturn = false;
+
+        lineStarts = new int[INITIAL_LINES_CAPACITY];
+        addLine(0);
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer.clear()) > 0) {
+                buffer.flip();
+
+                while (buffer.hasRemaining()) {
+                    var b = buffer.get();
+
+                    position++;
+
+                    if (carriageReturn) {
+                        carriageReturn = false;
+
+                        if (b == '\n') {
+                            addLine(position);
+                            continue;
+                        }
+
+                        addLine(position - 1);
+                    }
+
+                    if (b == '\n') {
+                        addLine(position);
+                    } else if (b == '\r') {
+                        carriageReturn = true;
+                    }
+                }
+            }
+        }
+
+        size = position;
+        lineStarts = Arrays.copyOf(lineStarts, linesCount);
+        readBytesCount.addAndGet(size);
+    }
+
+    private void addLine(int start) {
+        if (linesCount == lineStarts.length) {
+            lineStarts = Arrays.copyOf(lineStarts, linesCount * 2);
+        }
+
+        lineStarts[linesCount] = start;
+        linesCount++;
+    }
+}
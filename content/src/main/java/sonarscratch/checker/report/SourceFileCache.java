@@ -0,0 +1,83 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.report;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+class SourceFileCache {
+    static final long MAX_CACHED_BYTES = 16L * 1024 * 1024;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int INITIAL_CAPACITY = 16;
+    private LinkedHashMap<String, SourceFile> filesByPath = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR,
+            true);
+    private long maxCachedBytes;
+    private long cachedBytes;
+
+    SourceFileCache(long maxCachedBytes) {
+        this.maxCachedBytes = maxCachedBytes;
+    }
+
+    synchronized SourceFile get(String filePath, Charset encoding, AtomicLong readBytesCount) throws IOException {
+        var file = new File(filePath);
+
+        if (!file.isFile()) {
+            throw new FileNotFoundException(filePath + " (No such file)");
+        }
+
+        var key = encoding.name() + ":" + filePath;
+        var sourceFile = filesByPath.get(key);
+
+        if (sourceFile != null && sourceFile.getLastModified() == file.lastModified()
+                && sourceFile.getSize() == file.length()) {
+            return sourceFile;
+        }
+
+        if (sourceFile != null) {
+            remove(key);
+        }
+
+        if (file.length() > Integer.MAX_VALUE) {
+            return null;
+        }
+
+        sourceFile = new SourceFile(filePath, encoding, file.lastModified(), readBytesCount);
+
+        if (sourceFile.getIndexBytes() <= maxCachedBytes) {
+            filesByPath.put(key, sourceFile);
+            cachedBytes += sourceFile.getIndexBytes();
+            evict();
+        }
+
+        return sourceFile;
+    }
+
+    synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    synchronized int count() {
+        return filesByPath.size();
+    }
+
+    private void evict() {
+        var iterator = filesByPath.entrySet().iterator();
+
+        while (cachedBytes > maxCachedBytes && iterator.hasNext()) {
+            cachedBytes -= iterator.next().getValue().getIndexBytes();
+            iterator.remove();
+        }
+    }
+
+    private void remove(String key) {
+        cachedBytes -= filesByPath.remove(key).getIndexBytes();
+    }
+}
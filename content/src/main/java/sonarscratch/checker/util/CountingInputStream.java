@@ -0,0 +1,56 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CountingInputStream extends FilterInputStream {
+    private AtomicLong bytesCount;
+
+    public CountingInputStream(InputStream stream, AtomicLong bytesCount) {
+        super(stream);
+        this.bytesCount = bytesCount;
+    }
+
+    @Override
+    public int read() throws IOException {
+        var value = super.read();
+
+        if (value != -1) {
+            bytesCount.incrementAndGet();
+        }
+
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        var count = super.read(buffer, offset, length);
+
+        if (count > 0) {
+            bytesCount.addAndGet(count);
+        }
+
+        return count;
+    }
+
+    @Override
+    public long skip(long length) throws IOException {
+        var count = super.skip(length);
+
+        bytesCount.addAndGet(count);
+        return count;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
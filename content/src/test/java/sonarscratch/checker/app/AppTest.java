@@ -6,8 +6,9 @@
 
 package sonarscratch.checker.app;
 
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 
@@ -23,19 +24,28 @@ import org.hamcrest.CoreMatchers;
 import org.hamcrest.core.IsInstanceOf;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 
 import sonarscratch.checker.config.Config;
 import sonarscratch.checker.http.Client;
 import sonarscratch.checker.http.ClientException;
 import sonarscratch.checker.http.ClientTestUtil;
+import sonarscratch.checker.http.DiskResponseCache;
 import sonarscratch.checker.issues.ComponentsCollection;
 import sonarscratch.checker.issues.Finder;
 import sonarscratch.checker.issues.FinderException;
 import sonarscratch.checker.issues.FinderResult;
+import sonarscratch.checker.issues.FinderStream;
 import sonarscratch.checker.issues.IssuesCollection;
+import sonarscratch.checker.issues.SpillStore;
 import sonarscratch.checker.log.SystemLogger;
+import sonarscratch.checker.report.Html;
+import sonarscratch.checker.report.HtmlException;
+import sonarscratch.checker.report.ReportCache;
+import sonarscratch.checker.report.ShardedHtml;
 import sonarscratch.checker.test.ExceptionAssert;
 import sonarscratch.checker.test.StandardTest;
 import sonarscratch.checker.test.TestException;
@@ -46,6 +56,9 @@ public class AppTest extends StandardTest {
     private static final int STANDARD_ATTEMPTS = 2;
     private static final String USAGE_SN_SCRATCH_CH_OPTIONS = "Usage : sn-scratch-ch [OPTIONS]";
 
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void test_Execute_Help_Long() throws AppException {
         appExecute(new String[] { "--help" });
@@ -86,8 +99,8 @@ public class AppTest extends StandardTest {
             var mockedClient = ClientTestUtil.mockClientForApp(new Client(STANDARD_ATTEMPTS, 0, logger));
 
             doReturn(logger).when(mockedAppExecuteDependency).systemLogger();
-            doReturn(mockedClient).when(mockedAppExecuteDependency).client(Mockito.anyInt(), Mockito.anyInt(),
-                    Mockito.any());
+            doReturn(mockedClient).when(mockedAppExecuteDependency).client(Mockito.any(), Mockito.any(),
+                    Mockito.anyBoolean(), Mockito.any(), Mockito.any(), Mockito.any());
 
             assertEquals(0, mockedApp.execute(new String[] { "-c" }, mockedAppExecuteDependency,
                     mockedAppExecuteDependency.systemLogger()));
@@ -98,7 +111,8 @@ public class AppTest extends StandardTest {
                     + "[INFO] : Succeeded after 1 attempt(s)" + System.lineSeparator()
                     + "[INFO] : -----------------------------------------" + System.lineSeparator()
                     + "[INFO] : Waiting done after 1 attempt(s)" + System.lineSeparator()
-                    + "[INFO] : -----------------------------------------" + System.lineSeparator(),
+                    + "[INFO] : -----------------------------------------" + System.lineSeparator()
+                    + "[INFO] : Transferred 48 byte(s), decoded 48 byte(s)" + System.lineSeparator(),
                     getOutContent().toString(StandardCharsets.UTF_8));
         } catch (AppException | ClientException | IOException exception) {
             throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
@@ -133,20 +147,217 @@ public class AppTest extends StandardTest {
     }
 
     @Test
-    public void test_Execute_Report_NoIssues() throws TestException {
+    public void test_Execute_Servers_GetCount() throws TestException {
+        final String FIRST_URL = "http://first:9000";
+        final String SECOND_URL = "http://second:9000";
+
         try {
             var mockedApp = mockApp();
+            var credentialsFile = temporaryFolder.newFile("credentials");
 
-            doReturn(0).when(mockedApp.finder).count(Mockito.anyString());
+            Files.writeString(credentialsFile.toPath(), "user:password");
+            doReturn(0).when(mockedApp.finder).count(FIRST_URL);
+            doReturn(STANDARD_ISSUES_COUNT).when(mockedApp.finder).count(SECOND_URL);
+            assertEquals(1, mockedApp.app.execute(new String[] { "--server", FIRST_URL, "--server", SECOND_URL,
+                "--server-credentials", credentialsFile.getPath() }, mockedApp.appExecuteDependency,
+                    mockedApp.appExecuteDependency.systemLogger()));
+
+            Mockito.verify(mockedApp.finder).wait(FIRST_URL);
+            Mockito.verify(mockedApp.finder).wait(SECOND_URL);
+            Mockito.verify(mockedApp.finder).setComponentsNamespace("0|");
+            Mockito.verify(mockedApp.finder).setComponentsNamespace("1|");
+            Mockito.verify(mockedApp.appExecuteDependency).client(Mockito.any(), Mockito.any(), Mockito.anyBoolean(),
+                    Mockito.isNull(DiskResponseCache.class), Mockito.eq(Client.DEFAULT_ADMIN_CREDENTIALS),
+                    Mockito.isNull(String.class));
+            Mockito.verify(mockedApp.appExecuteDependency).client(Mockito.any(), Mockito.any(), Mockito.anyBoolean(),
+                    Mockito.isNull(DiskResponseCache.class), Mockito.eq("user:password"), Mockito.eq("user:password"));
+        } catch (AppException | FinderException | IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Execute_Servers_Report() throws TestException {
+        final String FIRST_URL = "http://first:9000";
+        final String SECOND_URL = "http://second:9000";
+
+        try {
+            var mockedApp = mockApp();
+            var stringWriter = new StringWriter();
+
+            doReturn(new BufferedWriter(stringWriter)).when(mockedApp.appExecuteDependency)
+                    .bufferedWriter(Mockito.anyString());
+            doReturn(mockFinderResult(0, "first")).when(mockedApp.finder).find(FIRST_URL);
+            doReturn(mockFinderResult(2, "second")).when(mockedApp.finder).find(SECOND_URL);
+
+            assertEquals(1, mockedApp.app.execute(new String[] { "-r", "--server", FIRST_URL,
+                "--server", SECOND_URL }, mockedApp.appExecuteDependency,
+                    mockedApp.appExecuteDependency.systemLogger()));
+            assertTrue(stringWriter.toString().contains("Issue of second"));
+        } catch (AppException | FinderException | JSONException | IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Execute_Servers_Exception() throws TestException {
+        final String FIRST_URL = "http://first:9000";
+        final String SECOND_URL = "http://second:9000";
+
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(AppException.class));
+
+        try {
+            var mockedApp = mockApp();
+
+            doThrow(new FinderException("Second failed")).when(mockedApp.finder).count(SECOND_URL);
+
+            mockedApp.app.execute(new String[] { "--server", FIRST_URL, "--server", SECOND_URL },
+                    mockedApp.appExecuteDependency, mockedApp.appExecuteDependency.systemLogger());
+        } catch (AppException | FinderException exception) {
+            ExceptionAssert.checkMessage("Second failed", exception.getCause());
+            throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Execute_Metrics_Json() throws TestException {
+        try {
+            var mockedApp = mockApp();
+            var stringWriter = new StringWriter();
+
+            doReturn(new BufferedWriter(stringWriter)).when(mockedApp.appExecuteDependency)
+                    .bufferedWriter("metrics.json");
+            doReturn(STANDARD_ISSUES_COUNT).when(mockedApp.finder).count(Mockito.anyString());
+
+            assertEquals(1, mockedApp.app.execute(new String[] { "--metrics", "metrics.json" },
+                    mockedApp.appExecuteDependency, mockedApp.appExecuteDependency.systemLogger()));
+
+            var json = new JSONObject(stringWriter.toString());
+            var histograms = json.getJSONObject("histograms");
+
+            assertEquals(1, histograms.getJSONObject("stage_wait_milliseconds").getLong("count"));
+            assertEquals(1, histograms.getJSONObject("stage_count_milliseconds").getLong("count"));
+            assertEquals(0, json.getJSONObject("counters").getLong("http_requests_total"));
+            assertThat(getOutContent().toString(StandardCharsets.UTF_8),
+                    CoreMatchers.containsString("Metrics written to 'metrics.json'"));
+        } catch (AppException | FinderException | JSONException | IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Execute_Metrics_Stream() throws TestException {
+        try {
+            var mockedApp = mockApp();
+            var mockedStream = Mockito.mock(FinderStream.class);
+            var stringWriter = new StringWriter();
+
+            doReturn(new BufferedWriter(new StringWriter())).when(mockedApp.appExecuteDependency)
+                    .bufferedWriter(Mockito.anyString());
+            doReturn(new BufferedWriter(stringWriter)).when(mockedApp.appExecuteDependency)
+                    .bufferedWriter("metrics.json");
+            doReturn(mockFinderResult(2, "first")).when(mockedStream).peek();
+            doReturn((long) STANDARD_ISSUES_COUNT).when(mockedStream).getTakenIssuesCount();
+            doReturn(mockedStream).when(mockedApp.finder).findAllStream(Mockito.anyString(), Mockito.anyInt());
+            doReturn(Mockito.mock(Html.class)).when(mockedApp.appExecuteDependency).streamingHtml(Mockito.any(),
+                    Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.any());
+
+            assertEquals(1, mockedApp.app.execute(new String[] { "-r", "--stream", "--metrics", "metrics.json" },
+                    mockedApp.appExecuteDependency, mockedApp.appExecuteDependency.systemLogger()));
+
+            var json = new JSONObject(stringWriter.toString());
+
+            assertEquals(1, json.getJSONObject("histograms").getJSONObject("stage_find_milliseconds").getLong("count"));
+            assertEquals(STANDARD_ISSUES_COUNT, json.getJSONObject("counters").getLong("issues_found_total"));
+        } catch (AppException | FinderException | JSONException | IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Execute_Metrics_Exception() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(AppException.class));
+
+        try {
+            var mockedApp = mockApp();
+            var mockedSpillStore = Mockito.mock(SpillStore.class);
+
+            doThrow(new IOException("Metrics failed")).when(mockedApp.appExecuteDependency)
+                    .bufferedWriter("metrics.json");
+            doReturn(mockedSpillStore).when(mockedApp.appExecuteDependency).spillStore(Mockito.anyString());
+            doThrow(new IOException("Close failed")).when(mockedSpillStore).close();
+            doThrow(new FinderException("Find failed")).when(mockedApp.finder).findAll(Mockito.anyString());
+
+            mockedApp.app.execute(new String[] { "-r", "-a", "--spill", "--metrics", "metrics.json" },
+                    mockedApp.appExecuteDependency, mockedApp.appExecuteDependency.systemLogger());
+        } catch (AppException | FinderException | IOException exception) {
+            ExceptionAssert.checkMessage("Find failed", exception.getCause());
+
+            var errContent = getErrContent().toString(StandardCharsets.UTF_8);
+
+            assertThat(errContent, CoreMatchers.containsString("Close failed"));
+            assertThat(errContent, CoreMatchers.containsString("Metrics failed"));
+            throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Execute_Log_Quiet() throws TestException {
+        try {
+            var mockedApp = mockApp();
+
+            doReturn(new BufferedWriter(new StringWriter())).when(mockedApp.appExecuteDependency)
+                    .bufferedWriter("metrics.prom");
+            doReturn(STANDARD_ISSUES_COUNT).when(mockedApp.finder).count(Mockito.anyString());
+
+            assertEquals(1, mockedApp.app.execute(new String[] { "--quiet", "--metrics", "metrics.prom" },
+                    mockedApp.appExecuteDependency, mockedApp.appExecuteDependency.systemLogger()));
+            assertEquals("", getOutContent().toString(StandardCharsets.UTF_8));
+        } catch (AppException | FinderException | IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Execute_Log_Async() throws TestException {
+        try {
+            var mockedApp = mockApp();
+
+            doReturn(new BufferedWriter(new StringWriter())).when(mockedApp.appExecuteDependency)
+                    .bufferedWriter("metrics.prom");
+            doReturn(STANDARD_ISSUES_COUNT).when(mockedApp.finder).count(Mockito.anyString());
+
+            assertEquals(1, mockedApp.app.execute(new String[] { "--async-log", "--metrics", "metrics.prom" },
+                    mockedApp.appExecuteDependency, mockedApp.appExecuteDependency.systemLogger()));
+            Mockito.verify(mockedApp.appExecuteDependency).asyncSystemLogger(Mockito.any());
+            assertThat(getOutContent().toString(StandardCharsets.UTF_8),
+                    CoreMatchers.containsString("Metrics written to 'metrics.prom'"));
+        } catch (AppException | FinderException | IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Execute_Report_NoIssues() throws TestException {
+        try {
+            var mockedApp = mockApp();
 
             var stringWriter = new StringWriter();
             var bufferedWriter = new BufferedWriter(stringWriter);
 
             doReturn(bufferedWriter).when(mockedApp.appExecuteDependency).bufferedWriter(Mockito.anyString());
 
+            var mockedFinderResult = Mockito.mock(FinderResult.class);
+
+            doReturn(new IssuesCollection(0)).when(mockedFinderResult).getIssuesCollection();
+            doReturn(mockedFinderResult).when(mockedApp.finder).find(Mockito.anyString());
+
             assertEquals(0, mockedApp.app.execute(new String[] { "-r" }, mockedApp.appExecuteDependency,
                     mockedApp.appExecuteDependency.systemLogger()));
             assertEquals(0, stringWriter.toString().length());
+            Mockito.verify(mockedApp.finder, Mockito.never()).count(Mockito.anyString());
         } catch (AppException | FinderException | IOException exception) {
             throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
         }
@@ -157,8 +368,6 @@ public class AppTest extends StandardTest {
         try {
             var mockedApp = mockApp();
 
-            doReturn(STANDARD_ISSUES_COUNT).when(mockedApp.finder).count(Mockito.anyString());
-
             var stringWriter = new StringWriter();
             var bufferedWriter = new BufferedWriter(stringWriter);
 
@@ -182,11 +391,167 @@ public class AppTest extends StandardTest {
             assertEquals(1, mockedApp.app.execute(new String[] { "-r" }, mockedApp.appExecuteDependency,
                     mockedApp.appExecuteDependency.systemLogger()));
             assertEquals(getResourceContent("execute-report.html"), stringWriter.toString());
+            Mockito.verify(mockedApp.finder, Mockito.never()).count(Mockito.anyString());
         } catch (AppException | FinderException | JSONException | IOException exception) {
             throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
         }
     }
 
+    @Test
+    public void test_Execute_Report_Shard() throws TestException {
+        try {
+            var mockedApp = mockApp();
+            var mockedShardedHtml = Mockito.mock(ShardedHtml.class);
+
+            doReturn(new BufferedWriter(new StringWriter())).when(mockedApp.appExecuteDependency)
+                    .bufferedWriter(Mockito.anyString());
+            doReturn(mockFinderResult(2, "first")).when(mockedApp.finder).find(Mockito.anyString());
+            doReturn(mockedShardedHtml).when(mockedApp.appExecuteDependency).shardedHtml(Mockito.any(),
+                    Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq(Config.DEFAULT_REPORT_PATH),
+                    Mockito.any(), Mockito.anyInt(), Mockito.eq(100), Mockito.any());
+
+            assertEquals(1, mockedApp.app.execute(new String[] { "-r", "--shard-size", "100" },
+                    mockedApp.appExecuteDependency, mockedApp.appExecuteDependency.systemLogger()));
+            Mockito.verify(mockedShardedHtml).write();
+            Mockito.verify(mockedApp.appExecuteDependency, Mockito.never()).html(Mockito.any(), Mockito.any(),
+                    Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.any());
+        } catch (AppException | FinderException | HtmlException | JSONException | IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Execute_Report_Stream_() throws TestException {
+        try {
+            var mockedApp = mockApp();
+            var mockedStream = Mockito.mock(FinderStream.class);
+            var mockedHtml = Mockito.mock(Html.class);
+
+            doReturn(new BufferedWriter(new StringWriter())).when(mockedApp.appExecuteDependency)
+                    .bufferedWriter(Mockito.anyString());
+            doReturn(mockFinderResult(2, "first")).when(mockedStream).peek();
+            doReturn(mockedStream).when(mockedApp.finder).findAllStream(Mockito.anyString(), Mockito.anyInt());
+            doReturn(mockedHtml).when(mockedApp.appExecuteDependency).streamingHtml(Mockito.any(), Mockito.any(),
+                    Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.any());
+
+            assertEquals(1, mockedApp.app.execute(new String[] { "-r", "--stream" }, mockedApp.appExecuteDependency,
+                    mockedApp.appExecuteDependency.systemLogger()));
+            Mockito.verify(mockedHtml).write(mockedStream);
+            Mockito.verify(mockedStream).cancel();
+            Mockito.verify(mockedApp.finder, Mockito.never()).findAll(Mockito.anyString());
+        } catch (AppException | FinderException | HtmlException | JSONException | IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Execute_Report_Stream_NoIssues() throws TestException {
+        try {
+            var mockedApp = mockApp();
+            var mockedStream = Mockito.mock(FinderStream.class);
+
+            doReturn(null).when(mockedStream).peek();
+            doReturn(mockedStream).when(mockedApp.finder).findAllStream(Mockito.anyString(), Mockito.anyInt());
+
+            assertEquals(0, mockedApp.app.execute(new String[] { "-r", "--stream" }, mockedApp.appExecuteDependency,
+                    mockedApp.appExecuteDependency.systemLogger()));
+            Mockito.verify(mockedApp.appExecuteDependency, Mockito.never()).streamingHtml(Mockito.any(),
+                    Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.any());
+            Mockito.verify(mockedStream).cancel();
+        } catch (AppException | FinderException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Execute_Report_Spill() throws TestException {
+        try {
+            var mockedApp = mockApp();
+            var mockedSpillStore = Mockito.mock(SpillStore.class);
+
+            doReturn(new BufferedWriter(new StringWriter())).when(mockedApp.appExecuteDependency)
+                    .bufferedWriter(Mockito.anyString());
+            doReturn(mockedSpillStore).when(mockedApp.appExecuteDependency).spillStore(Mockito.anyString());
+            doReturn(mockFinderResult(2, "first")).when(mockedApp.finder).findAll(Mockito.anyString());
+
+            assertEquals(1, mockedApp.app.execute(new String[] { "-r", "-a", "--spill-path", "spill" },
+                    mockedApp.appExecuteDependency, mockedApp.appExecuteDependency.systemLogger()));
+            Mockito.verify(mockedApp.appExecuteDependency).spillStore("spill");
+            Mockito.verify(mockedApp.appExecuteDependency).finder(Mockito.any(), Mockito.any(), Mockito.anyInt(),
+                    Mockito.any(), Mockito.eq(mockedSpillStore));
+            Mockito.verify(mockedSpillStore).close();
+        } catch (AppException | FinderException | JSONException | IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Execute_Report_All() throws TestException {
+        try {
+            var mockedApp = mockApp();
+
+            doReturn(STANDARD_ISSUES_COUNT).when(mockedApp.finder).count(Mockito.anyString());
+            doReturn(new BufferedWriter(new StringWriter())).when(mockedApp.appExecuteDependency)
+                    .bufferedWriter(Mockito.anyString());
+
+            var mockedFinderResult = Mockito.mock(FinderResult.class);
+
+            doReturn(new IssuesCollection(STANDARD_ISSUES_COUNT)).when(mockedFinderResult).getIssuesCollection();
+            doReturn(new ComponentsCollection()).when(mockedFinderResult).getComponentsCollection();
+            doReturn(mockedFinderResult).when(mockedApp.finder).findAll(Mockito.anyString());
+
+            assertEquals(1, mockedApp.app.execute(new String[] { "-r", "-a" }, mockedApp.appExecuteDependency,
+                    mockedApp.appExecuteDependency.systemLogger()));
+            Mockito.verify(mockedApp.finder).findAll(Mockito.anyString());
+            Mockito.verify(mockedApp.finder, Mockito.never()).find(Mockito.anyString());
+        } catch (AppException | FinderException | IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Execute_Report_Incremental() throws TestException {
+        try {
+            var mockedApp = mockApp();
+
+            doReturn(STANDARD_ISSUES_COUNT).when(mockedApp.finder).count(Mockito.anyString());
+            doReturn(new BufferedWriter(new StringWriter())).when(mockedApp.appExecuteDependency)
+                    .bufferedWriter(Mockito.anyString());
+
+            var mockedFinderResult = Mockito.mock(FinderResult.class);
+            var mockedReportCache = Mockito.mock(ReportCache.class);
+
+            doReturn(new IssuesCollection(STANDARD_ISSUES_COUNT)).when(mockedFinderResult).getIssuesCollection();
+            doReturn(new ComponentsCollection()).when(mockedFinderResult).getComponentsCollection();
+            doReturn(mockedFinderResult).when(mockedApp.finder).find(Mockito.anyString());
+            doReturn(mockedReportCache).when(mockedApp.appExecuteDependency).reportCache(Mockito.anyString(),
+                    Mockito.any());
+
+            assertEquals(1, mockedApp.app.execute(new String[] { "-r", "--incremental", "--path", "report.html" },
+                    mockedApp.appExecuteDependency, mockedApp.appExecuteDependency.systemLogger()));
+            Mockito.verify(mockedApp.appExecuteDependency).reportCache(Mockito.eq("report.html"), Mockito.any());
+            Mockito.verify(mockedReportCache).load();
+            Mockito.verify(mockedReportCache).save();
+        } catch (AppException | FinderException | IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Execute_Task() throws TestException {
+        try {
+            var mockedApp = mockApp();
+
+            doReturn(0).when(mockedApp.finder).count(Mockito.anyString());
+            assertEquals(0, mockedApp.app.execute(new String[] { "--task", "report-task.txt" },
+                    mockedApp.appExecuteDependency, mockedApp.appExecuteDependency.systemLogger()));
+            Mockito.verify(mockedApp.finder).waitTask(Config.DEFAULT_SONAR_URL, "report-task.txt");
+            Mockito.verify(mockedApp.finder, Mockito.never()).wait(Mockito.anyString());
+        } catch (AppException | FinderException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(AppTest.class), exception);
+        }
+    }
+
     @Test
     public void test_Execute_Exception() throws TestException {
         expectedExceptionRule.expect(TestException.class);
@@ -200,8 +565,8 @@ public class AppTest extends StandardTest {
             doReturn(mockedAppExecuteDependency).when(mockedApp).getExecuteDependency();
             var mockedFinder = Mockito.mock(Finder.class);
 
-            doReturn(mockedFinder).when(mockedAppExecuteDependency).finder(Mockito.any(), Mockito.any());
-            doReturn(STANDARD_ISSUES_COUNT).when(mockedFinder).count(Mockito.anyString());
+            doReturn(mockedFinder).when(mockedAppExecuteDependency).finder(Mockito.any(), Mockito.any(),
+                Mockito.anyInt(), Mockito.any(), Mockito.any());
             doThrow(new FinderException("AppException test")).when(mockedFinder).find(Mockito.anyString());
 
             mockedApp.execute(new String[] { "-r" }, mockedAppExecuteDependency,
@@ -271,7 +636,8 @@ public class AppTest extends StandardTest {
 
         var mockedFinder = Mockito.mock(Finder.class);
 
-        doReturn(mockedFinder).when(mockedAppExecuteDependency).finder(Mockito.any(), Mockito.any());
+        doReturn(mockedFinder).when(mockedAppExecuteDependency).finder(Mockito.any(), Mockito.any(),
+                Mockito.anyInt(), Mockito.any(), Mockito.any());
 
         var returnedValue = new MockedApp();
 
@@ -282,6 +648,23 @@ public class AppTest extends StandardTest {
         return returnedValue;
     }
 
+    private static FinderResult mockFinderResult(int total, String name) throws JSONException {
+        var issues = new IssuesCollection(total);
+        var components = new ComponentsCollection();
+
+        for (var index = 0; index < total; index++) {
+            issues.addIssue(new JSONObject("{message : \"Issue of " + name + "\", component:\"" + name + "\"}"));
+        }
+
+        components.addComponent(new JSONObject("{key:\"" + name + "\"}"));
+
+        var mockedFinderResult = Mockito.mock(FinderResult.class);
+
+        doReturn(issues).when(mockedFinderResult).getIssuesCollection();
+        doReturn(components).when(mockedFinderResult).getComponentsCollection();
+        return mockedFinderResult;
+    }
+
     static final class MockedApp {
         private App app;
         private AppExecuteDependency appExecuteDependency;
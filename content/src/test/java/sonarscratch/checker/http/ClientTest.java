@@ -7,17 +7,41 @@
 package sonarscratch.checker.http;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.hamcrest.core.IsInstanceOf;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
 import sonarscratch.checker.log.SystemLogger;
 import sonarscratch.checker.test.ExceptionAssert;
 import sonarscratch.checker.test.StandardTest;
@@ -26,6 +50,13 @@ import sonarscratch.checker.util.ExceptionUtil;
 
 public class ClientTest extends StandardTest {
     private static final String URL = "http://localhost:9580";
+    private static final String COMPRESSIBLE = "{\"issues\" : [" + "{\"message\" : \"Remove this line\"}, ".repeat(100)
+            + "{}]}";
+    private static final String ETAG = "\"v1\"";
+    private static final long CACHE_MAX_BYTES_COUNT = 1024 * 1024;
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     @Test
     public void test_Constructor_IncorrectCount() throws ClientException {
@@ -227,11 +258,637 @@ public class ClientTest extends StandardTest {
         }
     }
 
+    @Test
+    public void test_On_Pooled_() throws TestException {
+        var remotePorts = new HashSet<Integer>();
+        var server = startServer(exchange -> {
+            remotePorts.add(exchange.getRemoteAddress().getPort());
+            respond(exchange, Client.DEFAULT_CORRECT_RESPONSE_CODE, "{\"total\" : 1}");
+        });
+
+        try {
+            var client = new Client(1, 0, new SystemLogger(), true);
+            var contents = new ArrayList<String>();
+            final int REQUESTS_COUNT = 3;
+
+            for (var i = 0; i < REQUESTS_COUNT; i++) {
+                client.on(getServerUrl(server), stream -> contents.add(readContent(stream)));
+            }
+
+            assertEquals(Arrays.asList("{\"total\" : 1}", "{\"total\" : 1}", "{\"total\" : 1}"), contents);
+            assertEquals(1, remotePorts.size());
+        } catch (ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void test_On_Pooled_AdminAuthorization() throws TestException {
+        var authorizations = new ArrayList<String>();
+        var server = startServer(exchange -> {
+            authorizations.add(exchange.getRequestHeaders().getFirst(Client.AUTHORIZATION_HEADER));
+            respond(exchange, Client.DEFAULT_CORRECT_RESPONSE_CODE, "");
+        });
+
+        try {
+            new Client(1, 0, new SystemLogger(), true).on(getServerUrl(server), true, null);
+            assertEquals(Arrays.asList(Client.getAdminAuthorization()), authorizations);
+        } catch (ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void test_On_AdminCredentials() throws TestException {
+        checkAdminCredentials(false);
+    }
+
+    @Test
+    public void test_On_Pooled_AdminCredentials() throws TestException {
+        checkAdminCredentials(true);
+    }
+
+    @Test
+    public void test_On_Credentials() throws TestException {
+        checkCredentials(false);
+    }
+
+    @Test
+    public void test_On_Pooled_Credentials() throws TestException {
+        checkCredentials(true);
+    }
+
+    @Test
+    public void test_On_Pooled_IncorrectCode() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+
+        var server = startServer(exchange -> respond(exchange, Client.DEFAULT_CORRECT_RESPONSE_CODE + 1, ""));
+
+        try {
+            new Client(2, 0, new SystemLogger(), true).on(getServerUrl(server), null);
+        } catch (ClientException exception) {
+            ExceptionAssert.checkMessage(
+                    "Enable to get correct response after 2 attempt(s) (Last response code was 201)", exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void test_On_Pooled_Url_Incorrect() throws ClientException {
+        expectedExceptionRule.expect(ClientException.class);
+        expectedExceptionRule.expectMessage("Exception in class sonarscratch.checker.http.Client");
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(MalformedURLException.class));
+
+        new Client(1, 0, new SystemLogger(), true).on("Incorrect url", null);
+    }
+
+    @Test
+    public void test_OnAsync_() throws TestException {
+        try {
+            var streams = new ArrayList<InputStream>();
+
+            mockClient(Client.DEFAULT_CORRECT_RESPONSE_CODE, new Client(1, 0, new SystemLogger()))
+                    .onAsync(URL, streams::add).get();
+
+            assertEquals(1, streams.size());
+            assertEquals(INFO_WAITING_CORRECT_RESPONSE_FROM + URL + "'" + System.lineSeparator() + INFO_ATTEMPT_1_1
+                    + System.lineSeparator() + INFO_SUCCEEDED_AFTER_1_ATTEMPT_S + System.lineSeparator() + INFO
+                    + System.lineSeparator(), getOutContent().toString(StandardCharsets.UTF_8));
+        } catch (IOException | ClientException | ExecutionException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_OnAsync_Blocking() throws TestException {
+        final int REQUESTS_COUNT = Runtime.getRuntime().availableProcessors() * 2 + 2;
+        final long TIMEOUT_SECONDS = 5;
+        var responses = new CountDownLatch(1);
+
+        try {
+            var client = mockClient(Client.DEFAULT_CORRECT_RESPONSE_CODE, new Client(1, 0, new SystemLogger()));
+            var dependency = client.getClientOnDependency();
+            var threadNames = new ConcurrentLinkedQueue<String>();
+            var requests = new CompletableFuture<?>[REQUESTS_COUNT];
+
+            Mockito.doAnswer(invocation -> {
+                responses.await();
+                return Client.DEFAULT_CORRECT_RESPONSE_CODE;
+            }).when(dependency).connectionResponseCode();
+
+            for (var i = 0; i < REQUESTS_COUNT; i++) {
+                requests[i] = client.onAsync(URL, stream -> threadNames.add(Thread.currentThread().getName()));
+            }
+
+            client.delayAsync(1).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            responses.countDown();
+            CompletableFuture.allOf(requests).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            assertEquals(REQUESTS_COUNT, threadNames.size());
+
+            for (var threadName : threadNames) {
+                assertTrue(threadName.startsWith("sonarscratch-checker-client-io"));
+            }
+        } catch (IOException | ClientException | ExecutionException | TimeoutException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } finally {
+            responses.countDown();
+        }
+    }
+
+    @Test
+    public void test_OnAsync_IncorrectCode() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(ClientException.class));
+
+        try {
+            final int ATTEMPTS_COUNT = 3;
+
+            mockClient(Client.DEFAULT_CORRECT_RESPONSE_CODE + 1, new Client(ATTEMPTS_COUNT, 1, new SystemLogger()))
+                    .onAsync(URL, null).get();
+        } catch (ExecutionException exception) {
+            ExceptionAssert.checkMessage(
+                    "Enable to get correct response after 3 attempt(s) (Last response code was 201)",
+                    exception.getCause());
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception.getCause());
+        } catch (IOException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_OnAsync_Url_Incorrect() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(ClientException.class));
+
+        try {
+            new Client(1, 0, new SystemLogger()).onAsync("Incorrect url", null).get();
+        } catch (ExecutionException exception) {
+            ExceptionAssert.checkType(MalformedURLException.class, exception.getCause().getCause());
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception.getCause());
+        } catch (ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_OnAsync_Pooled() throws TestException {
+        var server = startServer(exchange -> respond(exchange, Client.DEFAULT_CORRECT_RESPONSE_CODE, "{}"));
+
+        try {
+            var client = new Client(1, 0, new SystemLogger(), true);
+            var contents = new ConcurrentLinkedQueue<String>();
+            final int REQUESTS_COUNT = 20;
+            var requests = new CompletableFuture<?>[REQUESTS_COUNT];
+
+            for (var i = 0; i < REQUESTS_COUNT; i++) {
+                requests[i] = client.onAsync(getServerUrl(server), stream -> contents.add(readContent(stream)));
+            }
+
+            CompletableFuture.allOf(requests).get();
+
+            assertEquals(REQUESTS_COUNT, contents.size());
+            assertEquals(Set.of("{}"), new HashSet<>(contents));
+        } catch (ClientException | ExecutionException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void test_On_Metrics() throws TestException {
+        final int ATTEMPTS_COUNT = 3;
+
+        try {
+            var client = mockClient(Client.DEFAULT_CORRECT_RESPONSE_CODE + 1,
+                    new Client(ATTEMPTS_COUNT, 0, new SystemLogger()));
+
+            assertEquals(0, client.getRetriesCount());
+            assertEquals(0, client.getRequestsHistogram().getCount());
+
+            var failed = false;
+
+            try {
+                client.on(URL, null);
+            } catch (ClientException exception) {
+                failed = true;
+            }
+
+            assertTrue(failed);
+            assertEquals(ATTEMPTS_COUNT - 1, client.getRetriesCount());
+            assertEquals(ATTEMPTS_COUNT, client.getRequestsHistogram().getCount());
+        } catch (IOException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_On_Backoff_Retriable() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(ClientException.class));
+
+        try {
+            final int ATTEMPTS_COUNT = 3;
+            final int SERVICE_UNAVAILABLE = 503;
+
+            mockClient(SERVICE_UNAVAILABLE,
+                    new Client(new ExponentialRetryPolicy(ATTEMPTS_COUNT, 1, 1, 0), new SystemLogger(), false))
+                    .on(URL, null);
+        } catch (IOException | ClientException exception) {
+            ExceptionAssert.checkMessage(
+                    "Enable to get correct response after 3 attempt(s) (Last response code was 503)", exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_On_Backoff_NotRetriable() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(ClientException.class));
+
+        try {
+            final int ATTEMPTS_COUNT = 3;
+            final int NOT_FOUND = 404;
+
+            mockClient(NOT_FOUND,
+                    new Client(new ExponentialRetryPolicy(ATTEMPTS_COUNT, 1, 1, 0), new SystemLogger(), false))
+                    .on(URL, null);
+        } catch (IOException | ClientException exception) {
+            ExceptionAssert.checkMessage(
+                    "Enable to get correct response after 1 attempt(s) (Last response code was 404)", exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_On_Backoff_Deadline() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(ClientException.class));
+
+        try {
+            final int ATTEMPTS_COUNT = 3;
+            final int SERVICE_UNAVAILABLE = 503;
+            final int DELAY_MILLISECONDS = 60000;
+            final int DEADLINE_MILLISECONDS = 1000;
+
+            mockClient(SERVICE_UNAVAILABLE,
+                    new Client(new ExponentialRetryPolicy(ATTEMPTS_COUNT, DELAY_MILLISECONDS, DELAY_MILLISECONDS,
+                            DEADLINE_MILLISECONDS, ceiling -> ceiling), new SystemLogger(), false)).on(URL, null);
+        } catch (IOException | ClientException exception) {
+            ExceptionAssert.checkMessage(
+                    "Enable to get correct response after 1 attempt(s) (Last response code was 503)", exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_OnAsync_Backoff_Deadline() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(ClientException.class));
+
+        try {
+            final int ATTEMPTS_COUNT = 3;
+            final int SERVICE_UNAVAILABLE = 503;
+            final int DELAY_MILLISECONDS = 60000;
+            final int DEADLINE_MILLISECONDS = 1000;
+
+            mockClient(SERVICE_UNAVAILABLE,
+                    new Client(new ExponentialRetryPolicy(ATTEMPTS_COUNT, DELAY_MILLISECONDS, DELAY_MILLISECONDS,
+                            DEADLINE_MILLISECONDS, ceiling -> ceiling), new SystemLogger(), false))
+                    .onAsync(URL, null).get();
+        } catch (ExecutionException exception) {
+            ExceptionAssert.checkMessage(
+                    "Enable to get correct response after 1 attempt(s) (Last response code was 503)",
+                    exception.getCause());
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception.getCause());
+        } catch (IOException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_On_Compression_Gzip() throws TestException {
+        checkCompression("gzip", false);
+    }
+
+    @Test
+    public void test_On_Compression_Deflate() throws TestException {
+        checkCompression("deflate", false);
+    }
+
+    @Test
+    public void test_On_Compression_Pooled() throws TestException {
+        checkCompression("gzip", true);
+    }
+
+    @Test
+    public void test_On_Compression_None() throws TestException {
+        var server = startServer(exchange -> respond(exchange, Client.DEFAULT_CORRECT_RESPONSE_CODE, COMPRESSIBLE));
+
+        try {
+            var client = new Client(1, 0, new SystemLogger());
+            var contents = new ArrayList<String>();
+
+            client.on(getServerUrl(server), stream -> contents.add(readContent(stream)));
+
+            assertEquals(Arrays.asList(COMPRESSIBLE), contents);
+            assertEquals(COMPRESSIBLE.length(), client.getTransferredBytesCount());
+            assertEquals(COMPRESSIBLE.length(), client.getDecodedBytesCount());
+        } catch (ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void test_On_Cache_() throws TestException {
+        checkCache(false, false);
+    }
+
+    @Test
+    public void test_On_Cache_Pooled() throws TestException {
+        checkCache(true, false);
+    }
+
+    @Test
+    public void test_OnAsync_Cache() throws TestException {
+        checkCache(false, true);
+    }
+
+    @Test
+    public void test_OnAsync_Cache_Deleted() throws TestException {
+        var conditions = new ConcurrentLinkedQueue<String>();
+        var server = startServer(exchange -> {
+            conditions.add(String.valueOf(exchange.getRequestHeaders().getFirst(Client.IF_NONE_MATCH_HEADER)));
+            exchange.getResponseHeaders().add(Client.ETAG_HEADER, ETAG);
+            respond(exchange, Client.DEFAULT_CORRECT_RESPONSE_CODE, COMPRESSIBLE);
+        });
+
+        try {
+            var responseCache = new DiskResponseCache(temporaryFolder.getRoot().getPath(), CACHE_MAX_BYTES_COUNT);
+            var client = new Client(new FixedRetryPolicy(1, 0), new SystemLogger(), false, responseCache);
+            var contents = new ConcurrentLinkedQueue<String>();
+
+            client.onAsync(getServerUrl(server), stream -> contents.add(readContent(stream))).get();
+
+            try (var entries = Files.list(temporaryFolder.getRoot().toPath())) {
+                for (var entry : entries.collect(Collectors.toList())) {
+                    Files.delete(entry);
+                }
+            }
+
+            client.onAsync(getServerUrl(server), stream -> contents.add(readContent(stream))).get();
+
+            assertEquals(Arrays.asList("null", "null"), new ArrayList<>(conditions));
+            assertEquals(Arrays.asList(COMPRESSIBLE, COMPRESSIBLE), new ArrayList<>(contents));
+            assertEquals(0, client.getCacheHitsCount());
+        } catch (ClientException | IOException | ExecutionException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void test_On_Cache_Credentials() throws TestException {
+        var conditions = new ArrayList<String>();
+        var server = startServer(exchange -> {
+            conditions.add(String.valueOf(exchange.getRequestHeaders().getFirst(Client.IF_NONE_MATCH_HEADER)));
+            exchange.getResponseHeaders().add(Client.ETAG_HEADER, ETAG);
+            respond(exchange, Client.DEFAULT_CORRECT_RESPONSE_CODE, COMPRESSIBLE);
+        });
+
+        try {
+            var responseCache = new DiskResponseCache(temporaryFolder.getRoot().getPath(), CACHE_MAX_BYTES_COUNT);
+
+            for (var credentials : Arrays.asList("first:password", "second:password")) {
+                new Client(new FixedRetryPolicy(1, 0), new SystemLogger(), false, responseCache, credentials)
+                        .on(getServerUrl(server), true, stream -> readContent(stream));
+            }
+
+            assertEquals(Arrays.asList("null", "null"), conditions);
+        } catch (ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void test_On_Cache_WithoutValidator() throws TestException {
+        var server = startServer(exchange -> respond(exchange, Client.DEFAULT_CORRECT_RESPONSE_CODE, COMPRESSIBLE));
+
+        try {
+            var responseCache = new DiskResponseCache(temporaryFolder.getRoot().getPath(), CACHE_MAX_BYTES_COUNT);
+            var client = new Client(new FixedRetryPolicy(1, 0), new SystemLogger(), false, responseCache);
+            var contents = new ArrayList<String>();
+
+            client.on(getServerUrl(server), stream -> contents.add(readContent(stream)));
+            client.on(getServerUrl(server), stream -> contents.add(readContent(stream)));
+
+            assertEquals(Arrays.asList(COMPRESSIBLE, COMPRESSIBLE), contents);
+            assertEquals(0, client.getCacheHitsCount());
+            assertEquals(0, responseCache.getBytesCount());
+        } catch (ClientException | IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void checkAdminCredentials(boolean pooled) throws TestException {
+        var authorizations = new ArrayList<String>();
+        var server = startServer(exchange -> {
+            authorizations.add(exchange.getRequestHeaders().getFirst(Client.AUTHORIZATION_HEADER));
+            respond(exchange, Client.DEFAULT_CORRECT_RESPONSE_CODE, "");
+        });
+
+        try {
+            new Client(new FixedRetryPolicy(1, 0), new SystemLogger(), pooled, null, "user:password")
+                    .on(getServerUrl(server), true, null);
+            assertEquals(Arrays.asList("Basic dXNlcjpwYXNzd29yZA=="), authorizations);
+        } catch (ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void checkCredentials(boolean pooled) throws TestException {
+        var authorizations = new ArrayList<String>();
+        var server = startServer(exchange -> {
+            authorizations.add(String.valueOf(exchange.getRequestHeaders().getFirst(Client.AUTHORIZATION_HEADER)));
+            respond(exchange, Client.DEFAULT_CORRECT_RESPONSE_CODE, "");
+        });
+
+        try {
+            new Client(new FixedRetryPolicy(1, 0), new SystemLogger(), pooled, null, "user:password", "user:password")
+                    .on(getServerUrl(server), false, null);
+            new Client(new FixedRetryPolicy(1, 0), new SystemLogger(), pooled, null, "user:password")
+                    .on(getServerUrl(server), false, null);
+            assertEquals(Arrays.asList("Basic dXNlcjpwYXNzd29yZA==", "null"), authorizations);
+        } catch (ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private void checkCache(boolean pooled, boolean async) throws TestException {
+        var conditions = new ConcurrentLinkedQueue<String>();
+        var server = startServer(exchange -> {
+            var condition = exchange.getRequestHeaders().getFirst(Client.IF_NONE_MATCH_HEADER);
+
+            conditions.add(String.valueOf(condition));
+
+            if (ETAG.equals(condition)) {
+                respond(exchange, Client.NOT_MODIFIED_RESPONSE_CODE, "");
+            } else {
+                exchange.getResponseHeaders().add(Client.ETAG_HEADER, ETAG);
+                respond(exchange, Client.DEFAULT_CORRECT_RESPONSE_CODE, COMPRESSIBLE);
+            }
+        });
+
+        try {
+            var responseCache = new DiskResponseCache(temporaryFolder.getRoot().getPath(), CACHE_MAX_BYTES_COUNT);
+            var client = new Client(new FixedRetryPolicy(1, 0), new SystemLogger(), pooled, responseCache);
+            var contents = new ConcurrentLinkedQueue<String>();
+
+            for (var index = 0; index < 2; index++) {
+                if (async) {
+                    client.onAsync(getServerUrl(server), stream -> contents.add(readContent(stream))).get();
+                } else {
+                    client.on(getServerUrl(server), stream -> contents.add(readContent(stream)));
+                }
+            }
+
+            assertEquals(Arrays.asList("null", ETAG), new ArrayList<>(conditions));
+            assertEquals(Arrays.asList(COMPRESSIBLE, COMPRESSIBLE), new ArrayList<>(contents));
+            assertEquals(1, client.getCacheHitsCount());
+            assertEquals(COMPRESSIBLE.length(), client.getTransferredBytesCount());
+            assertTrue(responseCache.getBytesCount() > COMPRESSIBLE.length());
+        } catch (ClientException | IOException | ExecutionException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void checkCompression(String encoding, boolean pooled) throws TestException {
+        var acceptedEncodings = new ArrayList<String>();
+        var server = startServer(exchange -> {
+            acceptedEncodings.add(exchange.getRequestHeaders().getFirst(Client.ACCEPT_ENCODING_HEADER));
+            respondEncoded(exchange, encoding, COMPRESSIBLE);
+        });
+
+        try {
+            var client = new Client(1, 0, new SystemLogger(), pooled);
+            var contents = new ArrayList<String>();
+
+            client.on(getServerUrl(server), stream -> contents.add(readContent(stream)));
+
+            assertEquals(Arrays.asList(Client.ACCEPTED_ENCODINGS), acceptedEncodings);
+            assertEquals(Arrays.asList(COMPRESSIBLE), contents);
+            assertEquals(COMPRESSIBLE.length(), client.getDecodedBytesCount());
+            assertTrue(client.getTransferredBytesCount() > 0
+                    && client.getTransferredBytesCount() < client.getDecodedBytesCount());
+        } catch (ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void respondEncoded(HttpExchange exchange, String encoding, String content) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+
+        try (var stream = "gzip".equals(encoding) ? new GZIPOutputStream(bytes) : new DeflaterOutputStream(bytes)) {
+            stream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        exchange.getRequestBody().readAllBytes();
+        exchange.getResponseHeaders().add(Client.CONTENT_ENCODING_HEADER, encoding);
+        exchange.sendResponseHeaders(Client.DEFAULT_CORRECT_RESPONSE_CODE, bytes.size());
+
+        try (var body = exchange.getResponseBody()) {
+            bytes.writeTo(body);
+        }
+    }
+
+    private static HttpServer startServer(HttpHandler handler) throws TestException {
+        try {
+            var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+
+            server.createContext("/", handler);
+            server.start();
+
+            return server;
+        } catch (IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        }
+    }
+
+    private static String getServerUrl(HttpServer server) {
+        return "http://localhost:" + server.getAddress().getPort() + "/api/issues/search";
+    }
+
+    private static void respond(HttpExchange exchange, int responseCode, String content) throws IOException {
+        var bytes = content.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getRequestBody().readAllBytes();
+        exchange.sendResponseHeaders(responseCode, bytes.length == 0 ? -1 : bytes.length);
+
+        try (var body = exchange.getResponseBody()) {
+            body.write(bytes);
+        }
+    }
+
+    private static String readContent(InputStream stream) throws ActionException {
+        try {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new ActionException(ExceptionUtil.getDefaultMessage(ClientTest.class), exception);
+        }
+    }
+
     private static Client mockClient(int responseCode, Client client) throws IOException {
         var mockedClientOnDependency = Mockito.mock(ClientOnDependency.class);
 
         Mockito.doNothing().when(mockedClientOnDependency).connection(Mockito.anyString(), Mockito.anyBoolean());
         Mockito.doReturn(responseCode).when(mockedClientOnDependency).connectionResponseCode();
+        Mockito.doCallRealMethod().when(mockedClientOnDependency).connectionResponseCodeAsync(Mockito.any());
 
         var mockedClient = Mockito.spy(client);
 
@@ -9,6 +9,7 @@ package sonarscratch.checker.http;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
 
 import org.mockito.Mockito;
 
@@ -21,6 +22,7 @@ public final class ClientTestUtil {
 
         Mockito.doNothing().when(mockedClientOnDependency).connection(Mockito.anyString(), Mockito.anyBoolean());
         Mockito.doReturn(Client.DEFAULT_CORRECT_RESPONSE_CODE).when(mockedClientOnDependency).connectionResponseCode();
+        Mockito.doCallRealMethod().when(mockedClientOnDependency).connectionResponseCodeAsync(Mockito.any());
 
         if (stream != null) {
             Mockito.doReturn(new ByteArrayInputStream(stream)).when(mockedClientOnDependency).connectionInputStream();
@@ -34,6 +36,30 @@ public final class ClientTestUtil {
         return mockedClient;
     }
 
+    public static Client mockClientForFinderByUrl(Function<String, byte[]> streamByUrl, Client client) {
+        var mockedClient = Mockito.spy(client);
+
+        Mockito.doAnswer(invocation -> mockClientOnDependency(streamByUrl)).when(mockedClient).getClientOnDependency();
+        return mockedClient;
+    }
+
+    private static ClientOnDependency mockClientOnDependency(Function<String, byte[]> streamByUrl)
+            throws IOException {
+        var mockedClientOnDependency = Mockito.mock(ClientOnDependency.class);
+        var urls = new String[1];
+
+        Mockito.doAnswer(invocation -> {
+            urls[0] = (String) invocation.getArguments()[0];
+            return null;
+        }).when(mockedClientOnDependency).connection(Mockito.anyString(), Mockito.anyBoolean());
+        Mockito.doReturn(Client.DEFAULT_CORRECT_RESPONSE_CODE).when(mockedClientOnDependency).connectionResponseCode();
+        Mockito.doCallRealMethod().when(mockedClientOnDependency).connectionResponseCodeAsync(Mockito.any());
+        Mockito.doAnswer(invocation -> new ByteArrayInputStream(streamByUrl.apply(urls[0])))
+                .when(mockedClientOnDependency).connectionInputStream();
+
+        return mockedClientOnDependency;
+    }
+
     public static Client mockClientForApp(Client client) throws IOException {
         var mockedClient = Mockito.spy(client);
 
@@ -41,6 +67,7 @@ public final class ClientTestUtil {
 
         Mockito.doNothing().when(mockedClientOnDependency).connection(Mockito.anyString(), Mockito.anyBoolean());
         Mockito.doReturn(Client.DEFAULT_CORRECT_RESPONSE_CODE).when(mockedClientOnDependency).connectionResponseCode();
+        Mockito.doCallRealMethod().when(mockedClientOnDependency).connectionResponseCodeAsync(Mockito.any());
         Mockito.doReturn(new ByteArrayInputStream(
                 "{\"failing\" : 0, \"pending\" : 0, \"inProgress\" : 0}".getBytes(StandardCharsets.UTF_8)))
                 .when(mockedClientOnDependency).connectionInputStream();
@@ -0,0 +1,183 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DiskResponseCacheTest {
+    private static final long MAX_BYTES_COUNT = 1024 * 1024;
+    private static final String KEY = "http://localhost:9000/api/issues/search?p=1";
+    private static final String ETAG = "\"v1\"";
+    private static final String LAST_MODIFIED = "Wed, 21 Oct 2015 07:28:00 GMT";
+    private static final String CONTENT = "{\"issues\" : []}";
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void test_Put_() throws IOException {
+        var cache = new DiskResponseCache(temporaryFolder.getRoot().getPath(), MAX_BYTES_COUNT);
+
+        cache.put(KEY, ETAG, LAST_MODIFIED, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        var entry = cache.get(KEY);
+
+        assertEquals(ETAG, entry.getEtag());
+        assertEquals(LAST_MODIFIED, entry.getLastModified());
+        assertEquals(CONTENT, read(cache, entry));
+    }
+
+    @Test
+    public void test_Put_Permissions() throws IOException {
+        var directory = temporaryFolder.getRoot().toPath().resolve("cache");
+
+        assumeTrue(directory.getFileSystem().supportedFileAttributeViews().contains("posix"));
+
+        var cache = new DiskResponseCache(directory.toString(), MAX_BYTES_COUNT);
+
+        cache.put(KEY, ETAG, LAST_MODIFIED, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(directory)));
+
+        try (var entries = Files.list(directory)) {
+            for (var entry : entries.collect(Collectors.toList())) {
+                assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(entry)));
+            }
+        }
+    }
+
+    @Test
+    public void test_Put_WithoutEtag() throws IOException {
+        var cache = new DiskResponseCache(temporaryFolder.getRoot().getPath(), MAX_BYTES_COUNT);
+
+        cache.put(KEY, null, LAST_MODIFIED, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        assertNull(cache.get(KEY).getEtag());
+        assertEquals(LAST_MODIFIED, cache.get(KEY).getLastModified());
+    }
+
+    @Test
+    public void test_Put_Replaced() throws IOException {
+        var cache = new DiskResponseCache(temporaryFolder.getRoot().getPath(), MAX_BYTES_COUNT);
+
+        cache.put(KEY, ETAG, null, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        var bytesCount = cache.getBytesCount();
+
+        cache.put(KEY, "\"v2\"", null, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(bytesCount, cache.getBytesCount());
+        assertEquals("\"v2\"", cache.get(KEY).getEtag());
+    }
+
+    @Test
+    public void test_Put_Evicted() throws IOException {
+        var probe = new DiskResponseCache(temporaryFolder.newFolder("probe").getPath(), MAX_BYTES_COUNT);
+
+        probe.put("a", ETAG, null, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        var entryBytesCount = probe.getBytesCount();
+        var cache = new DiskResponseCache(temporaryFolder.newFolder("cache").getPath(),
+                2 * entryBytesCount + entryBytesCount / 2);
+
+        cache.put("a", ETAG, null, CONTENT.getBytes(StandardCharsets.UTF_8));
+        cache.put("b", ETAG, null, CONTENT.getBytes(StandardCharsets.UTF_8));
+        cache.get("a");
+        cache.put("c", ETAG, null, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(2 * entryBytesCount, cache.getBytesCount());
+    }
+
+    @Test
+    public void test_Get_Missing() throws IOException {
+        assertNull(new DiskResponseCache(temporaryFolder.getRoot().getPath(), MAX_BYTES_COUNT).get(KEY));
+    }
+
+    @Test
+    public void test_Get_Reloaded() throws IOException {
+        new DiskResponseCache(temporaryFolder.getRoot().getPath(), MAX_BYTES_COUNT).put(KEY, ETAG, LAST_MODIFIED,
+                CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        var cache = new DiskResponseCache(temporaryFolder.getRoot().getPath(), MAX_BYTES_COUNT);
+        var entry = cache.get(KEY);
+
+        assertEquals(ETAG, entry.getEtag());
+        assertEquals(LAST_MODIFIED, entry.getLastModified());
+        assertEquals(CONTENT, read(cache, entry));
+    }
+
+    @Test
+    public void test_Get_Invalid() throws IOException {
+        var invalidFile = temporaryFolder.newFile("invalid.entry").toPath();
+
+        Files.writeString(invalidFile, CONTENT);
+
+        var cache = new DiskResponseCache(temporaryFolder.getRoot().getPath(), MAX_BYTES_COUNT);
+
+        assertNull(cache.get(KEY));
+        assertEquals(0, cache.getBytesCount());
+        assertFalse(Files.exists(invalidFile));
+    }
+
+    @Test
+    public void test_Get_Deleted() throws IOException {
+        var cache = new DiskResponseCache(temporaryFolder.getRoot().getPath(), MAX_BYTES_COUNT);
+
+        cache.put(KEY, ETAG, LAST_MODIFIED, CONTENT.getBytes(StandardCharsets.UTF_8));
+        deleteEntries();
+
+        assertNull(cache.get(KEY));
+        assertEquals(0, cache.getBytesCount());
+    }
+
+    @Test
+    public void test_Open_Deleted() throws IOException {
+        var cache = new DiskResponseCache(temporaryFolder.getRoot().getPath(), MAX_BYTES_COUNT);
+
+        cache.put(KEY, ETAG, LAST_MODIFIED, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        var entry = cache.get(KEY);
+
+        deleteEntries();
+
+        assertThrows(IOException.class, () -> cache.open(entry));
+        assertNull(cache.get(KEY));
+        assertEquals(0, cache.getBytesCount());
+    }
+
+    private void deleteEntries() throws IOException {
+        try (var entries = Files.list(temporaryFolder.getRoot().toPath())) {
+            for (var entry : entries.collect(Collectors.toList())) {
+                Files.delete(entry);
+            }
+        }
+    }
+
+    private static String read(DiskResponseCache cache, DiskResponseCache.Entry entry) throws IOException {
+        try (var stream = cache.open(entry)) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
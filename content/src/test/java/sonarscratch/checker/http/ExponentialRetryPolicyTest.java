@@ -0,0 +1,115 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import sonarscratch.checker.test.StandardTest;
+
+public class ExponentialRetryPolicyTest extends StandardTest {
+    private static final int ATTEMPTS_COUNT = 5;
+    private static final int BASE_DELAY_MILLISECONDS = 250;
+    private static final int MAX_DELAY_MILLISECONDS = 5000;
+
+    @Test
+    public void test_Constructor_IncorrectCount() throws ClientException {
+        expectedExceptionRule.expect(ClientException.class);
+        expectedExceptionRule.expectMessage("'attemptsCount' argument cannot be zero nor negative (0)");
+
+        new ExponentialRetryPolicy(0, BASE_DELAY_MILLISECONDS, MAX_DELAY_MILLISECONDS, 0);
+    }
+
+    @Test
+    public void test_Constructor_IncorrectDelay() throws ClientException {
+        expectedExceptionRule.expect(ClientException.class);
+        expectedExceptionRule.expectMessage("Delays cannot be negative (base -1, max 5000)");
+
+        new ExponentialRetryPolicy(ATTEMPTS_COUNT, -1, MAX_DELAY_MILLISECONDS, 0);
+    }
+
+    @Test
+    public void test_Constructor_IncorrectDeadline() throws ClientException {
+        expectedExceptionRule.expect(ClientException.class);
+        expectedExceptionRule.expectMessage("'deadlineMilliseconds' argument cannot be negative (-1)");
+
+        new ExponentialRetryPolicy(ATTEMPTS_COUNT, BASE_DELAY_MILLISECONDS, MAX_DELAY_MILLISECONDS, -1);
+    }
+
+    @Test
+    public void test_GetDelayMilliseconds_() throws ClientException {
+        var retryPolicy = new ExponentialRetryPolicy(ATTEMPTS_COUNT, BASE_DELAY_MILLISECONDS, MAX_DELAY_MILLISECONDS,
+                0, ceiling -> ceiling);
+        final long[] DELAYS = { 250, 500, 1000, 2000, 4000, 5000, 5000 };
+
+        for (var i = 0; i < DELAYS.length; i++) {
+            assertEquals(DELAYS[i], retryPolicy.getDelayMilliseconds(i));
+        }
+
+        final int LARGE_ATTEMPT = 100;
+        assertEquals(MAX_DELAY_MILLISECONDS, retryPolicy.getDelayMilliseconds(LARGE_ATTEMPT));
+    }
+
+    @Test
+    public void test_GetDelayMilliseconds_Jitter() throws ClientException {
+        var retryPolicy = new ExponentialRetryPolicy(ATTEMPTS_COUNT, BASE_DELAY_MILLISECONDS, MAX_DELAY_MILLISECONDS,
+                0);
+        final int SAMPLES_COUNT = 1000;
+        final int ATTEMPT = 3;
+        var hasDistinctDelays = false;
+        var firstDelay = retryPolicy.getDelayMilliseconds(ATTEMPT);
+
+        for (var i = 0; i < SAMPLES_COUNT; i++) {
+            var delay = retryPolicy.getDelayMilliseconds(ATTEMPT);
+
+            assertTrue(delay >= 0 && delay <= retryPolicy.getDelayCeilingMilliseconds(ATTEMPT));
+            hasDistinctDelays |= delay != firstDelay;
+        }
+
+        assertTrue(hasDistinctDelays);
+    }
+
+    @Test
+    public void test_IsRetriable() throws ClientException {
+        var retryPolicy = new ExponentialRetryPolicy(ATTEMPTS_COUNT, BASE_DELAY_MILLISECONDS, MAX_DELAY_MILLISECONDS,
+                0);
+        final int[] RETRIABLE_CODES = { 408, 425, 429, 500, 502, 503, 504 };
+        final int[] NOT_RETRIABLE_CODES = { 201, 301, 400, 401, 403, 404 };
+
+        for (var code : RETRIABLE_CODES) {
+            assertTrue(retryPolicy.isRetriable(code));
+        }
+
+        for (var code : NOT_RETRIABLE_CODES) {
+            assertFalse(retryPolicy.isRetriable(code));
+        }
+    }
+
+    @Test
+    public void test_CanRetry_Count() throws ClientException {
+        var retryPolicy = new ExponentialRetryPolicy(ATTEMPTS_COUNT, BASE_DELAY_MILLISECONDS, MAX_DELAY_MILLISECONDS,
+                0);
+
+        assertTrue(retryPolicy.canRetry(ATTEMPTS_COUNT - 1, Long.MAX_VALUE / 2, MAX_DELAY_MILLISECONDS));
+        assertFalse(retryPolicy.canRetry(ATTEMPTS_COUNT, 0, 0));
+    }
+
+    @Test
+    public void test_CanRetry_Deadline() throws ClientException {
+        final int DEADLINE_MILLISECONDS = 10000;
+        var retryPolicy = new ExponentialRetryPolicy(ATTEMPTS_COUNT, BASE_DELAY_MILLISECONDS, MAX_DELAY_MILLISECONDS,
+                DEADLINE_MILLISECONDS);
+
+        assertEquals(DEADLINE_MILLISECONDS, retryPolicy.getDeadlineMilliseconds());
+        assertTrue(retryPolicy.canRetry(1, DEADLINE_MILLISECONDS - MAX_DELAY_MILLISECONDS, MAX_DELAY_MILLISECONDS));
+        assertFalse(retryPolicy.canRetry(1, DEADLINE_MILLISECONDS - MAX_DELAY_MILLISECONDS + 1,
+                MAX_DELAY_MILLISECONDS));
+    }
+}
@@ -9,31 +9,96 @@ package sonarscratch.checker.issues;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
+import java.io.IOException;
+
+import org.json.JSONException;
 import org.json.JSONObject;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class ComponentsCollectionTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void test_AddComponent() {
         var components = new ComponentsCollection();
 
-        components.addComponent(null);
+        components.addComponent((SonarComponent) null);
 
-        var jsonObject = new JSONObject();
+        var component = new SonarComponent(new JSONObject());
 
-        components.addComponent(jsonObject);
+        components.addComponent(component);
         var i = 0;
 
-        for (JSONObject item : components) {
+        for (SonarComponent item : components) {
             if (i == 0) {
                 assertNull(item);
             } else {
-                assertEquals(jsonObject, item);
+                assertEquals(component, item);
             }
             i++;
         }
     }
 
+    @Test
+    public void test_AddAll_Spilled() throws IOException, JSONException {
+        try (var store = new SpillStore(temporaryFolder.getRoot().getPath())) {
+            var components = new ComponentsCollection(store);
+            var otherComponents = new ComponentsCollection(store);
+
+            components.addComponent(new JSONObject("{key : \"first\", name : \"First.java\"}"));
+            otherComponents.addComponent(new JSONObject("{key : \"second\", name : \"Second.java\"}"));
+
+            var bytesCount = store.getBytesCount();
+
+            components.addAll(otherComponents);
+
+            assertEquals(bytesCount, store.getBytesCount());
+            assertEquals(2, components.count());
+            assertEquals("Second.java", components.get("second").getName());
+        }
+    }
+
+    @Test
+    public void test_Get_() throws JSONException {
+        var components = new ComponentsCollection();
+
+        components.addComponent(new JSONObject("{key : \"first\", name : \"First.java\"}"));
+        components.addComponent(new JSONObject("{key : \"second\", name : \"Second.java\"}"));
+
+        assertEquals("Second.java", components.get("second").getName());
+        assertNull(components.get("third"));
+    }
+
+    @Test
+    public void test_Get_Spilled() throws IOException, JSONException {
+        try (var store = new SpillStore(temporaryFolder.getRoot().getPath())) {
+            var components = new ComponentsCollection(store);
+
+            components.addComponent(new JSONObject("{key : \"first\", name : \"First.java\","
+                    + " longName : \"src/First.java\"}"));
+            components.addComponent(new JSONObject("{key : \"second\", name : \"Second.java\"}"));
+
+            var component = components.get("first");
+
+            assertEquals("first", component.getKey());
+            assertEquals("First.java", component.getName());
+            assertEquals("src/First.java", component.getLongName());
+            assertNull(components.get("third"));
+            assertEquals(2, components.count());
+
+            var keys = new StringBuilder();
+
+            for (var item : components) {
+                keys.append(item.getKey()).append(';');
+            }
+
+            assertEquals("first;second;", keys.toString());
+        }
+    }
+
     @Test
     public void test_Count_0() {
         assertEquals(0, new ComponentsCollection().count());
@@ -43,8 +108,8 @@ public class ComponentsCollectionTest {
     public void test_Count_() {
         var components = new ComponentsCollection();
 
-        components.addComponent(null);
-        components.addComponent(null);
+        components.addComponent((SonarComponent) null);
+        components.addComponent((SonarComponent) null);
 
         final int COMPONENTS_COUNT = 2;
         assertEquals(COMPONENTS_COUNT, components.count());
@@ -55,7 +120,7 @@ public class ComponentsCollectionTest {
         var components = new ComponentsCollection();
         var count = 0;
 
-        for (JSONObject item : components) {
+        for (SonarComponent item : components) {
             if (item == null) {
                 count++;
             }
@@ -68,11 +133,11 @@ public class ComponentsCollectionTest {
     public void test_Iterator_1() {
         var components = new ComponentsCollection();
 
-        components.addComponent(null);
+        components.addComponent((SonarComponent) null);
 
         var count = 0;
 
-        for (JSONObject item : components) {
+        for (SonarComponent item : components) {
             if (item == null) {
                 count++;
             }
@@ -81,16 +146,39 @@ public class ComponentsCollectionTest {
         assertEquals(1, count);
     }
 
+    @Test
+    public void test_Iterator_Spilled() throws IOException, JSONException {
+        try (var store = new SpillStore(temporaryFolder.getRoot().getPath())) {
+            var components = new ComponentsCollection(store);
+
+            components.addComponent((SonarComponent) null);
+            components.addComponent(new JSONObject("{key : \"first\"}"));
+            components.addComponent((SonarComponent) null);
+
+            var keys = new StringBuilder();
+
+            for (var item : components) {
+                keys.append(item != null ? item.getKey() : null).append(';');
+            }
+
+            final int COMPONENTS_COUNT = 3;
+
+            assertEquals(COMPONENTS_COUNT, components.count());
+            assertEquals("null;first;null;", keys.toString());
+            assertEquals("first", components.get("first").getKey());
+        }
+    }
+
     @Test
     public void test_Iterator_() {
         var components = new ComponentsCollection();
 
-        components.addComponent(null);
-        components.addComponent(null);
+        components.addComponent((SonarComponent) null);
+        components.addComponent((SonarComponent) null);
 
         var count = 0;
 
-        for (JSONObject item : components) {
+        for (SonarComponent item : components) {
             if (item == null) {
                 count++;
             }
@@ -7,19 +7,35 @@
 package sonarscratch.checker.issues;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.IntUnaryOperator;
 
 import org.hamcrest.core.IsInstanceOf;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import sonarscratch.checker.http.Client;
 import sonarscratch.checker.http.ClientException;
 import sonarscratch.checker.http.ClientTestUtil;
+import sonarscratch.checker.http.ExponentialRetryPolicy;
+import sonarscratch.checker.http.FixedRetryPolicy;
 import sonarscratch.checker.log.SystemLogger;
 import sonarscratch.checker.test.ExceptionAssert;
 import sonarscratch.checker.test.StandardTest;
@@ -27,6 +43,9 @@ import sonarscratch.checker.test.TestException;
 import sonarscratch.checker.util.ExceptionUtil;
 
 public class FinderTest extends StandardTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private static final String INFO_WAITING_ANALYSIS_ATTEMPT_1_1 = "[INFO] : Waiting analysis : attempt 1/1";
     private static final String API_CE_ACTIVITY_STATUS = "/api/ce/activity_status'";
     private static final String INFO_WAITING_DONE_AFTER_1_ATTEMPT_S = "[INFO] : Waiting done after 1 attempt(s)";
@@ -38,6 +57,12 @@ public class FinderTest extends StandardTest {
     private static final String EXCEPTION_IN_CLASS_FINDER_TEST = "Exception in "
             + "class sonarscratch.checker.issues.FinderTest";
     private static final String URL = "http://localhost:9580";
+    private static final String API_CE_TASK = "/api/ce/task?id=";
+    private static final String REPORT_TASK = "projectKey=project:key\nceTaskId=AX+1\n";
+    private static final String TASK_HISTORY = "{\"tasks\" : [{\"executionTimeMs\" : 100}, "
+            + "{\"executionTimeMs\" : 300}, {\"status\" : \"SUCCESS\"}]}";
+    private static final String PAGE_INDEX = "pageIndex=";
+    private static final String CREATED_AFTER = "createdAfter=";
 
     @Test
     public void test_Count_Exception() throws TestException {
@@ -77,6 +102,25 @@ public class FinderTest extends StandardTest {
         }
     }
 
+    @Test
+    public void test_Count_Query() throws TestException {
+        try {
+            final int TOTAL = 120;
+            var logger = new SystemLogger();
+            var urls = new ArrayList<String>();
+
+            assertEquals(TOTAL, new Finder(ClientTestUtil.mockClientForFinderByUrl(url -> {
+                urls.add(url);
+                return (TOTAL_KEY + TOTAL + "}").getBytes(StandardCharsets.UTF_8);
+            }, new Client(1, 0, logger)), logger, 1, new IssuesQuery().projects(List.of("project:key")).branch("main"))
+                    .count(URL));
+            assertEquals(List.of(URL + "/api/issues/search?pageSize=1&resolved=false&componentKeys=project%3Akey"
+                    + "&branch=main"), urls);
+        } catch (FinderException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
     @Test
     public void test_Count_() throws TestException {
         try {
@@ -189,10 +233,37 @@ public class FinderTest extends StandardTest {
 
             var i = 0;
 
-            for (JSONObject item : issues) {
-                assertIssue(item, i, ISSUE1_KEY, ISSUE1_VALUE);
+            for (SonarIssue item : issues) {
+                assertIssue(item.getInfos(), i, ISSUE1_KEY, ISSUE1_VALUE);
                 i++;
             }
+        } catch (FinderException | IOException | ClientException | JSONException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Find__StringPool() throws TestException {
+        try {
+            final String ISSUE = "{\"component\" : \"project:src/File.java\", \"rule\" : \"java:S1192\", "
+                    + "\"creationDate\" : \"2020-05-01T10:00:00+0000\"}";
+            var logger = new SystemLogger();
+            var finder = new Finder(ClientTestUtil.mockClientForFinder(
+                    (TOTAL_KEY + "2, \"issues\" : [" + ISSUE + ", " + ISSUE
+                            + "], \"components\":[{\"key\" : \"project:src/File.java\"}]}")
+                            .getBytes(StandardCharsets.UTF_8),
+                    new Client(1, 0, logger)), logger);
+
+            assertEquals(0, finder.getStringPoolSavedBytesCount());
+
+            var rules = new ArrayList<String>();
+
+            for (var issue : finder.find(URL).getIssuesCollection()) {
+                rules.add(issue.getRule());
+            }
+
+            assertSame(rules.get(0), rules.get(1));
+            assertEquals(StringPool.getBytesCount("java:S1192"), finder.getStringPoolSavedBytesCount());
         } catch (FinderException | IOException | ClientException exception) {
             throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
         }
@@ -201,7 +272,7 @@ public class FinderTest extends StandardTest {
     @Test
     public void test_Find__Components() throws TestException {
         try {
-            final String COMP1_KEY = "comp1Key";
+            final String COMP1_KEY = "name";
             final String COMP1_VALUE = "comp1Value";
 
             var logger = new SystemLogger();
@@ -217,15 +288,345 @@ public class FinderTest extends StandardTest {
 
             assertEquals(1, components.count());
 
-            for (JSONObject item : components) {
-                assertTrue(item.has(COMP1_KEY));
-                assertEquals(item.optString(COMP1_KEY), COMP1_VALUE);
+            for (SonarComponent item : components) {
+                assertEquals(COMP1_VALUE, item.getName());
             }
         } catch (FinderException | IOException | ClientException exception) {
             throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
         }
     }
 
+    @Test
+    public void test_FindAll_Pages() throws TestException {
+        try {
+            final int TOTAL = 700;
+            var logger = new SystemLogger();
+
+            var finderResult = new Finder(ClientTestUtil.mockClientForFinderByUrl(
+                    url -> getIssuesPage(TOTAL, 0, getPageIndex(url), n -> n), new Client(1, 0, logger)), logger)
+                    .findAll(URL);
+
+            assertEquals(TOTAL, finderResult.getIssuesCollection().total());
+            assertEquals(TOTAL, finderResult.getIssuesCollection().count());
+            assertEquals(1, finderResult.getComponentsCollection().count());
+            assertUniqueKeys(finderResult);
+        } catch (FinderException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_FindAll_Log() throws TestException {
+        try {
+            var logger = new SystemLogger();
+
+            new Finder(ClientTestUtil.mockClientForFinderByUrl(url -> getIssuesPage(2, 0, getPageIndex(url), n -> n),
+                    new Client(1, 0, logger)), logger).findAll(URL);
+
+            assertEquals("[INFO] : Finding all issues" + System.lineSeparator() + INFO_WAITING_CORRECT_RESPONSE_FROM
+                    + URL + "/api/issues/search?pageSize=500&pageIndex=1&resolved=false&s=CREATION_DATE&asc=true'"
+                    + System.lineSeparator() + INFO_ATTEMPT_1_1 + System.lineSeparator()
+                    + INFO_SUCCEEDED_AFTER_1_ATTEMPT_S + System.lineSeparator() + INFO + System.lineSeparator()
+                    + "[INFO] : Found 2/2 issues (page 1)" + System.lineSeparator() + "[INFO] : Found 2 issues"
+                    + System.lineSeparator() + INFO + System.lineSeparator(),
+                    getOutContent().toString(StandardCharsets.UTF_8));
+        } catch (FinderException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_FindAll_Windows() throws TestException {
+        try {
+            final int TOTAL = Finder.ISSUES_SEARCH_WINDOW + 300;
+            var logger = new SystemLogger();
+
+            var finderResult = new Finder(ClientTestUtil.mockClientForFinderByUrl(url -> {
+                var createdAfter = getCreatedAfter(url);
+
+                if (createdAfter == null) {
+                    return getIssuesPage(TOTAL, 0, getPageIndex(url), n -> n / 2);
+                }
+
+                var from = Integer.parseInt(createdAfter) * 2;
+                return getIssuesPage(TOTAL - from, from, getPageIndex(url), n -> n / 2);
+            }, new Client(1, 0, logger)), logger).findAll(URL);
+
+            assertEquals(TOTAL, finderResult.getIssuesCollection().total());
+            assertEquals(TOTAL, finderResult.getIssuesCollection().count());
+            assertUniqueKeys(finderResult);
+        } catch (FinderException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_FindAll_Query() throws TestException {
+        try {
+            final int TOTAL = Finder.ISSUES_SEARCH_WINDOW + 300;
+            var logger = new SystemLogger();
+            var urls = new ArrayList<String>();
+
+            var finderResult = new Finder(ClientTestUtil.mockClientForFinderByUrl(url -> {
+                urls.add(url);
+
+                var from = Integer.parseInt(getCreatedAfter(url)) * 2;
+                return getIssuesPage(TOTAL - from, from, getPageIndex(url), n -> n / 2);
+            }, new Client(1, 0, logger)), logger, 1, new IssuesQuery().types(List.of("BUG")).createdAfter("0"))
+                    .findAll(URL);
+
+            assertEquals(TOTAL, finderResult.getIssuesCollection().count());
+            assertEquals(URL + "/api/issues/search?pageSize=500&pageIndex=1&resolved=false&s=CREATION_DATE&asc=true"
+                    + "&types=BUG&createdAfter=0", urls.get(0));
+
+            for (var url : urls) {
+                assertTrue(url.contains("&types=BUG&createdAfter="));
+            }
+        } catch (FinderException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_FindAll_Threads() throws TestException {
+        try {
+            final int TOTAL = 2300;
+            final int THREADS_COUNT = 3;
+            var logger = new SystemLogger();
+
+            var finderResult = new Finder(ClientTestUtil.mockClientForFinderByUrl(
+                    url -> getIssuesPage(TOTAL, 0, getPageIndex(url), n -> n), new Client(1, 0, logger)), logger,
+                    THREADS_COUNT).findAll(URL);
+
+            assertEquals(TOTAL, finderResult.getIssuesCollection().count());
+
+            var i = 0;
+
+            for (SonarIssue item : finderResult.getIssuesCollection()) {
+                assertEquals("issue" + i, item.getKey());
+                i++;
+            }
+        } catch (FinderException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_FindAll_Exception_SameCreationDate() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(FinderException.class));
+
+        try {
+            final int TOTAL = Finder.ISSUES_SEARCH_WINDOW + 1;
+            var logger = new SystemLogger();
+
+            new Finder(ClientTestUtil.mockClientForFinderByUrl(
+                    url -> getIssuesPage(TOTAL, 0, getPageIndex(url), n -> 0), new Client(1, 0, logger)), logger)
+                    .findAll(URL);
+        } catch (FinderException | ClientException exception) {
+            ExceptionAssert.checkMessage("More than " + Finder.ISSUES_SEARCH_WINDOW
+                    + " issues share the creation date '0', unable to split search", exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_FindAll_Exception_() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectMessage(EXCEPTION_IN_CLASS_FINDER_TEST);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(FinderException.class));
+
+        try {
+            var logger = new SystemLogger();
+
+            new Finder(ClientTestUtil.mockClientForFinder(null, new Client(1, 0, logger)), logger).findAll(URL);
+        } catch (FinderException | IOException | ClientException exception) {
+            ExceptionAssert.checkMessage(EXCEPTION_IN_CLASS_FINDER, exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_FindAllStream_() throws TestException {
+        try {
+            final int TOTAL = 1200;
+            final int PAGES_CAPACITY = 1;
+            final int THREADS_COUNT = 2;
+            var logger = new SystemLogger();
+
+            var stream = new Finder(ClientTestUtil.mockClientForFinderByUrl(
+                    url -> getIssuesPage(TOTAL, 0, getPageIndex(url), n -> n), new Client(1, 0, logger)), logger,
+                    THREADS_COUNT).findAllStream(URL, PAGES_CAPACITY);
+
+            assertEquals(TOTAL, stream.peek().getIssuesCollection().total());
+
+            var pageSizes = new ArrayList<Integer>();
+            var componentsCount = 0;
+            var i = 0;
+
+            for (var page = stream.take(); page != null; page = stream.take()) {
+                pageSizes.add(page.getIssuesCollection().count());
+                componentsCount += page.getComponentsCollection().count();
+
+                for (SonarIssue item : page.getIssuesCollection()) {
+                    assertEquals("issue" + i, item.getKey());
+                    i++;
+                }
+            }
+
+            assertEquals(List.of(Finder.ISSUES_MAX_LIMIT, Finder.ISSUES_MAX_LIMIT, 200), pageSizes);
+            assertEquals(1, componentsCount);
+            assertNull(stream.take());
+        } catch (FinderException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_FindAllStream_Exception() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectMessage(EXCEPTION_IN_CLASS_FINDER_TEST);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(FinderException.class));
+
+        try {
+            var logger = new SystemLogger();
+
+            new Finder(ClientTestUtil.mockClientForFinder(null, new Client(1, 0, logger)), logger)
+                    .findAllStream(URL, 1).take();
+        } catch (FinderException | IOException | ClientException exception) {
+            ExceptionAssert.checkMessage(EXCEPTION_IN_CLASS_FINDER, exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_WaitTask_() throws TestException {
+        try {
+            var logger = new SystemLogger();
+            var statuses = new ArrayDeque<>(List.of("PENDING", "IN_PROGRESS", "SUCCESS"));
+            var urls = new ArrayList<String>();
+
+            final int ATTEMPTS_COUNT = 3;
+            new Finder(ClientTestUtil.mockClientForFinderByUrl(url -> {
+                urls.add(url);
+                return url.contains(API_CE_TASK) ? getTask(statuses.poll())
+                        : TASK_HISTORY.getBytes(StandardCharsets.UTF_8);
+            }, new Client(ATTEMPTS_COUNT, 0, logger)), logger).waitTask(URL, writeReportTask(REPORT_TASK));
+
+            assertEquals(List.of(URL + "/api/ce/activity?status=SUCCESS&ps=10&component=project%3Akey",
+                    URL + API_CE_TASK + "AX%2B1", URL + API_CE_TASK + "AX%2B1", URL + API_CE_TASK + "AX%2B1"), urls);
+            assertTrue(getOutContent().toString(StandardCharsets.UTF_8)
+                    .contains("[INFO] : Expected analysis task duration : 200 ms" + System.lineSeparator()));
+            assertTrue(getOutContent().toString(StandardCharsets.UTF_8)
+                    .contains("[INFO] : Waiting done after 3 attempt(s)" + System.lineSeparator()));
+        } catch (FinderException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_WaitTask_NoProjectKey() throws TestException {
+        try {
+            var logger = new SystemLogger();
+            var urls = new ArrayList<String>();
+
+            new Finder(ClientTestUtil.mockClientForFinderByUrl(url -> {
+                urls.add(url);
+                return getTask("SUCCESS");
+            }, new Client(1, 0, logger)), logger).waitTask(URL, writeReportTask("ceTaskId=AX+1"));
+
+            assertEquals(List.of(URL + API_CE_TASK + "AX%2B1"), urls);
+        } catch (FinderException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_WaitTask_Exception_Failed() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(FinderException.class));
+
+        try {
+            var logger = new SystemLogger();
+
+            new Finder(ClientTestUtil.mockClientForFinderByUrl(url -> url.contains(API_CE_TASK) ? getTask("FAILED")
+                    : TASK_HISTORY.getBytes(StandardCharsets.UTF_8), new Client(1, 0, logger)), logger)
+                    .waitTask(URL, writeReportTask(REPORT_TASK));
+        } catch (FinderException | ClientException exception) {
+            ExceptionAssert.checkMessage("Analysis task AX+1 ended with status FAILED", exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_WaitTask_Exception_Pending() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(FinderException.class));
+
+        try {
+            var logger = new SystemLogger();
+
+            final int ATTEMPTS_COUNT = 2;
+            new Finder(ClientTestUtil.mockClientForFinderByUrl(url -> url.contains(API_CE_TASK) ? getTask("PENDING")
+                    : TASK_HISTORY.getBytes(StandardCharsets.UTF_8), new Client(ATTEMPTS_COUNT, 0, logger)), logger)
+                    .waitTask(URL, writeReportTask(REPORT_TASK));
+        } catch (FinderException | ClientException exception) {
+            ExceptionAssert.checkMessage("Waiting analysis failed after 2 attempt(s)", exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_WaitTask_Exception_TaskId() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(FinderException.class));
+
+        var reportTaskPath = writeReportTask("projectKey=project:key");
+
+        try {
+            var logger = new SystemLogger();
+
+            new Finder(new Client(1, 0, logger), logger).waitTask(URL, reportTaskPath);
+        } catch (FinderException exception) {
+            ExceptionAssert.checkMessage("Property 'ceTaskId' not found in '" + reportTaskPath + "'", exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        } catch (ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_WaitTask_Exception_TaskFile() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(FinderException.class));
+
+        try {
+            var logger = new SystemLogger();
+
+            new Finder(new Client(1, 0, logger), logger).waitTask(URL,
+                    temporaryFolder.getRoot().toPath().resolve("report-task.txt").toString());
+        } catch (FinderException exception) {
+            ExceptionAssert.checkType(NoSuchFileException.class, exception.getCause());
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        } catch (ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_GetTaskDelayMilliseconds() {
+        final long EXPECTED_MILLISECONDS = 2000;
+        final long ELAPSED_MILLISECONDS = 1500;
+        final long LATE_MILLISECONDS = 3000;
+
+        assertEquals(Long.MAX_VALUE, Finder.getTaskDelayMilliseconds(-1, 0));
+        assertEquals(EXPECTED_MILLISECONDS - ELAPSED_MILLISECONDS,
+                Finder.getTaskDelayMilliseconds(EXPECTED_MILLISECONDS, ELAPSED_MILLISECONDS));
+        assertEquals(EXPECTED_MILLISECONDS / 4,
+                Finder.getTaskDelayMilliseconds(EXPECTED_MILLISECONDS, LATE_MILLISECONDS));
+        assertEquals(Finder.TASK_MIN_POLL_MILLISECONDS, Finder.getTaskDelayMilliseconds(1, LATE_MILLISECONDS));
+    }
+
     @Test
     public void test_Wait_Exception_Failing() throws TestException {
         final int FAILING_COUNT = 2;
@@ -315,6 +716,53 @@ public class FinderTest extends StandardTest {
         }
     }
 
+    @Test
+    public void test_Wait_RetryPolicy_Backoff() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(FinderException.class));
+
+        try {
+            var logger = new SystemLogger();
+
+            final int ATTEMPTS_COUNT = 3;
+            new Finder(ClientTestUtil.mockClientForFinderByUrl(
+                    url -> FAILING_0_PENDING_1_IN_PROGRESS_0.getBytes(StandardCharsets.UTF_8),
+                    new Client(new ExponentialRetryPolicy(ATTEMPTS_COUNT, 1, 1, 0), logger, false)), logger)
+                    .wait(URL);
+        } catch (FinderException exception) {
+            ExceptionAssert.checkMessage("Waiting analysis failed after 3 attempt(s)", exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        } catch (ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Wait_RetryPolicy_Deadline() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(FinderException.class));
+
+        try {
+            var logger = new SystemLogger();
+
+            final int ATTEMPTS_COUNT = 3;
+            final int DELAY_MILLISECONDS = 60000;
+            new Finder(ClientTestUtil.mockClientForFinder(
+                    FAILING_0_PENDING_1_IN_PROGRESS_0.getBytes(StandardCharsets.UTF_8),
+                    new Client(new FixedRetryPolicy(ATTEMPTS_COUNT, DELAY_MILLISECONDS) {
+                        @Override
+                        public boolean canRetry(int attemptsCount, long elapsedMilliseconds, long delayMilliseconds) {
+                            return elapsedMilliseconds + delayMilliseconds < DELAY_MILLISECONDS;
+                        }
+                    }, logger, false)), logger).wait(URL);
+        } catch (FinderException exception) {
+            ExceptionAssert.checkMessage("Waiting analysis failed after 1 attempt(s)", exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        } catch (IOException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
     @Test
     public void test_Wait_Log_Failed_() throws TestException {
         expectedExceptionRule.expect(TestException.class);
@@ -361,6 +809,176 @@ public class FinderTest extends StandardTest {
         }
     }
 
+    private static int getPageIndex(String url) {
+        var start = url.indexOf(PAGE_INDEX) + PAGE_INDEX.length();
+        var end = url.indexOf('&', start);
+
+        return Integer.parseInt(url.substring(start, end));
+    }
+
+    private static String getCreatedAfter(String url) {
+        var start = url.indexOf(CREATED_AFTER);
+
+        if (start == -1) {
+            return null;
+        }
+
+        return URLDecoder.decode(url.substring(start + CREATED_AFTER.length()), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] getIssuesPage(int total, int from, int pageIndex, IntUnaryOperator creationDate) {
+        var page = new StringBuilder(TOTAL_KEY + total + ", \"issues\" : [");
+        var start = (pageIndex - 1) * Finder.ISSUES_MAX_LIMIT;
+        var end = Math.min(total, start + Finder.ISSUES_MAX_LIMIT);
+
+        for (var i = start; i < end; i++) {
+            page.append(i == start ? "" : ", ").append("{\"key\" : \"issue").append(from + i)
+                    .append("\", \"creationDate\" : \"").append(creationDate.applyAsInt(from + i))
+                    .append("\", \"component\" : \"component\"}");
+        }
+
+        return page.append("], \"components\" : [{\"key\" : \"component\"}]}").toString()
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void test_WaitAsync_() throws TestException {
+        try {
+            var logger = new SystemLogger();
+
+            getAsync(new Finder(ClientTestUtil.mockClientForFinder(
+                    "{\"failing\" : 0, \"pending\" : 0, \"inProgress\" : 0}".getBytes(StandardCharsets.UTF_8),
+                    new Client(1, 0, logger)), logger).waitAsync(URL));
+            assertTrue(getOutContent().toString(StandardCharsets.UTF_8).endsWith(INFO_WAITING_DONE_AFTER_1_ATTEMPT_S
+                    + System.lineSeparator() + INFO + System.lineSeparator()));
+        } catch (FinderException | IOException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_WaitAsync_Exception_Failing() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(FinderException.class));
+
+        try {
+            var logger = new SystemLogger();
+
+            getAsync(new Finder(ClientTestUtil.mockClientForFinder(
+                    "{\"failing\" : 1}".getBytes(StandardCharsets.UTF_8), new Client(1, 0, logger)), logger)
+                    .waitAsync(URL));
+        } catch (FinderException | IOException | ClientException exception) {
+            ExceptionAssert.checkMessage("Finding 1 failed activities, resolve failures and restart SonarQube",
+                    exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_WaitAsync_Exception_Pending() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(FinderException.class));
+
+        try {
+            var logger = new SystemLogger();
+            final int ATTEMPTS_COUNT = 3;
+
+            getAsync(new Finder(ClientTestUtil.mockClientForFinderByUrl(
+                    url -> FAILING_0_PENDING_1_IN_PROGRESS_0.getBytes(StandardCharsets.UTF_8),
+                    new Client(ATTEMPTS_COUNT, 1, logger)), logger).waitAsync(URL));
+        } catch (FinderException | ClientException exception) {
+            ExceptionAssert.checkMessage("Waiting analysis failed after 3 attempt(s)", exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_CountAsync_() throws TestException {
+        try {
+            final int TOTAL = 120;
+            var logger = new SystemLogger();
+
+            assertEquals(TOTAL, (int) getAsync(new Finder(ClientTestUtil.mockClientForFinder(
+                    (TOTAL_KEY + TOTAL + "}").getBytes(StandardCharsets.UTF_8), new Client(1, 0, logger)), logger)
+                    .countAsync(URL)));
+        } catch (FinderException | IOException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_CountAsync_Exception() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(FinderException.class));
+
+        try {
+            var logger = new SystemLogger();
+
+            getAsync(new Finder(ClientTestUtil.mockClientForFinder(null, new Client(1, 0, logger)), logger)
+                    .countAsync(URL));
+        } catch (FinderException | IOException | ClientException exception) {
+            ExceptionAssert.checkMessage(EXCEPTION_IN_CLASS_FINDER, exception);
+            ExceptionAssert.checkType(ClientException.class, exception.getCause());
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_FindAsync_() throws TestException {
+        try {
+            final int TOTAL = 120;
+            var logger = new SystemLogger();
+            var finderResult = getAsync(new Finder(ClientTestUtil.mockClientForFinder(
+                    (TOTAL_KEY + TOTAL + ", \"issues\" : [{\"key\" : \"issue1\"}, {}], \"components\":[]}")
+                            .getBytes(StandardCharsets.UTF_8),
+                    new Client(1, 0, logger)), logger).findAsync(URL));
+
+            assertEquals(TOTAL, finderResult.getIssuesCollection().total());
+            assertEquals(2, finderResult.getIssuesCollection().count());
+        } catch (FinderException | IOException | ClientException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_FindAsync_OutOfLimit() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(FinderException.class));
+
+        try {
+            var logger = new SystemLogger();
+
+            getAsync(new Finder(new Client(1, 0, logger), logger).findAsync(URL, Finder.ISSUES_MAX_LIMIT + 1));
+        } catch (FinderException | ClientException exception) {
+            ExceptionAssert.checkMessage("'limit' argument cannot be greater than " + Finder.ISSUES_MAX_LIMIT,
+                    exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    private static <T> T getAsync(CompletableFuture<T> future) throws FinderException, TestException {
+        try {
+            return future.get();
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof FinderException) {
+                throw (FinderException) exception.getCause();
+            }
+
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    private static void assertUniqueKeys(FinderResult finderResult) {
+        var keys = new HashSet<String>();
+
+        for (SonarIssue item : finderResult.getIssuesCollection()) {
+            assertTrue(keys.add(item.getKey()));
+        }
+    }
+
     private static void assertIssue(JSONObject item, int index, String issue1Key, String issue1Value) {
         if (index == 0) {
             assertTrue(item.has(issue1Key));
@@ -377,4 +995,19 @@ public class FinderTest extends StandardTest {
             assertEquals(0, count);
         }
     }
+
+    private String writeReportTask(String content) throws TestException {
+        try {
+            var reportTaskFile = temporaryFolder.newFile("report-task.txt").toPath();
+
+            Files.writeString(reportTaskFile, content, StandardCharsets.UTF_8);
+            return reportTaskFile.toString();
+        } catch (IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(FinderTest.class), exception);
+        }
+    }
+
+    private static byte[] getTask(String status) {
+        return ("{\"task\" : {\"id\" : \"AX+1\", \"status\" : \"" + status + "\"}}").getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -8,11 +8,21 @@ package sonarscratch.checker.issues;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+
+import org.json.JSONException;
 import org.json.JSONObject;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class IssuesCollectionTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void test_Total() {
         final int TOTAL = 258;
@@ -24,23 +34,120 @@ public class IssuesCollectionTest {
     public void test_AddIssue() {
         var issues = new IssuesCollection(0);
 
-        issues.addIssue(null);
+        issues.addIssue((SonarIssue) null);
 
-        var jsonObject = new JSONObject();
+        var issue = new SonarIssue(new JSONObject());
 
-        issues.addIssue(jsonObject);
+        issues.addIssue(issue);
         var i = 0;
 
-        for (JSONObject item : issues) {
+        for (SonarIssue item : issues) {
             if (i == 0) {
                 assertNull(item);
             } else {
-                assertEquals(jsonObject, item);
+                assertEquals(issue, item);
             }
             i++;
         }
     }
 
+    @Test
+    public void test_AddIssueSpilled() throws IOException, JSONException {
+        final int TOTAL = 3;
+
+        try (var store = new SpillStore(temporaryFolder.getRoot().getPath())) {
+            var issues = new IssuesCollection(TOTAL, store);
+
+            for (var index = 0; index < TOTAL; index++) {
+                issues.addIssue(new JSONObject("{key : \"issue" + index + "\", component : \"component\","
+                        + " textRange : {startLine : " + (index + 1) + "}}"));
+            }
+
+            assertTrue(issues.spilled());
+            assertEquals(TOTAL, issues.count());
+
+            for (var pass = 0; pass < 2; pass++) {
+                var index = 0;
+
+                for (var issue : issues) {
+                    assertEquals("issue" + index, issue.getKey());
+                    assertEquals("component", issue.getComponent());
+                    assertEquals(index + 1, issue.getStartLine());
+                    assertEquals("issue" + index, issue.getInfos().getString("key"));
+                    index++;
+                }
+
+                assertEquals(TOTAL, index);
+            }
+        }
+    }
+
+    @Test
+    public void test_AddIssueInfos() throws IOException, JSONException {
+        final String ISSUE = "{\"key\" : \"issue\", \"severity\" : \"IMPORTANT\", \"type\" : \"BUG\", "
+                + "\"textRange\" : {\"startLine\" : 1, \"endOffset\" : 2}, \"tags\" : [\"\u00e9\"]}";
+
+        try (var store = new SpillStore(temporaryFolder.getRoot().getPath())) {
+            var issues = new IssuesCollection(1, store);
+            var expected = new SonarIssue(new JSONObject(ISSUE));
+
+            issues.addIssue(expected);
+
+            for (var issue : issues) {
+                assertEquals(expected.getKey(), issue.getKey());
+                assertNull(issue.getSeverity());
+                assertEquals("IMPORTANT", issue.getSeverityName());
+                assertEquals(IssueType.BUG, issue.getType());
+                assertTrue(issue.hasTextRange());
+                assertEquals(2, issue.getEndOffset());
+                assertEquals(expected.getInfos().toString(), issue.getInfos().toString());
+            }
+        }
+    }
+
+    @Test
+    public void test_AddAll_Spilled() throws IOException, JSONException {
+        final int TOTAL = 3;
+
+        try (var store = new SpillStore(temporaryFolder.getRoot().getPath())) {
+            var issues = new IssuesCollection(TOTAL, store);
+            var otherIssues = new IssuesCollection(TOTAL, store);
+
+            issues.addIssue(new JSONObject("{key : \"issue0\"}"));
+            otherIssues.addIssue(new JSONObject("{key : \"issue1\"}"));
+            otherIssues.addIssue(new JSONObject("{key : \"issue2\"}"));
+
+            var bytesCount = store.getBytesCount();
+
+            issues.addAll(otherIssues);
+
+            assertEquals(bytesCount, store.getBytesCount());
+            assertEquals(TOTAL, issues.count());
+
+            var index = 0;
+
+            for (var issue : issues) {
+                assertEquals("issue" + index, issue.getKey());
+                index++;
+            }
+
+            assertEquals(TOTAL, index);
+        }
+    }
+
+    @Test
+    public void test_AddAll_() {
+        var issues = new IssuesCollection(0);
+        var otherIssues = new IssuesCollection(0);
+        var issue = new SonarIssue(new JSONObject());
+
+        otherIssues.addIssue(issue);
+        issues.addAll(otherIssues);
+
+        assertEquals(1, issues.count());
+        assertSame(issue, issues.iterator().next());
+    }
+
     @Test
     public void test_Count_0() {
         assertEquals(0, new IssuesCollection(0).count());
@@ -50,8 +157,8 @@ public class IssuesCollectionTest {
     public void test_Count_() {
         var issues = new IssuesCollection(0);
 
-        issues.addIssue(null);
-        issues.addIssue(null);
+        issues.addIssue((SonarIssue) null);
+        issues.addIssue((SonarIssue) null);
 
         final int ISSUES_COUNT = 2;
         assertEquals(ISSUES_COUNT, issues.count());
@@ -62,7 +169,7 @@ public class IssuesCollectionTest {
         var issues = new IssuesCollection(0);
         var count = 0;
 
-        for (JSONObject item : issues) {
+        for (SonarIssue item : issues) {
             if (item == null) {
                 count++;
             }
@@ -75,11 +182,11 @@ public class IssuesCollectionTest {
     public void test_Iterator_1() {
         var issues = new IssuesCollection(0);
 
-        issues.addIssue(null);
+        issues.addIssue((SonarIssue) null);
 
         var count = 0;
 
-        for (JSONObject item : issues) {
+        for (SonarIssue item : issues) {
             if (item == null) {
                 count++;
             }
@@ -92,12 +199,12 @@ public class IssuesCollectionTest {
     public void test_Iterator_() {
         var issues = new IssuesCollection(0);
 
-        issues.addIssue(null);
-        issues.addIssue(null);
+        issues.addIssue((SonarIssue) null);
+        issues.addIssue((SonarIssue) null);
 
         var count = 0;
 
-        for (JSONObject item : issues) {
+        for (SonarIssue item : issues) {
             if (item == null) {
                 count++;
             }
@@ -0,0 +1,39 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class IssuesQueryTest {
+    @Test
+    public void test_GetFilters_Empty() {
+        assertEquals("", new IssuesQuery().getFilters());
+        assertEquals("", new IssuesQuery().projects(List.of()).branch("").getFilters());
+    }
+
+    @Test
+    public void test_GetFilters_() {
+        assertEquals("&componentKeys=project%3Aa%2Cproject%3Ab&severities=BLOCKER%2CCRITICAL&types=BUG"
+                + "&branch=feature%2Fquery&pullRequest=42&createdAfter=2020-01-01",
+                new IssuesQuery().projects(List.of("project:a", "project:b")).severities(List.of("BLOCKER", "CRITICAL"))
+                        .types(List.of("BUG")).branch("feature/query").pullRequest("42").createdAfter("2020-01-01")
+                        .getFilters());
+    }
+
+    @Test
+    public void test_GetFilters_Window() {
+        var query = new IssuesQuery().types(List.of("BUG")).createdAfter("2020-01-01");
+
+        assertEquals("&types=BUG&createdAfter=2021-06-01T10%3A00%3A00%2B0000",
+                query.getFilters("2021-06-01T10:00:00+0000"));
+        assertEquals("&types=BUG&createdAfter=2020-01-01", query.getFilters(null));
+    }
+}
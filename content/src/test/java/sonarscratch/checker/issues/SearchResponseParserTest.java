@@ -0,0 +1,154 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.StringReader;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class SearchResponseParserTest {
+    @Test
+    public void test_Parse_Total() throws JSONException {
+        final int TOTAL = 120;
+
+        assertEquals(TOTAL, parse("{\"total\" : " + TOTAL + "}", false).getIssuesCollection().total());
+    }
+
+    @Test
+    public void test_Parse_Issues() throws JSONException {
+        final int ISSUES_COUNT = 2;
+        var response = parse("{\"total\" : 5, \"issues\" : [{\"key\" : \"issue1\"}, {\"key\" : \"issue2\"}], "
+                + "\"components\" : []}", true);
+
+        assertEquals(ISSUES_COUNT, response.getIssuesCollection().count());
+
+        var i = 1;
+
+        for (SonarIssue issue : response.getIssuesCollection()) {
+            assertEquals("issue" + i, issue.getKey());
+            i++;
+        }
+    }
+
+    @Test
+    public void test_Parse_IssuesInfos() throws JSONException {
+        final String ISSUE = "{\"key\" : \"issue1\", \"textRange\" : {\"startLine\" : 1}, "
+                + "\"tags\" : [\"a\", \"b\"]}";
+        var response = parse("{\"total\" : 1, \"issues\" : [ " + ISSUE + " ], \"components\" : []}", true);
+
+        for (SonarIssue issue : response.getIssuesCollection()) {
+            assertEquals(new JSONObject(ISSUE).toString(), issue.getInfos().toString());
+        }
+    }
+
+    @Test
+    public void test_Parse_IssuesFields() throws JSONException {
+        final String ISSUE = "{\"flows\" : [{\"locations\" : [{\"msg\" : \"a \\\"}\\\" b\"}]}], "
+                + "\"key\" : \"issue1\", \"severity\" : \"MAJOR\", \"type\" : \"BUG\", \"message\" : null, "
+                + "\"line\" : 3, \"textRange\" : {\"startLine\" : 3, \"endLine\" : 4}, \"rule\" : \"java:S1\"}";
+        var response = parse("{\"total\" : 1, \"issues\" : [" + ISSUE + "], \"components\" : []}", true);
+
+        for (SonarIssue issue : response.getIssuesCollection()) {
+            final int END_LINE = 4;
+
+            assertEquals("issue1", issue.getKey());
+            assertEquals("java:S1", issue.getRule());
+            assertEquals(Severity.MAJOR, issue.getSeverity());
+            assertEquals(IssueType.BUG, issue.getType());
+            assertEquals("", issue.getMessage());
+            assertEquals("", issue.getComponent());
+            assertEquals(END_LINE, issue.getEndLine());
+            assertEquals(new JSONObject(ISSUE).toString(), issue.getInfos().toString());
+        }
+    }
+
+    @Test
+    public void test_Parse_Components() throws JSONException {
+        var response = parse("{\"total\" : 0, \"issues\" : [], \"components\" : [{\"key\" : \"component\"}]}", true);
+
+        assertEquals(1, response.getComponentsCollection().count());
+
+        for (SonarComponent component : response.getComponentsCollection()) {
+            assertEquals("component", component.getKey());
+        }
+    }
+
+    @Test
+    public void test_Parse_ComponentsNamespace() throws JSONException {
+        var response = new SearchResponse(new StringPool(), "1|");
+
+        SearchResponseParser.parse(new StringReader("{\"total\" : 1, \"issues\" : [{\"component\" : \"a:b\"}], "
+                + "\"components\" : [{\"key\" : \"a:b\"}]}"), response, true);
+
+        for (SonarIssue issue : response.getIssuesCollection()) {
+            assertEquals("1|a:b", issue.getComponent());
+            assertEquals("a:b", issue.getInfos().getString("component"));
+        }
+
+        assertEquals("1|a:b", response.getComponentsCollection().get("1|a:b").getKey());
+        assertNull(response.getComponentsCollection().get("a:b"));
+    }
+
+    @Test
+    public void test_Parse_UnknownKeys() throws JSONException {
+        var response = parse("{\"p\" : 1, \"paging\" : {\"total\" : 3}, \"total\" : 3, \"facets\" : [[], {}], "
+                + "\"issues\" : [{}], \"components\" : [], \"debtTotal\" : \"5min\"}", true);
+
+        final int TOTAL = 3;
+
+        assertEquals(TOTAL, response.getIssuesCollection().total());
+        assertEquals(1, response.getIssuesCollection().count());
+    }
+
+    @Test
+    public void test_Parse_Exception_Total() {
+        var exception = assertThrows(JSONException.class, () -> parse("{\"issues\" : [], \"components\" : []}", true));
+
+        assertEquals("JSONObject[\"total\"] not found.", exception.getMessage());
+    }
+
+    @Test
+    public void test_Parse_Exception_Issues() {
+        var exception = assertThrows(JSONException.class, () -> parse("{\"total\" : 0, \"components\" : []}", true));
+
+        assertEquals("JSONObject[\"issues\"] not found.", exception.getMessage());
+    }
+
+    @Test
+    public void test_Parse_Exception_NotArray() {
+        var exception = assertThrows(JSONException.class,
+                () -> parse("{\"total\" : 0, \"issues\" : [], \"components\" : {}}", true));
+
+        assertEquals("JSONObject[\"components\"] is not a JSONArray.", exception.getMessage());
+    }
+
+    @Test
+    public void test_Parse_Exception_NotObject() {
+        var exception = assertThrows(JSONException.class,
+                () -> parse("{\"total\" : 0, \"issues\" : [1], \"components\" : []}", true));
+
+        assertEquals("JSONArray[\"issues\"] item is not a JSONObject.", exception.getMessage());
+    }
+
+    @Test
+    public void test_Parse_Exception_() {
+        assertThrows(JSONException.class, () -> parse("{\"total\" : 0, \"issues\" : [{}, }", true));
+    }
+
+    private static SearchResponse parse(String text, boolean requireIssues) throws JSONException {
+        var response = new SearchResponse();
+
+        SearchResponseParser.parse(new StringReader(text), response, requireIssues);
+        return response;
+    }
+}
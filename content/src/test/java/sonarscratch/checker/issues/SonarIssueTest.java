@@ -0,0 +1,140 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class SonarIssueTest {
+    private static final String ISSUE = "{key : \"AXk1\", rule : \"java:S1192\", severity : \"MAJOR\", "
+            + "type : \"CODE_SMELL\", component : \"project:src/File.java\", project : \"project\", "
+            + "message : \"Define a constant\", creationDate : \"2020-05-01T10:00:00+0000\", "
+            + "updateDate : \"2020-05-02T10:00:00+0000\", textRange : {startLine : 3, endLine : 4, "
+            + "startOffset : 5, endOffset : 6}, tags : [\"design\"]}";
+
+    @Test
+    public void test_New_Fields() throws JSONException {
+        var issue = new SonarIssue(new JSONObject(ISSUE));
+
+        assertEquals("AXk1", issue.getKey());
+        assertEquals("java:S1192", issue.getRule());
+        assertEquals("project:src/File.java", issue.getComponent());
+        assertEquals("project", issue.getProject());
+        assertEquals("Define a constant", issue.getMessage());
+        assertEquals("2020-05-01T10:00:00+0000", issue.getCreationDate());
+        assertEquals("2020-05-02T10:00:00+0000", issue.getUpdateDate());
+    }
+
+    @Test
+    public void test_New_Empty() {
+        var issue = new SonarIssue(new JSONObject());
+
+        assertEquals("", issue.getKey());
+        assertEquals("", issue.getMessage());
+        assertEquals("", issue.getSeverityName());
+        assertNull(issue.getSeverity());
+        assertEquals("", issue.getTypeName());
+        assertNull(issue.getType());
+        assertFalse(issue.hasTextRange());
+    }
+
+    @Test
+    public void test_New_Severity_() throws JSONException {
+        var issue = new SonarIssue(new JSONObject(ISSUE));
+
+        assertSame(Severity.MAJOR, issue.getSeverity());
+        assertEquals("MAJOR", issue.getSeverityName());
+    }
+
+    @Test
+    public void test_New_Severity_Unknown() throws JSONException {
+        var issue = new SonarIssue(new JSONObject("{severity : \"IMPORTANT\"}"));
+
+        assertNull(issue.getSeverity());
+        assertEquals("IMPORTANT", issue.getSeverityName());
+    }
+
+    @Test
+    public void test_New_Type_() throws JSONException {
+        var issue = new SonarIssue(new JSONObject(ISSUE));
+
+        assertSame(IssueType.CODE_SMELL, issue.getType());
+        assertEquals("CODE_SMELL", issue.getTypeName());
+    }
+
+    @Test
+    public void test_New_Type_Unknown() throws JSONException {
+        var issue = new SonarIssue(new JSONObject("{type : \"DEFECT\"}"));
+
+        assertNull(issue.getType());
+        assertEquals("DEFECT", issue.getTypeName());
+    }
+
+    @Test
+    public void test_New_Rule_Interned() throws JSONException {
+        var pool = new StringPool();
+        var issue1 = new SonarIssue(new JSONObject(ISSUE), pool);
+        var issue2 = new SonarIssue(new JSONObject(ISSUE), pool);
+
+        assertSame(issue1.getRule(), issue2.getRule());
+        assertSame(issue1.getProject(), issue2.getProject());
+    }
+
+    @Test
+    public void test_New_Pooled() throws JSONException {
+        var pool = new StringPool();
+        var issue1 = new SonarIssue(new JSONObject(ISSUE), pool);
+        var issue2 = new SonarIssue(new JSONObject(ISSUE), pool);
+
+        assertNotSame(issue1.getComponent(), issue2.getComponent());
+        assertNotSame(issue1.getUpdateDate(), issue2.getUpdateDate());
+        assertEquals(2, pool.count());
+        assertEquals(StringPool.getBytesCount("java:S1192") + StringPool.getBytesCount("project"),
+                pool.getSavedBytesCount());
+    }
+
+    @Test
+    public void test_New_TextRange() throws JSONException {
+        var issue = new SonarIssue(new JSONObject(ISSUE));
+
+        final int START_LINE = 3;
+        final int END_LINE = 4;
+        final int START_OFFSET = 5;
+        final int END_OFFSET = 6;
+
+        assertTrue(issue.hasTextRange());
+        assertEquals(START_LINE, issue.getStartLine());
+        assertEquals(END_LINE, issue.getEndLine());
+        assertEquals(START_OFFSET, issue.getStartOffset());
+        assertEquals(END_OFFSET, issue.getEndOffset());
+    }
+
+    @Test
+    public void test_GetInfos() throws JSONException {
+        var jsonObject = new JSONObject(ISSUE);
+        var infos = new SonarIssue(jsonObject).getInfos();
+
+        assertEquals(jsonObject.toString(), infos.toString());
+
+        var expectedKeys = jsonObject.keys();
+        var keys = infos.keys();
+
+        while (expectedKeys.hasNext()) {
+            assertEquals(expectedKeys.next(), keys.next());
+        }
+
+        assertFalse(keys.hasNext());
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SpillStoreTest {
+    private static final String FIRST_RECORD = "{\"key\" : \"first\"}";
+    private static final String SECOND_RECORD = "{\"key\" : \"second\"}";
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void test_Append_() throws IOException {
+        try (var store = new SpillStore(temporaryFolder.getRoot().getPath())) {
+            var firstOffset = store.append(FIRST_RECORD.getBytes(StandardCharsets.UTF_8));
+            var secondOffset = store.append(SECOND_RECORD.getBytes(StandardCharsets.UTF_8));
+            var cursor = store.cursor();
+
+            assertEquals(0, firstOffset);
+            assertEquals(Integer.BYTES + FIRST_RECORD.length(), secondOffset);
+            assertEquals(2 * Integer.BYTES + FIRST_RECORD.length() + SECOND_RECORD.length(), store.getBytesCount());
+            assertEquals(SECOND_RECORD, new String(store.read(secondOffset), StandardCharsets.UTF_8));
+            assertEquals(FIRST_RECORD, new String(cursor.read(firstOffset), StandardCharsets.UTF_8));
+            assertEquals(SECOND_RECORD, new String(cursor.read(secondOffset), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void test_Append_Large() throws IOException {
+        final int LARGE_RECORD_SIZE = 200 * 1024;
+        final int RECORDS_COUNT = 1000;
+        var largeRecord = new byte[LARGE_RECORD_SIZE];
+
+        for (var index = 0; index < largeRecord.length; index++) {
+            largeRecord[index] = (byte) index;
+        }
+
+        try (var store = new SpillStore(temporaryFolder.getRoot().getPath())) {
+            var offsets = new long[RECORDS_COUNT];
+
+            for (var index = 0; index < RECORDS_COUNT; index++) {
+                offsets[index] = store.append(Integer.toString(index).getBytes(StandardCharsets.UTF_8));
+            }
+
+            var largeOffset = store.append(largeRecord);
+            var cursor = store.cursor();
+
+            for (var index = 0; index < RECORDS_COUNT; index++) {
+                assertEquals(Integer.toString(index), new String(cursor.read(offsets[index]), StandardCharsets.UTF_8));
+            }
+
+            assertArrayEquals(largeRecord, cursor.read(largeOffset));
+            assertEquals("0", new String(cursor.read(offsets[0]), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void test_Close() throws IOException {
+        var store = new SpillStore(temporaryFolder.getRoot().getPath());
+
+        store.append(FIRST_RECORD.getBytes(StandardCharsets.UTF_8));
+        store.close();
+
+        try (var files = Files.list(temporaryFolder.getRoot().toPath())) {
+            assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.issues;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class StringPoolTest {
+    private static final String VALUE = "project:src/main/java/File.java";
+
+    @Test
+    public void test_Intern_() {
+        var pool = new StringPool();
+        var first = new String(VALUE);
+        var second = new String(VALUE);
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertSame(first, pool.intern(first));
+        assertEquals(1, pool.count());
+        assertEquals(StringPool.getBytesCount(VALUE), pool.getSavedBytesCount());
+    }
+
+    @Test
+    public void test_Intern_Empty() {
+        var pool = new StringPool();
+
+        assertEquals("", pool.intern(""));
+        assertEquals(null, pool.intern(null));
+        assertEquals(0, pool.count());
+        assertEquals(0, pool.getSavedBytesCount());
+    }
+
+    @Test
+    public void test_GetBytesCount() {
+        final int OVERHEAD_BYTES_COUNT = 40;
+
+        assertEquals(OVERHEAD_BYTES_COUNT + 3, StringPool.getBytesCount("abc"));
+        assertEquals(OVERHEAD_BYTES_COUNT + 2 * Character.BYTES, StringPool.getBytesCount("a\u20ac"));
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import sonarscratch.checker.test.StandardTest;
+
+public class AsyncSystemLoggerTest extends StandardTest {
+    @Test
+    public void test_Info_() {
+        final String INFO = "This is an information message";
+
+        try (var logger = new AsyncSystemLogger(new SystemLogger())) {
+            logger.info(INFO);
+        }
+
+        assertEquals("[INFO] : " + INFO + System.lineSeparator(), getOutContent().toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_Info_Threads() throws InterruptedException {
+        final int THREADS_COUNT = 4;
+        final int MESSAGES_COUNT = 1000;
+        var threads = new ArrayList<Thread>();
+
+        try (var logger = new AsyncSystemLogger(new SystemLogger(), 16)) {
+            for (var threadIndex = 0; threadIndex < THREADS_COUNT; threadIndex++) {
+                var prefix = "Thread " + threadIndex + " message ";
+
+                threads.add(new Thread(() -> {
+                    for (var index = 0; index < MESSAGES_COUNT; index++) {
+                        logger.info(prefix + index);
+                    }
+                }));
+            }
+
+            for (var thread : threads) {
+                thread.start();
+            }
+
+            for (var thread : threads) {
+                thread.join();
+            }
+        }
+
+        var lines = getOutContent().toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+
+        assertEquals(THREADS_COUNT * MESSAGES_COUNT, lines.length);
+
+        for (var threadIndex = 0; threadIndex < THREADS_COUNT; threadIndex++) {
+            var next = 0;
+
+            for (var line : lines) {
+                if (line.equals("[INFO] : Thread " + threadIndex + " message " + next)) {
+                    next++;
+                }
+            }
+
+            assertEquals(MESSAGES_COUNT, next);
+        }
+    }
+
+    @Test
+    public void test_Info_Closed() {
+        final String INFO = "This is an information message";
+        var logger = new AsyncSystemLogger(new SystemLogger());
+
+        logger.close();
+        logger.info(INFO);
+        assertEquals("[INFO] : " + INFO + System.lineSeparator(), getOutContent().toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_Info_Exception() {
+        final String INFO = "This is an information message";
+        var target = new SystemLogger() {
+            @Override
+            protected void print(PrintStream stream, String text) {
+                throw new IllegalStateException("Print failed");
+            }
+        };
+
+        try (var logger = new AsyncSystemLogger(target)) {
+            logger.info(INFO);
+        }
+
+        assertEquals("[INFO] : " + INFO + System.lineSeparator(), getOutContent().toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_Info_WriterStopped() throws InterruptedException {
+        final int MESSAGES_COUNT = 10;
+        var printing = new CountDownLatch(1);
+        var failed = new AtomicBoolean();
+        var target = new SystemLogger() {
+            @Override
+            protected void print(PrintStream stream, String text) {
+                if (!failed.getAndSet(true)) {
+                    printing.countDown();
+                    throw new AssertionError("Writer failed");
+                }
+
+                super.print(stream, text);
+            }
+        };
+
+        try (var logger = new AsyncSystemLogger(target, 2)) {
+            logger.info("Lost message");
+            printing.await();
+
+            for (var index = 0; index < MESSAGES_COUNT; index++) {
+                logger.info("Message " + index);
+            }
+        }
+
+        var out = getOutContent().toString(StandardCharsets.UTF_8);
+
+        for (var index = 0; index < MESSAGES_COUNT; index++) {
+            assertTrue(out.contains("[INFO] : Message " + index + System.lineSeparator()));
+        }
+    }
+
+    @Test
+    public void test_Info_Quiet() {
+        var target = new SystemLogger();
+
+        target.setLevel(SystemLogger.Level.QUIET);
+
+        try (var logger = new AsyncSystemLogger(target)) {
+            logger.info("This is an information message");
+        }
+
+        assertEquals("", getOutContent().toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_Err() {
+        final String INFO = "This is an information message";
+        final String ERR = "This is an error message";
+
+        try (var logger = new AsyncSystemLogger(new SystemLogger())) {
+            logger.info(INFO);
+            logger.err(ERR);
+        }
+
+        assertTrue(getOutContent().toString(StandardCharsets.UTF_8).contains(INFO));
+        assertEquals("[ERR ] : " + ERR + System.lineSeparator(), getErrContent().toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_New_Capacity() {
+        expectedExceptionRule.expect(IllegalArgumentException.class);
+        expectedExceptionRule.expectMessage("Capacity must be positive : 0");
+
+        new AsyncSystemLogger(new SystemLogger(), 0);
+    }
+}
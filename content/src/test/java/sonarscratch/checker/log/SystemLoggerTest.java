@@ -7,6 +7,7 @@
 package sonarscratch.checker.log;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.nio.charset.StandardCharsets;
 
@@ -24,6 +25,52 @@ public class SystemLoggerTest extends StandardTest {
         assertEquals("[INFO] : " + INFO + System.lineSeparator(), getOutContent().toString(StandardCharsets.UTF_8));
     }
 
+    @Test
+    public void test_Info_Quiet() {
+        var logger = new SystemLogger();
+        var called = new boolean[] { false };
+
+        logger.setLevel(SystemLogger.Level.QUIET);
+        logger.info("This is an information message");
+        logger.info(() -> {
+            called[0] = true;
+            return "This is a lazy information message";
+        });
+        assertFalse(called[0]);
+        assertEquals("", getOutContent().toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_Info_Supplier() {
+        var logger = new SystemLogger();
+        final String INFO = "This is a lazy information message";
+
+        logger.info(() -> INFO);
+        assertEquals("[INFO] : " + INFO + System.lineSeparator(), getOutContent().toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_Verbose() {
+        var logger = new SystemLogger();
+        final String VERBOSE = "This is a detailed message";
+
+        logger.verbose(() -> VERBOSE);
+        assertEquals("", getOutContent().toString(StandardCharsets.UTF_8));
+        logger.setLevel(SystemLogger.Level.VERBOSE);
+        logger.verbose(() -> VERBOSE);
+        assertEquals("[VERB] : " + VERBOSE + System.lineSeparator(), getOutContent().toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_Err_Quiet() {
+        var logger = new SystemLogger();
+        final String ERR = "This is an error message";
+
+        logger.setLevel(SystemLogger.Level.QUIET);
+        logger.err(ERR);
+        assertEquals("[ERR ] : " + ERR + System.lineSeparator(), getErrContent().toString(StandardCharsets.UTF_8));
+    }
+
     @Test
     public void test_Err() {
         var logger = new SystemLogger();
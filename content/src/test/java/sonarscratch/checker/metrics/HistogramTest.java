@@ -0,0 +1,51 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.metrics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class HistogramTest {
+    @Test
+    public void test_Record() {
+        final long[] VALUES = { 0, 5, 6, 100000 };
+        var histogram = new Histogram();
+
+        for (var value : VALUES) {
+            histogram.record(value);
+        }
+
+        var cumulativeCounts = histogram.getCumulativeCounts();
+
+        assertEquals(Histogram.getBounds().length + 1, cumulativeCounts.length);
+        assertEquals(2, cumulativeCounts[0]);
+        assertEquals(3, cumulativeCounts[1]);
+        assertEquals(3, cumulativeCounts[cumulativeCounts.length - 2]);
+        assertEquals(VALUES.length, cumulativeCounts[cumulativeCounts.length - 1]);
+        assertEquals(VALUES.length, histogram.getCount());
+        assertEquals(100011, histogram.getSum());
+    }
+
+    @Test
+    public void test_Add() {
+        final int VALUE = 42;
+        var first = new Histogram();
+        var second = new Histogram();
+
+        first.record(VALUE);
+        second.record(VALUE);
+        second.add(first);
+
+        assertEquals(2, second.getCount());
+        assertEquals(2 * VALUE, second.getSum());
+        assertArrayEquals(new long[] { 0, 0, 0, 2 }, Arrays.copyOf(second.getCumulativeCounts(), 4));
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class MetricsTest {
+    private static final int REQUEST_MILLISECONDS = 42;
+    private static final int TRANSFERRED_BYTES_COUNT = 1024;
+    private static final double ISSUES_PER_SECOND = 1.5;
+
+    @Test
+    public void test_Add() {
+        var metrics = new Metrics();
+
+        metrics.add("issues_found_total", 2);
+        metrics.add("issues_found_total", 3);
+
+        assertEquals(5, metrics.getCounter("issues_found_total"));
+        assertEquals(0, metrics.getCounter("unknown_total"));
+    }
+
+    @Test
+    public void test_WriteJson() throws IOException, JSONException {
+        var writer = new StringWriter();
+
+        getMetrics().writeJson(writer);
+
+        var json = new JSONObject(writer.toString());
+        var histogram = json.getJSONObject("histograms").getJSONObject("http_request_milliseconds");
+
+        assertEquals(TRANSFERRED_BYTES_COUNT, json.getJSONObject("counters").getLong("http_transferred_bytes_total"));
+        assertEquals(ISSUES_PER_SECOND, json.getJSONObject("gauges").getDouble("issues_found_per_second"), 0);
+        assertEquals(1, histogram.getLong("count"));
+        assertEquals(REQUEST_MILLISECONDS, histogram.getLong("sum"));
+        assertEquals(0, histogram.getJSONObject("buckets").getLong("25"));
+        assertEquals(1, histogram.getJSONObject("buckets").getLong("50"));
+        assertEquals(1, histogram.getJSONObject("buckets").getLong("+Inf"));
+    }
+
+    @Test
+    public void test_WritePrometheus() throws IOException {
+        var writer = new StringWriter();
+
+        getMetrics().writePrometheus(writer);
+
+        var text = writer.toString();
+
+        assertTrue(text.startsWith("# TYPE sonarscratch_checker_http_transferred_bytes_total counter\n"
+                + "sonarscratch_checker_http_transferred_bytes_total 1024\n"
+                + "# TYPE sonarscratch_checker_issues_found_per_second gauge\n"
+                + "sonarscratch_checker_issues_found_per_second 1.5\n"
+                + "# TYPE sonarscratch_checker_http_request_milliseconds histogram\n"
+                + "sonarscratch_checker_http_request_milliseconds_bucket{le=\"5\"} 0\n"));
+        assertTrue(text.contains("sonarscratch_checker_http_request_milliseconds_bucket{le=\"50\"} 1\n"));
+        assertTrue(text.endsWith("sonarscratch_checker_http_request_milliseconds_bucket{le=\"+Inf\"} 1\n"
+                + "sonarscratch_checker_http_request_milliseconds_sum 42\n"
+                + "sonarscratch_checker_http_request_milliseconds_count 1\n"));
+    }
+
+    private static Metrics getMetrics() {
+        var metrics = new Metrics();
+
+        metrics.add("http_transferred_bytes_total", TRANSFERRED_BYTES_COUNT);
+        metrics.set("issues_found_per_second", ISSUES_PER_SECOND);
+        metrics.histogram("http_request_milliseconds").record(REQUEST_MILLISECONDS);
+        return metrics;
+    }
+}
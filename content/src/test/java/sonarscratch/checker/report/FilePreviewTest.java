@@ -13,9 +13,14 @@ import static org.junit.Assert.assertTrue;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 
 public class FilePreviewTest {
@@ -31,6 +36,9 @@ public class FilePreviewTest {
     private static final String LINE3 = "var y = f2(2*z);";
     private static final String LINE4 = "f3();";
 
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void test_GetPreview_1Line_AtStart() throws IOException {
         var preview = getArrayList(
@@ -212,6 +220,60 @@ public class FilePreviewTest {
         getPreviewLineSeparator(WINDOWS_LINE_SEPARATOR);
     }
 
+    @Test
+    public void test_GetPreview_Ranges_ReadOnce() throws IOException {
+        final int START_LINE = 4;
+        final int END_LINE = 4;
+        var mockedFilePreviewGetPreviewDependency = Mockito.mock(FilePreviewGetPreviewDependency.class);
+
+        Mockito.doReturn(new BufferedReader(new StringReader(
+                LINE1 + LINUX_LINE_SEPARATOR + LINE2 + LINUX_LINE_SEPARATOR + LINE3 + LINUX_LINE_SEPARATOR + LINE4)))
+                .when(mockedFilePreviewGetPreviewDependency)
+                .bufferedReader(Mockito.any(), Mockito.any(), Mockito.any());
+
+        var filePreview = Mockito.spy(new FilePreview(null, null,
+                Arrays.asList(getRange2Chars(START_LINE, END_LINE), getRange2Chars(1, 1))));
+
+        Mockito.doReturn(mockedFilePreviewGetPreviewDependency).when(filePreview).getFilePreviewGetPreviewDependency();
+
+        var preview = getArrayList(filePreview.getPreview(0));
+
+        assertEquals(STANDARD_PREVIEW_SIZE, preview.size());
+        assertEquals(LINE3, preview.get(0).getLine());
+        assertFalse(preview.get(0).isIssueLine());
+        assertEquals(LINE4, preview.get(1).getLine());
+        assertTrue(preview.get(1).isIssueLine());
+
+        preview = getArrayList(filePreview.getPreview(1));
+
+        assertEquals(STANDARD_PREVIEW_SIZE, preview.size());
+        assertEquals(LINE1, preview.get(0).getLine());
+        assertTrue(preview.get(0).isIssueLine());
+        assertEquals(LINE2, preview.get(1).getLine());
+        assertFalse(preview.get(1).isIssueLine());
+
+        Mockito.verify(mockedFilePreviewGetPreviewDependency, Mockito.times(1)).bufferedReader(Mockito.any(),
+                Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void test_GetPreview_Ranges_Overlapped() throws IOException {
+        var preview = mockFilePreview(LINE1 + LINUX_LINE_SEPARATOR + LINE2 + LINUX_LINE_SEPARATOR + LINE3,
+                new FilePreview(null, null, Arrays.asList(getRange2Chars(STANDARD_RANGE_START, STANDARD_RANGE_END),
+                        getRange2Chars(STANDARD_RANGE_START, STANDARD_RANGE_END))));
+
+        var firstPreview = getArrayList(preview.getPreview(0));
+        var secondPreview = getArrayList(preview.getPreview(1));
+
+        assertEquals(STANDARD_PREVIEW_SIZE + 1, firstPreview.size());
+        assertEquals(STANDARD_PREVIEW_SIZE + 1, secondPreview.size());
+
+        for (var i = 0; i < firstPreview.size(); i++) {
+            assertEquals(firstPreview.get(i).getLine(), secondPreview.get(i).getLine());
+            assertEquals(firstPreview.get(i).isIssueLine(), secondPreview.get(i).isIssueLine());
+        }
+    }
+
     private static void getPreviewLineSeparator(String lineSeparator) throws IOException {
         var preview = getArrayList(
                 mockFilePreview(LINE1 + lineSeparator + LINE2, new FilePreview(null, null, getRange2Chars(1, 1)))
@@ -224,11 +286,26 @@ public class FilePreviewTest {
         assertFalse(preview.get(1).isIssueLine());
     }
 
+    @Test
+    public void test_GetReadBytesCount_LargeFile() throws IOException {
+        final int LINES_COUNT = 100000;
+        var file = temporaryFolder.newFile();
+
+        Files.writeString(file.toPath(), (LINE1 + LINUX_LINE_SEPARATOR).repeat(LINES_COUNT));
+
+        var filePreview = new FilePreview(file.getPath(), StandardCharsets.UTF_8, getRange2Chars(1, 1));
+
+        assertEquals(0, filePreview.getReadBytesCount());
+        assertEquals(STANDARD_PREVIEW_SIZE, getArrayList(filePreview.getPreview()).size());
+        assertTrue(filePreview.getReadBytesCount() > 0);
+        assertTrue(filePreview.getReadBytesCount() < file.length());
+    }
+
     private static FilePreview mockFilePreview(String content, FilePreview filePreview) throws IOException {
         var mockedFilePreviewGetPreviewDependency = Mockito.mock(FilePreviewGetPreviewDependency.class);
 
         Mockito.doReturn(new BufferedReader(new StringReader(content))).when(mockedFilePreviewGetPreviewDependency)
-                .bufferedReader(Mockito.anyString(), Mockito.any());
+                .bufferedReader(Mockito.anyString(), Mockito.any(), Mockito.any());
 
         var mockedFilePreview = Mockito.spy(filePreview);
 
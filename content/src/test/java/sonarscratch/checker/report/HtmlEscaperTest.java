@@ -0,0 +1,65 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.report;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+public class HtmlEscaperTest {
+    @Test
+    public void test_WriteContent_Plain() throws IOException {
+        assertEquals("This is a plain message", getContent("This is a plain message"));
+    }
+
+    @Test
+    public void test_WriteContent_Empty() throws IOException {
+        assertEquals("", getContent(""));
+    }
+
+    @Test
+    public void test_WriteContent_Entities() throws IOException {
+        assertEquals("&lt;a href=&quot;x&quot; title=&#39;a &amp; b&#39;&gt;\tlink&lt;/a&gt;",
+                getContent("<a href=\"x\" title='a & b'>\tlink</a>"));
+    }
+
+    @Test
+    public void test_WriteContent_OnlyEntities() throws IOException {
+        assertEquals("&amp;&lt;&gt;&quot;&#39;", getContent("&<>\"'"));
+    }
+
+    @Test
+    public void test_WritePreviewContent_White() throws IOException {
+        assertEquals("&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;if&nbsp;(a&nbsp;&lt;&nbsp;b)",
+                getPreviewContent("\t if (a < b)", 0, "\t if (a < b)".length()));
+    }
+
+    @Test
+    public void test_WritePreviewContent_Range() throws IOException {
+        assertEquals("b&nbsp;&amp;&amp;", getPreviewContent("a && b && c", 5, 9));
+    }
+
+    @Test
+    public void test_WritePreviewContent_Range_Empty() throws IOException {
+        assertEquals("", getPreviewContent("a && b", 3, 3));
+    }
+
+    private static String getContent(String content) throws IOException {
+        var writer = new StringWriter();
+        HtmlEscaper.writeContent(writer, content);
+        return writer.toString();
+    }
+
+    private static String getPreviewContent(String content, int start, int end) throws IOException {
+        var writer = new StringWriter();
+        HtmlEscaper.writePreviewContent(writer, content, start, end);
+        return writer.toString();
+    }
+}
@@ -9,22 +9,35 @@ package sonarscratch.checker.report;
 import static org.junit.Assert.assertEquals;
 
 import java.io.BufferedWriter;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.hamcrest.core.IsInstanceOf;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
 
 import sonarscratch.checker.config.Project;
 import sonarscratch.checker.issues.ComponentsCollection;
+import sonarscratch.checker.issues.FinderException;
+import sonarscratch.checker.issues.FinderResult;
+import sonarscratch.checker.issues.FinderStream;
 import sonarscratch.checker.issues.IssuesCollection;
+import sonarscratch.checker.issues.SpillStore;
 import sonarscratch.checker.log.SystemLogger;
 import sonarscratch.checker.test.ExceptionAssert;
 import sonarscratch.checker.test.StandardTest;
@@ -32,6 +45,7 @@ import sonarscratch.checker.test.TestException;
 import sonarscratch.checker.util.ExceptionUtil;
 
 public class HtmlTest extends StandardTest {
+    private static final String INCREMENTAL_FILE_NAME = "write-issues-1-preview-1line--unicodeencoding.java";
     private static final String KEY_NAME_LONG_NAME_JAVA = "{key:\"test-component\", name : \"issue-file.java\""
             + ", longName : \"java/issue-file.java\"}";
     public static final String SONARSCRATCH_CHECKER_REPORT_HTML = "sonarscratch/checker/report/html/";
@@ -50,6 +64,9 @@ public class HtmlTest extends StandardTest {
     private static final int STANDARD_START_LINE = 2;
     private static final int STANDARD_END_LINE = 2;
 
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void test_Write_Log() throws HtmlException {
         new Html(new IssuesCollection(1), new ComponentsCollection(), Arrays.asList(), null,
@@ -465,6 +482,392 @@ public class HtmlTest extends StandardTest {
         }
     }
 
+    @Test
+    public void test_Write_Issues_2SameFile() throws TestException {
+        try {
+            final int TOTAL = 2;
+            var issues = new IssuesCollection(TOTAL);
+            var components = new ComponentsCollection();
+
+            issues.addIssue(new JSONObject(MESSAGE_TEST_ISSUE_WITH_PREVIEW + COMPONENT_PROJECT
+                    + ", textRange:{startLine : 5, endLine : 5, startOffset : 13, endOffset : 21}}"));
+            issues.addIssue(new JSONObject(MESSAGE_TEST_ISSUE_WITH_PREVIEW + COMPONENT_PROJECT
+                    + ", textRange:{startLine : 1, endLine : 1, startOffset : 0, endOffset : 1}}"));
+            final String FILE_NAME = "write-issues-1-preview-1line--unicodeencoding.java";
+            components.addComponent(new JSONObject(
+                    "{key:\"test-component\", name : \"" + FILE_NAME + "\", longName : \"" + FILE_NAME + "\"}"));
+
+            var stringWriter = new StringWriter();
+            var bufferedWriter = new BufferedWriter(stringWriter);
+            var html = Mockito.spy(new Html(issues, components,
+                    Arrays.asList(new Project(TEST_COMPONENT,
+                            Paths.get(Thread.currentThread().getContextClassLoader()
+                                    .getResource(SONARSCRATCH_CHECKER_REPORT_HTML + FILE_NAME).getFile()).getParent()
+                                    .toAbsolutePath().toString())),
+                    StandardCharsets.UTF_8, bufferedWriter, new SystemLogger()));
+            var htmlWriteDependency = Mockito.spy(new HtmlWriteDependency());
+
+            Mockito.doReturn(htmlWriteDependency).when(html).getHtmlWriteDependency();
+            html.write();
+
+            @SuppressWarnings("rawtypes")
+            ArgumentCaptor<List> rangesCaptor = ArgumentCaptor.forClass(List.class);
+
+            Mockito.verify(htmlWriteDependency, Mockito.times(1)).filePreview(Mockito.anyString(), Mockito.any(),
+                    rangesCaptor.capture(), Mockito.any());
+            assertEquals(TOTAL, rangesCaptor.getValue().size());
+
+            var content = HtmlTestUtil.getWriterString(bufferedWriter, stringWriter);
+
+            assertEquals(TOTAL, content.split("<table class=\"sonarscratch-checker-issue-preview\">").length - 1);
+        } catch (IOException | JSONException | HtmlException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(HtmlTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Write_Threads_() throws TestException {
+        final int ISSUES_COUNT = 450;
+        final int THREADS_COUNT = 3;
+
+        assertEquals(getThreadsHtml(ISSUES_COUNT, 1, 1), getThreadsHtml(ISSUES_COUNT, THREADS_COUNT, 1));
+    }
+
+    @Test
+    public void test_Write_PreviewMetrics() throws TestException {
+        final int ISSUES_COUNT = 10;
+
+        try {
+            var issues = getThreadsIssues(ISSUES_COUNT, 1);
+            var html = new Html(issues.issuesCollection, issues.componentsCollection, issues.projects,
+                    StandardCharsets.UTF_8, new BufferedWriter(new StringWriter()), new SystemLogger());
+
+            assertEquals(0, html.getPreviewFilesCount());
+            html.write();
+
+            var file = Paths.get(issues.projects.get(0).getRootPath(),
+                    "write-issues-1-preview-1line--unicodeencoding.java");
+
+            assertEquals(1, html.getPreviewFilesCount());
+            assertEquals(Files.size(file) * 2, html.getPreviewBytesCount());
+        } catch (IOException | JSONException | HtmlException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(HtmlTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Write_Spilled() throws TestException {
+        final int ISSUES_COUNT = 2500;
+        final int THREADS_COUNT = 2;
+        var expected = getThreadsHtml(ISSUES_COUNT, 1, 1);
+
+        try (var store = new SpillStore(temporaryFolder.getRoot().getPath())) {
+            var issues = getThreadsIssues(ISSUES_COUNT, 1);
+            var spilledIssues = new IssuesCollection(ISSUES_COUNT, store);
+            var spilledComponents = new ComponentsCollection(store);
+
+            issues.issuesCollection.forEach(spilledIssues::addIssue);
+            issues.componentsCollection.forEach(spilledComponents::addComponent);
+
+            var stringWriter = new StringWriter();
+            var bufferedWriter = new BufferedWriter(stringWriter);
+
+            var html = Mockito.spy(new Html(spilledIssues, spilledComponents, issues.projects,
+                    StandardCharsets.UTF_8, bufferedWriter, new SystemLogger(), THREADS_COUNT));
+
+            html.write();
+
+            assertEquals(expected, HtmlTestUtil.getWriterString(bufferedWriter, stringWriter));
+            Mockito.verify(html, Mockito.times(1)).getExecutorService();
+        } catch (IOException | JSONException | HtmlException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(HtmlTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Write_SpilledComponents() throws TestException {
+        final int ISSUES_COUNT = 2500;
+        final int PAGES_COUNT = 3;
+
+        try (var store = new SpillStore(temporaryFolder.getRoot().getPath())) {
+            var issues = getThreadsIssues(ISSUES_COUNT, 1);
+            var spilledIssues = new IssuesCollection(ISSUES_COUNT, store);
+            var spilledComponents = Mockito.spy(new ComponentsCollection(store));
+
+            issues.issuesCollection.forEach(spilledIssues::addIssue);
+            issues.componentsCollection.forEach(spilledComponents::addComponent);
+
+            new Html(spilledIssues, spilledComponents, issues.projects, StandardCharsets.UTF_8,
+                    new BufferedWriter(new StringWriter()), new SystemLogger()).write();
+
+            Mockito.verify(spilledComponents, Mockito.times(PAGES_COUNT)).get("test-component");
+        } catch (IOException | JSONException | HtmlException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(HtmlTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Write_Stream_() throws TestException {
+        checkStreamHtml(1);
+    }
+
+    @Test
+    public void test_Write_Stream_Threads() throws TestException {
+        final int THREADS_COUNT = 3;
+
+        checkStreamHtml(THREADS_COUNT);
+    }
+
+    @Test
+    public void test_Write_Stream_Exception() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(HtmlException.class));
+
+        try {
+            var stream = Mockito.mock(FinderStream.class);
+
+            Mockito.when(stream.take()).thenThrow(new FinderException("Finding failed"));
+            new Html(Arrays.asList(), StandardCharsets.UTF_8, new BufferedWriter(new StringWriter()),
+                    new SystemLogger(), 1, null).write(stream);
+        } catch (FinderException | HtmlException exception) {
+            ExceptionAssert.checkType(FinderException.class, exception.getCause());
+            throw new TestException(ExceptionUtil.getDefaultMessage(HtmlTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Write_Threads_Exception_ContentChanged() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(HtmlException.class));
+
+        final int ISSUES_COUNT = 450;
+        final int THREADS_COUNT = 3;
+        final int START_OFFSET = 50;
+
+        getThreadsHtml(ISSUES_COUNT, THREADS_COUNT, START_OFFSET);
+    }
+
+    @Test
+    public void test_Write_Incremental_() throws TestException {
+        final int ISSUES_COUNT = 20;
+        var root = copyIncrementalSource();
+        var expected = getIncrementalHtml(ISSUES_COUNT, 1, root, null);
+
+        assertEquals(expected, getIncrementalHtml(ISSUES_COUNT, 1, root, loadReportCache()));
+
+        var reportCache = loadReportCache();
+        var html = getIncrementalHtml(ISSUES_COUNT, 1, root, reportCache);
+
+        assertEquals(expected, html);
+        assertEquals(ISSUES_COUNT, reportCache.getHitsCount());
+    }
+
+    @Test
+    public void test_Write_Incremental_Threads() throws TestException {
+        final int ISSUES_COUNT = 450;
+        final int THREADS_COUNT = 3;
+        var root = copyIncrementalSource();
+        var expected = getIncrementalHtml(ISSUES_COUNT, 1, root, null);
+
+        assertEquals(expected, getIncrementalHtml(ISSUES_COUNT, THREADS_COUNT, root, loadReportCache()));
+
+        var reportCache = loadReportCache();
+
+        assertEquals(expected, getIncrementalHtml(ISSUES_COUNT, THREADS_COUNT, root, reportCache));
+        assertEquals(ISSUES_COUNT, reportCache.getHitsCount());
+    }
+
+    @Test
+    public void test_Write_Incremental_SourceChanged() throws TestException {
+        final int ISSUES_COUNT = 20;
+        var root = copyIncrementalSource();
+
+        getIncrementalHtml(ISSUES_COUNT, 1, root, loadReportCache());
+
+        try {
+            var source = root.resolve(INCREMENTAL_FILE_NAME);
+
+            Files.writeString(source, Files.readString(source).replace("return", "yield"));
+        } catch (IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(HtmlTest.class), exception);
+        }
+
+        var reportCache = loadReportCache();
+
+        assertEquals(getIncrementalHtml(ISSUES_COUNT, 1, root, null),
+                getIncrementalHtml(ISSUES_COUNT, 1, root, reportCache));
+        assertEquals(0, reportCache.getHitsCount());
+    }
+
+    private Path copyIncrementalSource() throws TestException {
+        try {
+            var root = temporaryFolder.newFolder("sources").toPath();
+
+            Files.copy(Paths.get(Thread.currentThread().getContextClassLoader()
+                    .getResource(SONARSCRATCH_CHECKER_REPORT_HTML + INCREMENTAL_FILE_NAME).getFile()),
+                    root.resolve(INCREMENTAL_FILE_NAME));
+
+            return root;
+        } catch (IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(HtmlTest.class), exception);
+        }
+    }
+
+    private ReportCache loadReportCache() throws TestException {
+        try {
+            var reportCache = new ReportCache(new File(temporaryFolder.getRoot(), "report.html.cache").getPath(),
+                    StandardCharsets.UTF_8);
+
+            reportCache.load();
+
+            return reportCache;
+        } catch (IOException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(HtmlTest.class), exception);
+        }
+    }
+
+    private static String getIncrementalHtml(int issuesCount, int threadsCount, Path root, ReportCache reportCache)
+            throws TestException {
+        try {
+            var issues = new IssuesCollection(issuesCount);
+            var components = new ComponentsCollection();
+            final int LINES_COUNT = 6;
+
+            for (var i = 0; i < issuesCount; i++) {
+                var line = i % LINES_COUNT + 1;
+
+                issues.addIssue(new JSONObject("{message : \"This is an test issue (" + i + ")\", key : \"issue" + i
+                        + "\", updateDate : \"2020-05-01T10:00:00+0000\", " + COMPONENT_PROJECT
+                        + ", textRange:{startLine : " + line + ", endLine : " + line
+                        + ", startOffset : 0, endOffset : 1}}"));
+            }
+
+            components.addComponent(new JSONObject("{key:\"test-component\", name : \"" + INCREMENTAL_FILE_NAME
+                    + "\", longName : \"" + INCREMENTAL_FILE_NAME + "\"}"));
+
+            var stringWriter = new StringWriter();
+            var bufferedWriter = new BufferedWriter(stringWriter);
+            var html = Mockito.spy(new Html(issues, components,
+                    Arrays.asList(new Project(TEST_COMPONENT, root.toString())), StandardCharsets.UTF_8,
+                    bufferedWriter, new SystemLogger(), threadsCount, reportCache));
+
+            html.write();
+
+            if (reportCache != null) {
+                reportCache.save();
+                Mockito.verify(html, Mockito.times(reportCache.getHitsCount() == issuesCount ? 0 : 1))
+                        .getHtmlWriteDependency();
+            }
+
+            return HtmlTestUtil.getWriterString(bufferedWriter, stringWriter);
+        } catch (IOException | JSONException | HtmlException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(HtmlTest.class), exception);
+        }
+    }
+
+    private static String getThreadsHtml(int issuesCount, int threadsCount, int startOffset) throws TestException {
+        try {
+            var issues = getThreadsIssues(issuesCount, startOffset);
+            var stringWriter = new StringWriter();
+            var bufferedWriter = new BufferedWriter(stringWriter);
+
+            new Html(issues.issuesCollection, issues.componentsCollection, issues.projects, StandardCharsets.UTF_8,
+                    bufferedWriter, new SystemLogger(), threadsCount).write();
+
+            return HtmlTestUtil.getWriterString(bufferedWriter, stringWriter);
+        } catch (IOException | JSONException | HtmlException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(HtmlTest.class), exception);
+        }
+    }
+
+    private static ThreadsIssues getThreadsIssues(int issuesCount, int startOffset) throws JSONException {
+        var issues = new IssuesCollection(issuesCount);
+        var components = new ComponentsCollection();
+        final String FILE_NAME = "write-issues-1-preview-1line--unicodeencoding.java";
+        final int LINES_COUNT = 6;
+
+        for (var i = 0; i < issuesCount; i++) {
+            var line = i % LINES_COUNT + 1;
+
+            issues.addIssue(new JSONObject("{message : \"This is an test issue (" + i + ")\", key : \"issue" + i
+                    + "\", " + COMPONENT_PROJECT + ", textRange:{startLine : " + line + ", endLine : " + line
+                    + ", startOffset : " + (i == issuesCount - 1 ? startOffset : 0) + ", endOffset : 1}}"));
+        }
+
+        components.addComponent(new JSONObject(
+                "{key:\"test-component\", name : \"" + FILE_NAME + "\", longName : \"" + FILE_NAME + "\"}"));
+
+        return new ThreadsIssues(issues, components, Arrays.asList(new Project(TEST_COMPONENT,
+                Paths.get(Thread.currentThread().getContextClassLoader()
+                        .getResource(SONARSCRATCH_CHECKER_REPORT_HTML + FILE_NAME).getFile()).getParent()
+                        .toAbsolutePath().toString())));
+    }
+
+    private static void checkStreamHtml(int threadsCount) throws TestException {
+        final int ISSUES_COUNT = 450;
+        final int PAGE_SIZE = 200;
+        var html = getThreadsHtml(ISSUES_COUNT, 1, 1);
+        var header = html.substring(html.indexOf("<div class=\"sonarscratch-checker-header\">"),
+                html.indexOf("<div class=\"sonarscratch-checker-issue\""));
+        var expected = html.replace(header, header.replace("This report shows 450 issues from 450.",
+                "This report shows issues from 450, counted at the end of the report.")).replace("</body>",
+                        header + "</body>");
+
+        try {
+            var issues = getThreadsIssues(ISSUES_COUNT, 1);
+            var pages = new ArrayList<FinderResult>();
+            var pageIssues = new IssuesCollection(ISSUES_COUNT);
+
+            for (var issue : issues.issuesCollection) {
+                pageIssues.addIssue(issue);
+
+                if (pageIssues.count() == PAGE_SIZE) {
+                    pages.add(mockPage(pageIssues, pages.isEmpty() ? issues.componentsCollection
+                            : new ComponentsCollection()));
+                    pageIssues = new IssuesCollection(ISSUES_COUNT);
+                }
+            }
+
+            pages.add(mockPage(pageIssues, new ComponentsCollection()));
+
+            var stream = Mockito.mock(FinderStream.class);
+
+            Mockito.when(stream.peek()).thenReturn(pages.get(0));
+            Mockito.when(stream.take()).thenReturn(pages.get(0), pages.get(1), pages.get(2), null);
+
+            var stringWriter = new StringWriter();
+            var bufferedWriter = new BufferedWriter(stringWriter);
+
+            new Html(issues.projects, StandardCharsets.UTF_8, bufferedWriter, new SystemLogger(), threadsCount, null)
+                    .write(stream);
+
+            assertEquals(expected, HtmlTestUtil.getWriterString(bufferedWriter, stringWriter));
+        } catch (IOException | JSONException | HtmlException | FinderException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(HtmlTest.class), exception);
+        }
+    }
+
+    private static FinderResult mockPage(IssuesCollection issues, ComponentsCollection components) {
+        var page = Mockito.mock(FinderResult.class);
+
+        Mockito.doReturn(issues).when(page).getIssuesCollection();
+        Mockito.doReturn(components).when(page).getComponentsCollection();
+        return page;
+    }
+
+    static final class ThreadsIssues {
+        private IssuesCollection issuesCollection;
+        private ComponentsCollection componentsCollection;
+        private List<Project> projects;
+
+        ThreadsIssues(IssuesCollection issuesCollection, ComponentsCollection componentsCollection,
+                List<Project> projects) {
+            this.issuesCollection = issuesCollection;
+            this.componentsCollection = componentsCollection;
+            this.projects = projects;
+        }
+    }
+
     static final class HtmlWithIssue {
         private StringWriter stringWriter;
         private BufferedWriter bufferedWriter;
@@ -37,7 +37,7 @@ final class HtmlTestUtil {
         var mockedFilePreviewGetPreviewDependency = Mockito.mock(FilePreviewGetPreviewDependency.class);
 
         Mockito.doReturn(new BufferedReader(new StringReader(content))).when(mockedFilePreviewGetPreviewDependency)
-                .bufferedReader(Mockito.anyString(), Mockito.any());
+                .bufferedReader(Mockito.anyString(), Mockito.any(), Mockito.any());
 
         var mockedFilePreview = Mockito.spy(new FilePreview(null, null, range));
 
@@ -47,7 +47,7 @@ final class HtmlTestUtil {
         var mockedHtmlWriteDependency = Mockito.mock(HtmlWriteDependency.class);
 
         Mockito.doReturn(mockedFilePreview).when(mockedHtmlWriteDependency).filePreview(Mockito.anyString(),
-                Mockito.any(), Mockito.any());
+                Mockito.any(), Mockito.any(), Mockito.any());
 
         var mockedHtml = Mockito.spy(html);
 
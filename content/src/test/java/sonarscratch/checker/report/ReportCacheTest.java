@@ -0,0 +1,190 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.report;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import sonarscratch.checker.issues.SonarComponent;
+import sonarscratch.checker.issues.SonarIssue;
+
+public class ReportCacheTest {
+    private static final String FRAGMENT = "<div class=\"sonarscratch-checker-issue\">é</div>";
+    private static final String UPDATE_DATE = "2020-05-01T10:00:00+0000";
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void test_GetFragment_Saved() throws IOException, JSONException {
+        var source = createSource("f1();");
+
+        save(source, UPDATE_DATE);
+
+        var reportCache = load();
+
+        assertEquals(FRAGMENT, reportCache.getFragment(getIssue(UPDATE_DATE), getComponent(), source));
+        assertEquals(1, reportCache.getHitsCount());
+    }
+
+    @Test
+    public void test_GetFragment_NoSource() throws IOException, JSONException {
+        save(null, UPDATE_DATE);
+
+        assertEquals(FRAGMENT, load().getFragment(getIssue(UPDATE_DATE), getComponent(), null));
+    }
+
+    @Test
+    public void test_GetFragment_NoCache() throws IOException, JSONException {
+        var reportCache = load();
+
+        assertNull(reportCache.getFragment(getIssue(UPDATE_DATE), getComponent(), null));
+        assertEquals(0, reportCache.getHitsCount());
+    }
+
+    @Test
+    public void test_GetFragment_NoKey() throws IOException, JSONException {
+        var reportCache = getReportCache();
+        var issue = new SonarIssue(new JSONObject("{component : \"test-component\"}"));
+
+        reportCache.getFragment(issue, getComponent(), null);
+        reportCache.putFragment("", FRAGMENT);
+        reportCache.save();
+
+        assertNull(load().getFragment(issue, getComponent(), null));
+    }
+
+    @Test
+    public void test_GetFragment_Changed_UpdateDate() throws IOException, JSONException {
+        save(null, UPDATE_DATE);
+
+        assertNull(load().getFragment(getIssue("2020-05-02T10:00:00+0000"), getComponent(), null));
+    }
+
+    @Test
+    public void test_GetFragment_Changed_Source() throws IOException, JSONException {
+        var source = createSource("f1();");
+
+        save(source, UPDATE_DATE);
+        Files.writeString(new File(source).toPath(), "f2();");
+
+        assertNull(load().getFragment(getIssue(UPDATE_DATE), getComponent(), source));
+    }
+
+    @Test
+    public void test_GetFragment_Changed_Encoding() throws IOException, JSONException {
+        save(null, UPDATE_DATE);
+
+        var reportCache = new ReportCache(getCachePath(), StandardCharsets.ISO_8859_1);
+
+        reportCache.load();
+
+        assertNull(reportCache.getFragment(getIssue(UPDATE_DATE), getComponent(), null));
+    }
+
+    @Test
+    public void test_GetFragment_Corrupted_() throws IOException, JSONException {
+        save(null, UPDATE_DATE);
+
+        var cache = new File(getCachePath()).toPath();
+        var content = Files.readAllBytes(cache);
+
+        Files.write(cache, Arrays.copyOf(content, content.length - 1));
+
+        assertNull(load().getFragment(getIssue(UPDATE_DATE), getComponent(), null));
+    }
+
+    @Test
+    public void test_GetFragment_Corrupted_Length() throws IOException, JSONException {
+        save(null, UPDATE_DATE);
+
+        var cache = new File(getCachePath()).toPath();
+        var content = Files.readAllBytes(cache);
+        var fragmentLengthIndex = content.length - FRAGMENT.getBytes(StandardCharsets.UTF_8).length - Integer.BYTES;
+
+        content[fragmentLengthIndex] = (byte) 0x7f;
+        Files.write(cache, content);
+
+        assertNull(load().getFragment(getIssue(UPDATE_DATE), getComponent(), null));
+    }
+
+    @Test
+    public void test_GetFragment_Corrupted_Garbage() throws IOException, JSONException {
+        final int SIZE = 64;
+        var content = new byte[SIZE];
+
+        Arrays.fill(content, (byte) 0xff);
+        Files.write(new File(getCachePath()).toPath(), content);
+
+        assertNull(load().getFragment(getIssue(UPDATE_DATE), getComponent(), null));
+    }
+
+    @Test
+    public void test_Save_Stale() throws IOException, JSONException {
+        save(null, UPDATE_DATE);
+
+        var reportCache = load();
+
+        reportCache.save();
+
+        assertNull(load().getFragment(getIssue(UPDATE_DATE), getComponent(), null));
+    }
+
+    private void save(String source, String updateDate) throws IOException, JSONException {
+        var reportCache = getReportCache();
+
+        assertNull(reportCache.getFragment(getIssue(updateDate), getComponent(), source));
+        reportCache.putFragment("issue1", FRAGMENT);
+        reportCache.save();
+    }
+
+    private ReportCache load() throws IOException {
+        var reportCache = getReportCache();
+
+        reportCache.load();
+
+        return reportCache;
+    }
+
+    private ReportCache getReportCache() {
+        return new ReportCache(getCachePath(), StandardCharsets.UTF_8);
+    }
+
+    private String getCachePath() {
+        return new File(temporaryFolder.getRoot(), "report.html.cache").getPath();
+    }
+
+    private String createSource(String content) throws IOException {
+        var file = temporaryFolder.newFile("issue-file.java");
+
+        Files.writeString(file.toPath(), content);
+
+        return file.getPath();
+    }
+
+    private static SonarIssue getIssue(String updateDate) throws JSONException {
+        return new SonarIssue(new JSONObject("{key : \"issue1\", component : \"test-component\", updateDate : \""
+                + updateDate + "\"}"));
+    }
+
+    private static SonarComponent getComponent() throws JSONException {
+        return new SonarComponent(
+                new JSONObject("{key:\"test-component\", name : \"issue-file.java\", longName : \"issue-file.java\"}"));
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.report;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.hamcrest.core.IsInstanceOf;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import sonarscratch.checker.config.Project;
+import sonarscratch.checker.issues.ComponentsCollection;
+import sonarscratch.checker.issues.IssuesCollection;
+import sonarscratch.checker.log.SystemLogger;
+import sonarscratch.checker.test.ExceptionAssert;
+import sonarscratch.checker.test.StandardTest;
+import sonarscratch.checker.test.TestException;
+import sonarscratch.checker.util.ExceptionUtil;
+
+public class ShardedHtmlTest extends StandardTest {
+    private static final int THREADS_COUNT = 2;
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void test_Write_() throws TestException {
+        try {
+            var index = write(new String[] { "alpha", "beta:module", "alpha" }, 0);
+
+            assertTrue(index.contains("This report shows 3 issues from 3, in 2 files."));
+            assertTrue(index.contains("<tr><td>alpha</td><td>2</td><td><a href=\"report-alpha.html\">"));
+            assertTrue(index.contains("<tr><td>beta:module</td><td>1</td><td><a href=\"report-beta_003amodule.html\">"));
+
+            var alphaReport = read("report-alpha.html");
+
+            assertTrue(alphaReport.contains("This report shows 2 issues from 2."));
+            assertTrue(alphaReport.contains("Issue 0 of alpha"));
+            assertTrue(alphaReport.contains("Issue 2 of alpha"));
+            assertTrue(read("report-beta_003amodule.html").contains("Issue 1 of beta:module"));
+        } catch (HtmlException | IOException | JSONException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ShardedHtmlTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Write_Size() throws TestException {
+        try {
+            var index = write(new String[] { "alpha", "alpha", "alpha" }, 2);
+
+            assertTrue(index.contains("<tr><td>alpha</td><td>2</td><td><a href=\"report-alpha-1.html\">"));
+            assertTrue(index.contains("<tr><td>alpha</td><td>1</td><td><a href=\"report-alpha-2.html\">"));
+            assertTrue(read("report-alpha-2.html").contains("Issue 2 of alpha"));
+        } catch (HtmlException | IOException | JSONException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ShardedHtmlTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Write_Collision() throws TestException {
+        try {
+            var index = write(new String[] { "a:b", "a_b", "a_b_2" }, 0);
+
+            assertTrue(index.contains("<tr><td>a:b</td><td>1</td><td><a href=\"report-a_003ab.html\">"));
+            assertTrue(index.contains("<tr><td>a_b</td><td>1</td><td><a href=\"report-a_005fb.html\">"));
+            assertTrue(index.contains("<tr><td>a_b_2</td><td>1</td><td><a href=\"report-a_005fb_005f2.html\">"));
+            assertTrue(read("report-a_003ab.html").contains("Issue 0 of a:b"));
+            assertTrue(read("report-a_005fb.html").contains("Issue 1 of a_b"));
+            assertTrue(read("report-a_005fb_005f2.html").contains("Issue 2 of a_b_2"));
+        } catch (HtmlException | IOException | JSONException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ShardedHtmlTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Write_PreviousShards() throws TestException {
+        try {
+            var previousShard = getReportPath().resolveSibling("report-gamma.html");
+            var otherFile = getReportPath().resolveSibling("other-gamma.html");
+
+            Files.writeString(previousShard, "previous");
+            Files.writeString(otherFile, "other");
+            write(new String[] { "alpha" }, 0);
+
+            assertFalse(Files.exists(previousShard));
+            assertTrue(Files.exists(otherFile));
+            assertTrue(read("report-alpha.html").contains("Issue 0 of alpha"));
+        } catch (HtmlException | IOException | JSONException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ShardedHtmlTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Write_UnspecifiedProject() throws TestException {
+        try {
+            var index = write(new String[] { "" }, 0);
+
+            assertTrue(index.contains("<tr><td>unspecified</td><td>1</td><td><a href=\"report-unspecified.html\">"));
+            assertTrue(read("report-unspecified.html").contains("Issue 0 of "));
+        } catch (HtmlException | IOException | JSONException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ShardedHtmlTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Write_SourceFileCache() throws TestException {
+        final String CONTENT = "f();\n";
+        final int ISSUES_COUNT = 2;
+
+        try {
+            var sourcePath = temporaryFolder.newFolder("src").toPath().resolve("component.java");
+
+            Files.writeString(sourcePath, CONTENT);
+
+            var issues = new IssuesCollection(ISSUES_COUNT);
+            var components = new ComponentsCollection();
+
+            for (var index = 0; index < ISSUES_COUNT; index++) {
+                issues.addIssue(new JSONObject("{message : \"Issue " + index + "\", component : \"component\", "
+                        + "project : \"alpha\", textRange : {startLine : 1, endLine : 1, startOffset : 0, "
+                        + "endOffset : 1}}"));
+            }
+
+            components.addComponent(new JSONObject(
+                    "{key : \"component\", name : \"component.java\", longName : \"src/component.java\"}"));
+
+            var html = new ShardedHtml(issues, components,
+                    Arrays.asList(new Project("alpha", temporaryFolder.getRoot().getPath())), StandardCharsets.UTF_8,
+                    new BufferedWriter(new StringWriter()), getReportPath().toString(), new SystemLogger(),
+                    THREADS_COUNT, 1, null);
+
+            html.write();
+
+            assertEquals(ISSUES_COUNT, html.getPreviewFilesCount());
+            assertEquals(CONTENT.length() * (1 + ISSUES_COUNT), html.getPreviewBytesCount());
+        } catch (HtmlException | IOException | JSONException exception) {
+            throw new TestException(ExceptionUtil.getDefaultMessage(ShardedHtmlTest.class), exception);
+        }
+    }
+
+    @Test
+    public void test_Write_Exception() throws TestException {
+        expectedExceptionRule.expect(TestException.class);
+        expectedExceptionRule.expectCause(IsInstanceOf.instanceOf(HtmlException.class));
+
+        try {
+            var issues = new IssuesCollection(1);
+
+            issues.addIssue(new JSONObject("{message : \"Issue\", component : \"missing\", project : \"alpha\"}"));
+            new ShardedHtml(issues, new ComponentsCollection(), Arrays.asList(), StandardCharsets.UTF_8,
+                    new BufferedWriter(new StringWriter()), getReportPath().toString(), new SystemLogger(),
+                    THREADS_COUNT, 0, null).write();
+        } catch (JSONException | HtmlException exception) {
+            ExceptionAssert.checkMessage("Unfound component 'missing'", exception);
+            throw new TestException(ExceptionUtil.getDefaultMessage(ShardedHtmlTest.class), exception);
+        }
+    }
+
+    private String write(String[] projects, int shardIssuesCount) throws HtmlException, IOException, JSONException {
+        var issues = new IssuesCollection(projects.length);
+        var components = new ComponentsCollection();
+
+        for (var index = 0; index < projects.length; index++) {
+            var component = "component-" + index;
+
+            issues.addIssue(new JSONObject().put("message", "Issue " + index + " of " + projects[index])
+                    .put("component", component).put("project", projects[index]));
+            components.addComponent(new JSONObject().put("key", component).put("name", component + ".java")
+                    .put("longName", "src/" + component + ".java"));
+        }
+
+        var stringWriter = new StringWriter();
+        var indexWriter = new BufferedWriter(stringWriter);
+
+        new ShardedHtml(issues, components, Arrays.asList(), StandardCharsets.UTF_8, indexWriter,
+                getReportPath().toString(), new SystemLogger(), THREADS_COUNT, shardIssuesCount, null).write();
+
+        return stringWriter.toString();
+    }
+
+    private String read(String fileName) throws IOException {
+        return Files.readString(getReportPath().resolveSibling(fileName), StandardCharsets.UTF_8);
+    }
+
+    private Path getReportPath() {
+        return temporaryFolder.getRoot().toPath().resolve("report.html");
+    }
+}
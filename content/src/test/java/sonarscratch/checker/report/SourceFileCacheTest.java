@@ -0,0 +1,208 @@
+/**
+ * sonarscratch.checker project
+ * Copyright (c) tcdorg community. All rights reserved.
+ * Licensed under the MIT License. See LICENSE.txt in the project root for license information.
+ */
+
+package sonarscratch.checker.report;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+public class SourceFileCacheTest {
+    private static final String CONTENT = "f1();\r\nf2();\rf3();\n\nf5();\r";
+    private static final int MAX_CACHED_BYTES = 64;
+    private static final int LINES_COUNT = 5;
+    private static final int INDEX_BYTES = LINES_COUNT * Integer.BYTES;
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void test_Get_Lines_() throws IOException {
+        var readBytesCount = new AtomicLong();
+        var sourceFile = new SourceFileCache(MAX_CACHED_BYTES).get(createFile("lines.java", CONTENT),
+                StandardCharsets.UTF_8, readBytesCount);
+
+        assertEquals(LINES_COUNT, sourceFile.getLinesCount());
+        assertEquals(CONTENT.length(), readBytesCount.get());
+        assertEquals(List.of("f1();\r\n", "f2();\r", "f3();\n", "\n", "f5();\r"),
+                sourceFile.readLines(0, LINES_COUNT + 1, readBytesCount));
+        assertEquals(CONTENT.length() * 2, readBytesCount.get());
+    }
+
+    @Test
+    public void test_Get_Lines_Window() throws IOException {
+        final int END_LINE = 3;
+        var readBytesCount = new AtomicLong();
+        var sourceFile = new SourceFileCache(MAX_CACHED_BYTES).get(createFile("window.java", CONTENT),
+                StandardCharsets.UTF_8, new AtomicLong());
+
+        assertEquals(List.of("f2();\r", "f3();\n"), sourceFile.readLines(2, END_LINE, readBytesCount));
+        assertEquals("f2();\rf3();\n".length(), readBytesCount.get());
+        assertEquals(List.of(), sourceFile.readLines(LINES_COUNT + 1, LINES_COUNT + 2, readBytesCount));
+    }
+
+    @Test
+    public void test_Get_Lines_Empty() throws IOException {
+        var sourceFile = new SourceFileCache(MAX_CACHED_BYTES).get(createFile("empty.java", ""),
+                StandardCharsets.UTF_8, new AtomicLong());
+
+        assertEquals(1, sourceFile.getLinesCount());
+        assertEquals(List.of(""), sourceFile.readLines(1, 1, new AtomicLong()));
+    }
+
+    @Test
+    public void test_Get_Lines_Encoding() throws IOException {
+        final String LINE = "var s = \"éè\";";
+        var filePath = temporaryFolder.newFile("encoding.java").getPath();
+
+        Files.write(new File(filePath).toPath(), (LINE + "\n").getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(List.of(LINE + "\n"), new SourceFileCache(MAX_CACHED_BYTES)
+                .get(filePath, StandardCharsets.UTF_8, new AtomicLong()).readLines(1, 1, new AtomicLong()));
+    }
+
+    @Test
+    public void test_Get_Preview() throws IOException {
+        final int START_LINE = 2;
+        final int END_LINE = 3;
+        final int END_OFFSET = 3;
+        var filePath = createFile("preview.java", CONTENT);
+        var ranges = Arrays.asList(new Range(START_LINE, END_LINE, 1, END_OFFSET), new Range(1, 1, 0, 1),
+                new Range(END_LINE + 1, END_LINE + 2, 0, 1));
+        var cachedPreview = new FilePreview(filePath, StandardCharsets.UTF_8, ranges,
+                new SourceFileCache(MAX_CACHED_BYTES));
+        var readPreview = Mockito.spy(new FilePreview(filePath, StandardCharsets.UTF_8, ranges));
+        var mockedFilePreviewGetPreviewDependency = Mockito.mock(FilePreviewGetPreviewDependency.class);
+
+        Mockito.doReturn(new BufferedReader(new StringReader(CONTENT))).when(mockedFilePreviewGetPreviewDependency)
+                .bufferedReader(Mockito.anyString(), Mockito.any(), Mockito.any());
+        Mockito.doReturn(mockedFilePreviewGetPreviewDependency).when(readPreview)
+                .getFilePreviewGetPreviewDependency();
+
+        for (var i = 0; i < ranges.size(); i++) {
+            var expected = getArrayList(readPreview.getPreview(i));
+            var actual = getArrayList(cachedPreview.getPreview(i));
+
+            assertEquals(expected.size(), actual.size());
+
+            for (var j = 0; j < expected.size(); j++) {
+                assertEquals(expected.get(j).getNumber(), actual.get(j).getNumber());
+                assertEquals(expected.get(j).getLine(), actual.get(j).getLine());
+                assertEquals(expected.get(j).isIssueLine(), actual.get(j).isIssueLine());
+                assertEquals(expected.get(j).getStart(), actual.get(j).getStart());
+                assertEquals(expected.get(j).getEnd(), actual.get(j).getEnd());
+            }
+        }
+    }
+
+    @Test
+    public void test_Get_Cached() throws IOException {
+        var cache = new SourceFileCache(MAX_CACHED_BYTES);
+        var filePath = createFile("cached.java", CONTENT);
+
+        assertSame(cache.get(filePath, StandardCharsets.UTF_8, new AtomicLong()),
+                cache.get(filePath, StandardCharsets.UTF_8, new AtomicLong()));
+        assertEquals(INDEX_BYTES, cache.getCachedBytes());
+    }
+
+    @Test
+    public void test_Get_Modified() throws IOException {
+        var cache = new SourceFileCache(MAX_CACHED_BYTES);
+        var filePath = createFile("modified.java", CONTENT);
+        var sourceFile = cache.get(filePath, StandardCharsets.UTF_8, new AtomicLong());
+
+        Files.writeString(new File(filePath).toPath(), CONTENT + CONTENT);
+
+        var modifiedSourceFile = cache.get(filePath, StandardCharsets.UTF_8, new AtomicLong());
+
+        assertNotSame(sourceFile, modifiedSourceFile);
+        assertEquals(INDEX_BYTES * 2, cache.getCachedBytes());
+        assertEquals(1, cache.count());
+    }
+
+    @Test
+    public void test_Get_Evicted() throws IOException {
+        var cache = new SourceFileCache(INDEX_BYTES * 2);
+        var filePath1 = createFile("evicted1.java", CONTENT);
+        var filePath2 = createFile("evicted2.java", CONTENT);
+        var filePath3 = createFile("evicted3.java", CONTENT);
+        var sourceFile1 = cache.get(filePath1, StandardCharsets.UTF_8, new AtomicLong());
+
+        cache.get(filePath2, StandardCharsets.UTF_8, new AtomicLong());
+        cache.get(filePath1, StandardCharsets.UTF_8, new AtomicLong());
+        cache.get(filePath3, StandardCharsets.UTF_8, new AtomicLong());
+
+        final int FILES_COUNT = 2;
+
+        assertEquals(FILES_COUNT, cache.count());
+        assertEquals(INDEX_BYTES * FILES_COUNT, cache.getCachedBytes());
+        assertSame(sourceFile1, cache.get(filePath1, StandardCharsets.UTF_8, new AtomicLong()));
+    }
+
+    @Test
+    public void test_Get_TooLarge() throws IOException {
+        var cache = new SourceFileCache(INDEX_BYTES - 1);
+        var sourceFile = cache.get(createFile("large.java", CONTENT), StandardCharsets.UTF_8, new AtomicLong());
+
+        assertEquals(LINES_COUNT, sourceFile.getLinesCount());
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.getCachedBytes());
+    }
+
+    @Test
+    public void test_Get_Exception_FileNotFound() {
+        var filePath = new File(temporaryFolder.getRoot(), "none.java").getPath();
+
+        assertThrows(FileNotFoundException.class,
+                () -> new SourceFileCache(MAX_CACHED_BYTES).get(filePath, StandardCharsets.UTF_8, new AtomicLong()));
+    }
+
+    @Test
+    public void test_IsSupported() {
+        assertTrue(SourceFile.isSupported(StandardCharsets.UTF_8));
+        assertTrue(SourceFile.isSupported(Charset.forName("windows-1252")));
+        assertFalse(SourceFile.isSupported(StandardCharsets.UTF_16));
+        assertFalse(SourceFile.isSupported(null));
+    }
+
+    private String createFile(String name, String content) throws IOException {
+        var file = temporaryFolder.newFile(name);
+
+        Files.writeString(file.toPath(), content);
+        return file.getPath();
+    }
+
+    private static ArrayList<LinePreview> getArrayList(Iterable<LinePreview> linePreviews) {
+        var list = new ArrayList<LinePreview>();
+
+        for (LinePreview linePreview : linePreviews) {
+            list.add(linePreview);
+        }
+
+        return list;
+    }
+}